@@ -0,0 +1,54 @@
+#!/usr/bin/env bash
+#
+# Compares cold-start time of the default build against the aot-cds profile.
+# Each run starts the application up to the end of context refresh and exits,
+# so no MongoDB instance is required.
+#
+# Usage: scripts/startup-benchmark.sh [runs]
+
+set -euo pipefail
+
+RUNS="${1:-10}"
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+WORK="$ROOT/target/startup-benchmark"
+JAR="spring-boot-manga-library-0.0.1-SNAPSHOT.jar"
+JAVA="${JAVA_HOME:+$JAVA_HOME/bin/}java"
+COMMON_OPTS=(-Dspring.context.exit=onRefresh -Dspring.data.mongodb.database=manga_library)
+
+cd "$ROOT"
+rm -rf "$WORK"
+mkdir -p "$WORK/default" "$WORK/extracted"
+
+echo "Building default jar..."
+./mvnw -q -DskipTests package
+cp "target/$JAR" "$WORK/default/"
+"$JAVA" -Djarmode=tools -jar "$WORK/default/$JAR" extract --destination "$WORK/extracted" --force > /dev/null
+
+echo "Building aot-cds profile..."
+./mvnw -q -DskipTests -Paot-cds package
+cp -r target/cds "$WORK/aot-cds"
+
+measure() {
+    local name="$1"
+    local dir="$2"
+    shift 2
+    local total=0 min=0 max=0
+    for ((i = 1; i <= RUNS; i++)); do
+        local start end elapsed
+        start=$(date +%s%N)
+        (cd "$dir" && "$JAVA" "$@" "${COMMON_OPTS[@]}" -jar "$JAR" > /dev/null 2>&1)
+        end=$(date +%s%N)
+        elapsed=$(((end - start) / 1000000))
+        total=$((total + elapsed))
+        if ((min == 0 || elapsed < min)); then min=$elapsed; fi
+        if ((elapsed > max)); then max=$elapsed; fi
+    done
+    printf "%-28s avg %6d ms   min %6d ms   max %6d ms\n" "$name" $((total / RUNS)) "$min" "$max"
+}
+
+echo
+echo "Startup to context refresh over $RUNS runs:"
+measure "fat jar" "$WORK/default"
+measure "extracted" "$WORK/extracted"
+measure "extracted + AOT" "$WORK/aot-cds" -Dspring.aot.enabled=true
+measure "extracted + AOT + CDS" "$WORK/aot-cds" -Dspring.aot.enabled=true -XX:SharedArchiveFile=application.jsa
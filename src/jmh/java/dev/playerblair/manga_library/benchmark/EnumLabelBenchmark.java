@@ -0,0 +1,73 @@
+package dev.playerblair.manga_library.benchmark;
+
+import dev.playerblair.manga_library.model.Genre;
+import dev.playerblair.manga_library.model.ProgressType;
+import dev.playerblair.manga_library.model.Status;
+import dev.playerblair.manga_library.model.Type;
+import dev.playerblair.manga_library.util.UnknownLabelPolicy;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EnumLabelBenchmark {
+
+    private String[] genreLabels;
+    private String[] statusLabels;
+    private String[] typeLabels;
+    private String[] progressLabels;
+    private String[] genreNames;
+    private String[] jikanGenreLabels;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        genreLabels = Arrays.stream(Genre.values()).map(Genre::getLabel).toArray(String[]::new);
+        statusLabels = Arrays.stream(Status.values()).map(Status::getLabel).toArray(String[]::new);
+        typeLabels = Arrays.stream(Type.values()).map(Type::getLabel).toArray(String[]::new);
+        progressLabels = Arrays.stream(ProgressType.values()).map(ProgressType::getLabel).toArray(String[]::new);
+        genreNames = Arrays.stream(Genre.values()).map(Genre::name).toArray(String[]::new);
+        jikanGenreLabels = new String[]{"Action", "Isekai", "Romance", "Reincarnation", "Drama", "Ecchi"};
+    }
+
+    @Benchmark
+    public Genre genreFromLabel() {
+        return Genre.fromLabel(genreLabels[index(genreLabels.length)]);
+    }
+
+    @Benchmark
+    public Status statusFromLabel() {
+        return Status.fromLabel(statusLabels[index(statusLabels.length)]);
+    }
+
+    @Benchmark
+    public Type typeFromLabel() {
+        return Type.fromLabel(typeLabels[index(typeLabels.length)]);
+    }
+
+    @Benchmark
+    public ProgressType progressTypeFromLabel() {
+        return ProgressType.fromLabel(progressLabels[index(progressLabels.length)]);
+    }
+
+    @Benchmark
+    public Genre genreFromStoredName() {
+        return Genre.labels().decodeName(genreNames[index(genreNames.length)], UnknownLabelPolicy.UNKNOWN);
+    }
+
+    @Benchmark
+    public Genre genreFromJikanLabelWithUnknowns() {
+        return Genre.labels().decodeLabel(jikanGenreLabels[index(jikanGenreLabels.length)], UnknownLabelPolicy.UNKNOWN);
+    }
+
+    private int index(int length) {
+        next = (next + 1) % length;
+        return next;
+    }
+}
@@ -0,0 +1,37 @@
+package dev.playerblair.manga_library.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.playerblair.manga_library.util.EnumLabelModule;
+import dev.playerblair.manga_library.util.UnknownLabelPolicy;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+public final class JikanFixtures {
+
+    public static final String SEARCH_PAGE = "/jikan/search-page.json";
+    public static final String MANGA_DETAIL = "/jikan/manga-detail.json";
+
+    private JikanFixtures() {
+    }
+
+    // built the way ClientConfig builds the Jikan client's mapper, so unknown labels in the fixtures decode the same
+    public static ObjectMapper jikanObjectMapper(UnknownLabelPolicy policy) {
+        return Jackson2ObjectMapperBuilder.json().build()
+                .copy()
+                .registerModule(new EnumLabelModule(policy));
+    }
+
+    public static byte[] load(String fixture) {
+        try (InputStream input = JikanFixtures.class.getResourceAsStream(fixture)) {
+            if (input == null) {
+                throw new IllegalArgumentException("Unknown fixture: " + fixture);
+            }
+            return input.readAllBytes();
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package dev.playerblair.manga_library.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.playerblair.manga_library.response.JikanResponse;
+import dev.playerblair.manga_library.response.JikanSearchResponse;
+import dev.playerblair.manga_library.util.UnknownLabelPolicy;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JikanPayloadBenchmark {
+
+    private ObjectMapper objectMapper;
+    private byte[] searchPage;
+    private byte[] mangaDetail;
+
+    @Setup
+    public void setUp() {
+        objectMapper = JikanFixtures.jikanObjectMapper(UnknownLabelPolicy.UNKNOWN);
+        searchPage = JikanFixtures.load(JikanFixtures.SEARCH_PAGE);
+        mangaDetail = JikanFixtures.load(JikanFixtures.MANGA_DETAIL);
+    }
+
+    @Benchmark
+    public JikanSearchResponse parseSearchPage() throws IOException {
+        return objectMapper.readValue(searchPage, JikanSearchResponse.class);
+    }
+
+    @Benchmark
+    public JikanResponse parseMangaDetail() throws IOException {
+        return objectMapper.readValue(mangaDetail, JikanResponse.class);
+    }
+}
@@ -0,0 +1,112 @@
+package dev.playerblair.manga_library.benchmark;
+
+import dev.playerblair.manga_library.model.Manga;
+import dev.playerblair.manga_library.repository.codec.EnumStorageConversions;
+import dev.playerblair.manga_library.repository.codec.MangaCodecProvider;
+import dev.playerblair.manga_library.util.EnumStorageFormat;
+import dev.playerblair.manga_library.util.UnknownLabelPolicy;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonBinaryWriter;
+import org.bson.Document;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.DocumentCodec;
+import org.bson.codecs.EncoderContext;
+import org.bson.io.BasicOutputBuffer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Thread)
+public class MangaCodecBenchmark {
+
+    private static final long SEED = 42;
+    private static final DecoderContext DECODER_CONTEXT = DecoderContext.builder().build();
+    private static final EncoderContext ENCODER_CONTEXT = EncoderContext.builder().build();
+
+    @Param({"10000", "100000"})
+    public int resultSize;
+
+    @Param({"NAMES", "CODES"})
+    public EnumStorageFormat storageFormat;
+
+    private Codec<Manga> mangaCodec;
+    private DocumentCodec documentCodec;
+    private MappingMongoConverter converter;
+    private List<Manga> library;
+    private List<byte[]> encoded;
+
+    @Setup
+    public void setUp() {
+        mangaCodec = new MangaCodecProvider(UnknownLabelPolicy.UNKNOWN, storageFormat).get(Manga.class, null);
+        documentCodec = new DocumentCodec();
+        converter = converter(storageFormat);
+        library = SyntheticLibrary.generate(resultSize, SEED);
+        encoded = new ArrayList<>(resultSize);
+        for (Manga manga : library) {
+            BasicOutputBuffer buffer = new BasicOutputBuffer();
+            mangaCodec.encode(new BsonBinaryWriter(buffer), manga, ENCODER_CONTEXT);
+            encoded.add(buffer.toByteArray());
+        }
+    }
+
+    @Benchmark
+    public void decodeWithCodec(Blackhole blackhole) {
+        for (byte[] bytes : encoded) {
+            blackhole.consume(mangaCodec.decode(new BsonBinaryReader(ByteBuffer.wrap(bytes)), DECODER_CONTEXT));
+        }
+    }
+
+    @Benchmark
+    public void decodeWithConverter(Blackhole blackhole) {
+        for (byte[] bytes : encoded) {
+            Document document = documentCodec.decode(new BsonBinaryReader(ByteBuffer.wrap(bytes)), DECODER_CONTEXT);
+            blackhole.consume(converter.read(Manga.class, document));
+        }
+    }
+
+    @Benchmark
+    public void encodeWithCodec(Blackhole blackhole) {
+        for (Manga manga : library) {
+            BasicOutputBuffer buffer = new BasicOutputBuffer();
+            mangaCodec.encode(new BsonBinaryWriter(buffer), manga, ENCODER_CONTEXT);
+            blackhole.consume(buffer.getPosition());
+        }
+    }
+
+    @Benchmark
+    public void encodeWithConverter(Blackhole blackhole) {
+        for (Manga manga : library) {
+            Document document = new Document();
+            converter.write(manga, document);
+            BasicOutputBuffer buffer = new BasicOutputBuffer();
+            documentCodec.encode(new BsonBinaryWriter(buffer), document, ENCODER_CONTEXT);
+            blackhole.consume(buffer.getPosition());
+        }
+    }
+
+    private static MappingMongoConverter converter(EnumStorageFormat storageFormat) {
+        MongoCustomConversions conversions = EnumStorageConversions.customConversions(UnknownLabelPolicy.UNKNOWN, storageFormat);
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        mappingContext.afterPropertiesSet();
+
+        MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+        return converter;
+    }
+}
@@ -0,0 +1,47 @@
+package dev.playerblair.manga_library.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.playerblair.manga_library.model.Manga;
+import dev.playerblair.manga_library.response.JikanSearchResponse;
+import dev.playerblair.manga_library.response.MangaResponse;
+import dev.playerblair.manga_library.util.MangaMapper;
+import dev.playerblair.manga_library.util.UnknownLabelPolicy;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MangaMapperBenchmark {
+
+    private List<MangaResponse> responses;
+    private List<Manga> stored;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = JikanFixtures.jikanObjectMapper(UnknownLabelPolicy.UNKNOWN);
+        responses = objectMapper.readValue(JikanFixtures.load(JikanFixtures.SEARCH_PAGE), JikanSearchResponse.class).data();
+        stored = responses.stream().map(response -> MangaMapper.toManga(response, UnknownLabelPolicy.UNKNOWN)).toList();
+    }
+
+    @Benchmark
+    public void toManga(Blackhole blackhole) {
+        for (MangaResponse response : responses) {
+            blackhole.consume(MangaMapper.toManga(response, UnknownLabelPolicy.UNKNOWN));
+        }
+    }
+
+    @Benchmark
+    public void updateManga(Blackhole blackhole) {
+        for (int i = 0; i < responses.size(); i++) {
+            blackhole.consume(MangaMapper.updateManga(responses.get(i), stored.get(i), UnknownLabelPolicy.UNKNOWN));
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package dev.playerblair.manga_library.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import dev.playerblair.manga_library.model.Manga;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PayloadEncodingBenchmark {
+
+    private static final TypeReference<List<Manga>> LIBRARY = new TypeReference<>() {
+    };
+
+    public enum Format {
+        JSON, CBOR, SMILE;
+
+        private ObjectMapper objectMapper() {
+            return switch (this) {
+                case JSON -> Jackson2ObjectMapperBuilder.json().build();
+                case CBOR -> Jackson2ObjectMapperBuilder.cbor().build();
+                case SMILE -> Jackson2ObjectMapperBuilder.smile()
+                        .factory(SmileFactory.builder().enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES).build())
+                        .build();
+            };
+        }
+    }
+
+    @Param({"JSON", "CBOR", "SMILE"})
+    public Format format;
+
+    @Param({"10000"})
+    public int librarySize;
+
+    private ObjectMapper objectMapper;
+    private List<Manga> library;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = format.objectMapper();
+        library = SyntheticLibrary.generate(librarySize, 42);
+        payload = objectMapper.writeValueAsBytes(library);
+        System.out.printf("%n%s payload of %,d titles: %,d bytes, %,d bytes gzipped%n",
+                format, librarySize, payload.length, gzip(payload).length);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return objectMapper.writeValueAsBytes(library);
+    }
+
+    @Benchmark
+    public byte[] serializeGzipped() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            objectMapper.writeValue(gzip, library);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Benchmark
+    public List<Manga> deserialize() throws IOException {
+        return objectMapper.readValue(payload, LIBRARY);
+    }
+
+    private static byte[] gzip(byte[] payload) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(payload);
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -0,0 +1,154 @@
+package dev.playerblair.manga_library.benchmark;
+
+import dev.playerblair.manga_library.model.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+public final class SyntheticLibrary {
+
+    private static final String[] WORDS = {
+            "the", "a", "young", "hero", "village", "sword", "academy", "demon", "lord", "journey", "secret",
+            "kingdom", "love", "rival", "tournament", "ancient", "power", "friendship", "war", "memory", "city",
+            "school", "detective", "dragon", "summer", "festival", "mystery", "destiny", "curse", "ghost", "after",
+            "years", "world", "begins", "when", "his", "her", "their", "only", "must", "find", "family", "night"
+    };
+    private static final String[] GIVEN_NAMES = {
+            "Hiro", "Akira", "Yuki", "Kenji", "Naoko", "Rumiko", "Takeshi", "Eiichiro", "Kentaro", "Hajime",
+            "Tatsuki", "Sui", "Chica", "Yoshihiro", "Makoto", "Ai", "Rin", "Sora", "Daisuke", "Mei"
+    };
+    private static final String[] FAMILY_NAMES = {
+            "Araki", "Oda", "Miura", "Isayama", "Akutami", "Fujimoto", "Ishida", "Umino", "Togashi", "Yukimura",
+            "Takahashi", "Urasawa", "Kishimoto", "Inoue", "Mashima", "Arakawa", "Kubo", "Horikoshi", "Endo", "Tite"
+    };
+
+    private static final Weighted<Genre> GENRES = new Weighted<>(Genre.values(), new int[]{
+            // ACTION, ADVENTURE, AVANT_GARDE, AWARD_WINNING, BOYS_LOVE, COMEDY, DRAMA, FANTASY, GIRLS_LOVE,
+            // GOURMET, HORROR, MYSTERY, ROMANCE, SCI_FI, SLICE_OF_LIFE, SPORTS, SUPERNATURAL, SUSPENSE, UNKNOWN
+            220, 120, 3, 10, 25, 200, 170, 160, 12, 8, 30, 45, 190, 40, 90, 25, 80, 20, 0
+    });
+    private static final Weighted<Status> STATUSES = new Weighted<>(Status.values(), new int[]{25, 60, 7, 5, 3, 0});
+    private static final Weighted<Type> TYPES = new Weighted<>(Type.values(), new int[]{60, 12, 6, 7, 2, 10, 3, 0});
+    private static final Weighted<ProgressType> PROGRESS = new Weighted<>(ProgressType.values(), new int[]{35, 25, 25, 8, 7});
+
+    private SyntheticLibrary() {
+    }
+
+    public static List<Manga> generate(int size, long seed) {
+        return stream(size, seed).toList();
+    }
+
+    public static Stream<Manga> stream(long size, long seed) {
+        Random random = new Random(seed);
+        return LongStream.rangeClosed(1, size).mapToObj(malId -> manga(malId, random));
+    }
+
+    private static Manga manga(long malId, Random random) {
+        Status status = STATUSES.pick(random);
+        int chapters = status == Status.UPCOMING ? 0 : 1 + (int) Math.min(1200, Math.abs(random.nextGaussian() * 120));
+        int volumes = chapters == 0 ? 0 : Math.max(1, chapters / 9);
+        ProgressType progress = PROGRESS.pick(random);
+        int chaptersRead = switch (progress) {
+            case PLANNING -> 0;
+            case FINISHED -> chapters;
+            default -> random.nextInt(chapters + 1);
+        };
+        return new Manga(
+                malId,
+                capitalize(sentence(random, 1 + random.nextInt(6))),
+                TYPES.pick(random),
+                chapters,
+                volumes,
+                status,
+                synopsis(random),
+                authors(random),
+                genres(random),
+                "https://myanimelist.net/manga/" + malId,
+                new UserProgress(progress, chaptersRead, chaptersRead / 9, progress == ProgressType.PLANNING ? 0 : random.nextInt(11))
+        );
+    }
+
+    private static List<Author> authors(Random random) {
+        int count = random.nextInt(4) == 0 ? 2 : 1;
+        List<Author> authors = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int id = (int) (GIVEN_NAMES.length * FAMILY_NAMES.length * Math.pow(random.nextDouble(), 3));
+            String name = FAMILY_NAMES[id % FAMILY_NAMES.length] + ", " + GIVEN_NAMES[id / FAMILY_NAMES.length];
+            authors.add(new Author(name, "https://myanimelist.net/people/" + id));
+        }
+        return authors;
+    }
+
+    private static List<Genre> genres(Random random) {
+        int count = 1 + random.nextInt(4);
+        List<Genre> picked = new ArrayList<>(count);
+        while (picked.size() < count) {
+            Genre genre = GENRES.pick(random);
+            if (!picked.contains(genre)) {
+                picked.add(genre);
+            }
+        }
+        return picked;
+    }
+
+    private static String synopsis(Random random) {
+        StringBuilder synopsis = new StringBuilder();
+        int sentences = 4 + random.nextInt(10);
+        for (int i = 0; i < sentences; i++) {
+            synopsis.append(capitalize(sentence(random, 8 + random.nextInt(16)))).append(". ");
+        }
+        return synopsis.toString().trim();
+    }
+
+    private static String sentence(Random random, int words) {
+        StringBuilder sentence = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                sentence.append(' ');
+            }
+            sentence.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return sentence.toString();
+    }
+
+    private static String capitalize(String text) {
+        return Character.toUpperCase(text.charAt(0)) + text.substring(1);
+    }
+
+    private static final class Weighted<T> {
+
+        private final T[] values;
+        private final int[] cumulative;
+
+        private Weighted(T[] values, int[] weights) {
+            this.values = values;
+            this.cumulative = cumulative(values, weights);
+        }
+
+        private T pick(Random random) {
+            int target = random.nextInt(cumulative[cumulative.length - 1]);
+            for (int i = 0; i < cumulative.length; i++) {
+                if (target < cumulative[i]) {
+                    return values[i];
+                }
+            }
+            throw new IllegalStateException();
+        }
+
+        private static int[] cumulative(Object[] values, int[] weights) {
+            if (values.length != weights.length) {
+                throw new IllegalArgumentException("Expected " + values.length + " weights but got " + weights.length);
+            }
+            int[] cumulative = new int[weights.length];
+            int total = 0;
+            for (int i = 0; i < weights.length; i++) {
+                total += weights[i];
+                cumulative[i] = total;
+            }
+            return cumulative;
+        }
+    }
+}
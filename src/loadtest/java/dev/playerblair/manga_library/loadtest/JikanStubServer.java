@@ -0,0 +1,166 @@
+package dev.playerblair.manga_library.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public final class JikanStubServer implements AutoCloseable {
+
+    private static final Pattern DETAIL_PATH = Pattern.compile("/v4/manga/(\\d+)(/full)?");
+    private static final byte[] RATE_LIMITED = """
+            {"status":429,"type":"RateLimitException","message":"You are being rate-limited.","error":null}"""
+            .getBytes(StandardCharsets.UTF_8);
+    private static final byte[] NOT_FOUND = """
+            {"status":404,"type":"BadResponseException","message":"Resource does not exist","error":null}"""
+            .getBytes(StandardCharsets.UTF_8);
+
+    private final HttpServer server;
+    private final LoadTestSettings.Stub settings;
+    private final List<byte[]> searchPages = new ArrayList<>();
+    private final Map<Long, byte[]> details = new HashMap<>();
+    private final List<Long> malIds = new ArrayList<>();
+    private final LongAdder served = new LongAdder();
+    private final LongAdder throttled = new LongAdder();
+
+    private JikanStubServer(LoadTestSettings.Stub settings, ObjectMapper objectMapper) throws IOException {
+        this.settings = settings;
+        loadFixtures(objectMapper);
+        server = HttpServer.create(new InetSocketAddress("localhost", settings.port()), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/v4/manga", this::handle);
+    }
+
+    public static JikanStubServer start(LoadTestSettings.Stub settings, ObjectMapper objectMapper) throws IOException {
+        JikanStubServer stub = new JikanStubServer(settings, objectMapper);
+        stub.server.start();
+        return stub;
+    }
+
+    public String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    public List<Long> malIds() {
+        return malIds;
+    }
+
+    public long served() {
+        return served.sum();
+    }
+
+    public long throttled() {
+        return throttled.sum();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            delay();
+            if (ThreadLocalRandom.current().nextDouble() < settings.throttleRate()) {
+                throttled.increment();
+                if (settings.retryAfterSeconds() > 0) {
+                    exchange.getResponseHeaders().set("Retry-After", String.valueOf(settings.retryAfterSeconds()));
+                }
+                respond(exchange, 429, RATE_LIMITED);
+                return;
+            }
+
+            served.increment();
+            String path = exchange.getRequestURI().getPath();
+            if (path.equals("/v4/manga") || path.equals("/v4/manga/")) {
+                int page = Math.clamp(queryInt(exchange, "page", 1), 1, searchPages.size());
+                respond(exchange, 200, searchPages.get(page - 1));
+                return;
+            }
+
+            Matcher detail = DETAIL_PATH.matcher(path);
+            byte[] body = detail.matches() ? details.get(Long.parseLong(detail.group(1))) : null;
+            respond(exchange, body == null ? 404 : 200, body == null ? NOT_FOUND : body);
+        }
+    }
+
+    private void delay() {
+        long latency = settings.latency().toMillis();
+        long jitter = settings.jitter().toMillis();
+        long millis = latency + (jitter > 0 ? ThreadLocalRandom.current().nextLong(-jitter, jitter + 1) : 0);
+        if (millis > 0) {
+            try {
+                Thread.sleep(millis);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void respond(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(body);
+        }
+    }
+
+    private int queryInt(HttpExchange exchange, String name, int defaultValue) {
+        String query = exchange.getRequestURI().getRawQuery();
+        if (query == null) {
+            return defaultValue;
+        }
+        for (String parameter : query.split("&")) {
+            if (parameter.startsWith(name + "=")) {
+                try {
+                    return Integer.parseInt(parameter.substring(name.length() + 1));
+                } catch (NumberFormatException exception) {
+                    return defaultValue;
+                }
+            }
+        }
+        return defaultValue;
+    }
+
+    private void loadFixtures(ObjectMapper objectMapper) throws IOException {
+        JsonNode searchPage = objectMapper.readTree(fixture("/jikan/search-page.json"));
+        for (JsonNode manga : searchPage.get("data")) {
+            long malId = manga.get("mal_id").asLong();
+            malIds.add(malId);
+            details.put(malId, objectMapper.writeValueAsBytes(objectMapper.createObjectNode().set("data", manga)));
+        }
+
+        int lastPage = searchPage.path("pagination").path("last_visible_page").asInt(1);
+        for (int page = 1; page <= lastPage; page++) {
+            ObjectNode pagination = (ObjectNode) searchPage.get("pagination");
+            pagination.put("current_page", page);
+            pagination.put("has_next_page", page < lastPage);
+            searchPages.add(objectMapper.writeValueAsBytes(searchPage));
+        }
+    }
+
+    private static byte[] fixture(String name) {
+        try (InputStream input = JikanStubServer.class.getResourceAsStream(name)) {
+            if (input == null) {
+                throw new IllegalStateException("Missing Jikan fixture " + name);
+            }
+            return input.readAllBytes();
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package dev.playerblair.manga_library.loadtest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+public final class LatencyRecorder {
+
+    private final String operation;
+    private long[] latencies = new long[1024];
+    private int count;
+    private int errors;
+    private final Map<String, Integer> outcomes = new TreeMap<>();
+
+    public LatencyRecorder(String operation) {
+        this.operation = operation;
+    }
+
+    public synchronized void record(long latencyNanos, String outcome, boolean error) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = latencyNanos;
+        if (error) {
+            errors++;
+        }
+        outcomes.merge(outcome, 1, Integer::sum);
+    }
+
+    public synchronized LoadTestReport.OperationSummary summarize(double seconds) {
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        return new LoadTestReport.OperationSummary(
+                operation,
+                count,
+                count / seconds,
+                count == 0 ? 0 : (double) errors / count,
+                percentile(sorted, 0.50),
+                percentile(sorted, 0.90),
+                percentile(sorted, 0.99),
+                percentile(sorted, 0.999),
+                count == 0 ? 0 : sorted[count - 1] / 1_000_000.0,
+                Map.copyOf(outcomes)
+        );
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,153 @@
+package dev.playerblair.manga_library.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import dev.playerblair.manga_library.MangaLibraryApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToEnable(SerializationFeature.INDENT_OUTPUT)
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+
+        try (JikanStubServer stub = JikanStubServer.start(settings.stub(), objectMapper);
+             ConfigurableApplicationContext application = settings.target().isEmpty() ? startApplication(settings, stub) : null) {
+            String target = application == null
+                    ? settings.target()
+                    : "http://localhost:" + application.getEnvironment().getProperty("local.server.port");
+            if (application == null) {
+                System.out.printf("Jikan stub listening on %s; start the application with --jikan.client.base-url=%s%n",
+                        stub.baseUrl(), stub.baseUrl());
+            }
+
+            HttpClient httpClient = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+            Scenario scenario = new Scenario(httpClient, target, stub.malIds(), settings.mix());
+            scenario.seed();
+
+            System.out.printf("Warming up %s for %s at %d req/s%n", target, settings.warmup(), settings.rps());
+            run(scenario, settings, settings.warmup(), null);
+
+            long servedBefore = stub.served();
+            long throttledBefore = stub.throttled();
+            Map<String, LatencyRecorder> recorders = new LinkedHashMap<>();
+            settings.mix().keySet().forEach(operation -> recorders.put(operation, new LatencyRecorder(operation)));
+            Instant startedAt = Instant.now();
+            System.out.printf("Measuring for %s%n", settings.duration());
+            long dropped = run(scenario, settings, settings.duration(), recorders);
+
+            double seconds = settings.duration().toMillis() / 1000.0;
+            LoadTestReport report = new LoadTestReport(
+                    startedAt,
+                    settings.rps(),
+                    seconds,
+                    dropped,
+                    recorders.values().stream().map(recorder -> recorder.summarize(seconds)).toList(),
+                    new LoadTestReport.StubSummary(stub.served() - servedBefore, stub.throttled() - throttledBefore)
+            );
+            report.print(System.out);
+            write(report, settings.reportDirectory(), objectMapper);
+            scenario.cleanUp();
+        }
+    }
+
+    private static long run(Scenario scenario, LoadTestSettings settings, Duration duration,
+                            Map<String, LatencyRecorder> recorders) throws InterruptedException {
+        long interval = TimeUnit.SECONDS.toNanos(1) / settings.rps();
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        Semaphore inFlight = new Semaphore(settings.maxInFlight());
+        LongAdder dropped = new LongAdder();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long intended = start; intended < end; intended += interval) {
+                long wait = intended - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                if (!inFlight.tryAcquire()) {
+                    dropped.increment();
+                    continue;
+                }
+
+                Scenario.Operation operation = scenario.next();
+                long scheduledAt = intended;
+                executor.execute(() -> {
+                    try {
+                        execute(scenario, operation, scheduledAt, recorders);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+        return dropped.sum();
+    }
+
+    private static void execute(Scenario scenario, Scenario.Operation operation, long scheduledAt,
+                                Map<String, LatencyRecorder> recorders) {
+        String outcome;
+        boolean error;
+        try {
+            HttpResponse<Void> response = scenario.send(operation.request().get());
+            outcome = String.valueOf(response.statusCode());
+            error = response.statusCode() >= 400;
+        } catch (IOException exception) {
+            outcome = exception.getClass().getSimpleName();
+            error = true;
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        if (recorders != null) {
+            recorders.get(operation.name()).record(System.nanoTime() - scheduledAt, outcome, error);
+        }
+    }
+
+    private static ConfigurableApplicationContext startApplication(LoadTestSettings settings, JikanStubServer stub) {
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        return new SpringApplicationBuilder(MangaLibraryApplication.class).run(
+                "--server.port=0",
+                "--jikan.client.base-url=" + stub.baseUrl(),
+                "--manga.catalog.local-search=false",
+                "--manga.tenant.request-quota.limit=" + Integer.MAX_VALUE,
+                "--manga.library-search.index-path=" + settings.reportDirectory().resolve("library-index"),
+                "--logging.level.root=WARN"
+        );
+    }
+
+    private static void write(LoadTestReport report, Path directory, ObjectMapper objectMapper) throws IOException {
+        Files.createDirectories(directory);
+        Path file = directory.resolve("report-" + report.startedAt().toEpochMilli() + ".json");
+        objectMapper.writeValue(file.toFile(), report);
+        System.out.printf("Report written to %s%n", file);
+    }
+}
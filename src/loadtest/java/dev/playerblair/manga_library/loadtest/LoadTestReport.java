@@ -0,0 +1,58 @@
+package dev.playerblair.manga_library.loadtest;
+
+import java.io.PrintStream;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+public record LoadTestReport(
+        Instant startedAt,
+        int targetRps,
+        double durationSeconds,
+        long dropped,
+        List<OperationSummary> operations,
+        StubSummary stub
+) {
+
+    public record OperationSummary(
+            String operation,
+            int requests,
+            double throughput,
+            double errorRate,
+            double p50Millis,
+            double p90Millis,
+            double p99Millis,
+            double p999Millis,
+            double maxMillis,
+            Map<String, Integer> outcomes
+    ) {
+    }
+
+    public record StubSummary(
+            long served,
+            long throttled
+    ) {
+    }
+
+    public void print(PrintStream out) {
+        out.printf("%nTarget %d req/s for %.0fs, %d request(s) dropped by the client%n", targetRps, durationSeconds, dropped);
+        out.printf("%-10s %8s %9s %7s %9s %9s %9s %9s %9s  %s%n",
+                "operation", "requests", "req/s", "errors", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "outcomes");
+        for (OperationSummary operation : operations) {
+            out.printf("%-10s %8d %9.1f %6.2f%% %9.1f %9.1f %9.1f %9.1f %9.1f  %s%n",
+                    operation.operation(),
+                    operation.requests(),
+                    operation.throughput(),
+                    operation.errorRate() * 100,
+                    operation.p50Millis(),
+                    operation.p90Millis(),
+                    operation.p99Millis(),
+                    operation.p999Millis(),
+                    operation.maxMillis(),
+                    operation.outcomes());
+        }
+        if (stub != null) {
+            out.printf("Jikan stub: %d response(s) served, %d throttled with 429%n", stub.served(), stub.throttled());
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package dev.playerblair.manga_library.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public record LoadTestSettings(
+        String target,
+        int rps,
+        Duration duration,
+        Duration warmup,
+        int maxInFlight,
+        Map<String, Integer> mix,
+        Path reportDirectory,
+        Stub stub
+) {
+
+    public record Stub(
+            int port,
+            Duration latency,
+            Duration jitter,
+            double throttleRate,
+            int retryAfterSeconds
+    ) {
+    }
+
+    public static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                property("loadtest.target", ""),
+                Integer.parseInt(property("loadtest.rps", "50")),
+                Duration.parse(property("loadtest.duration", "PT60S")),
+                Duration.parse(property("loadtest.warmup", "PT10S")),
+                Integer.parseInt(property("loadtest.max-in-flight", "500")),
+                parseMix(property("loadtest.mix", "search=20,get=25,list=10,progress=20,refresh=15,add=10")),
+                Path.of(property("loadtest.report-dir", "target/loadtest")),
+                new Stub(
+                        Integer.parseInt(property("loadtest.stub.port", "0")),
+                        Duration.parse(property("loadtest.stub.latency", "PT0.15S")),
+                        Duration.parse(property("loadtest.stub.jitter", "PT0.1S")),
+                        Double.parseDouble(property("loadtest.stub.throttle-rate", "0.02")),
+                        Integer.parseInt(property("loadtest.stub.retry-after", "1"))
+                )
+        );
+    }
+
+    private static Map<String, Integer> parseMix(String mix) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String entry : mix.split(",")) {
+            String[] weight = entry.trim().split("=");
+            if (weight.length != 2) {
+                throw new IllegalArgumentException("Invalid loadtest.mix entry: " + entry);
+            }
+            weights.put(weight[0].trim(), Integer.parseInt(weight[1].trim()));
+        }
+        return weights;
+    }
+
+    private static String property(String name, String defaultValue) {
+        String value = System.getProperty(name);
+        return value == null || value.isBlank() ? defaultValue : value.trim();
+    }
+}
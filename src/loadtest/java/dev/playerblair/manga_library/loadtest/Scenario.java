@@ -0,0 +1,112 @@
+package dev.playerblair.manga_library.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+public final class Scenario {
+
+    public static final String TENANT = "loadtest";
+
+    private static final String[] QUERIES = {"dragon", "academy", "detective", "summer", "kingdom", "ghost", "sword"};
+
+    private final HttpClient httpClient;
+    private final String target;
+    private final List<Long> malIds;
+    private final List<Operation> operations = new ArrayList<>();
+    private final int totalWeight;
+    private volatile String continuationToken;
+
+    public record Operation(String name, Supplier<HttpRequest> request) {
+    }
+
+    public Scenario(HttpClient httpClient, String target, List<Long> malIds, Map<String, Integer> mix) {
+        this.httpClient = httpClient;
+        this.target = target;
+        this.malIds = malIds;
+        int weights = 0;
+        for (Map.Entry<String, Integer> weight : mix.entrySet()) {
+            Operation operation = operation(weight.getKey());
+            for (int i = 0; i < weight.getValue(); i++) {
+                operations.add(operation);
+            }
+            weights += weight.getValue();
+        }
+        if (weights == 0) {
+            throw new IllegalArgumentException("loadtest.mix must give at least one operation a positive weight");
+        }
+        this.totalWeight = weights;
+    }
+
+    public Operation next() {
+        return operations.get(ThreadLocalRandom.current().nextInt(totalWeight));
+    }
+
+    public void seed() throws IOException, InterruptedException {
+        HttpResponse<String> search = httpClient.send(search(), HttpResponse.BodyHandlers.ofString());
+        continuationToken = search.headers().firstValue("X-Continuation-Token")
+                .orElseThrow(() -> new IllegalStateException(String.format(
+                        "Seed search failed with status %d: %s", search.statusCode(), search.body())));
+        for (Long malId : malIds) {
+            send(add(malId));
+        }
+    }
+
+    public void cleanUp() throws IOException, InterruptedException {
+        for (Long malId : malIds) {
+            send(request("/api/manga/" + malId).DELETE().build());
+        }
+    }
+
+    public HttpResponse<Void> send(HttpRequest request) throws IOException, InterruptedException {
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+    }
+
+    private Operation operation(String name) {
+        return switch (name) {
+            case "search" -> new Operation(name, this::search);
+            case "get" -> new Operation(name, () -> request("/api/manga/" + randomMalId()).GET().build());
+            case "list" -> new Operation(name, () -> request("/api/manga").GET().build());
+            case "progress" -> new Operation(name, () -> request("/api/manga/" + randomMalId() + "/progress")
+                    .header("Content-Type", "application/json")
+                    .method("PATCH", HttpRequest.BodyPublishers.ofString(String.format(
+                            "{\"progress\":\"Reading\",\"chaptersRead\":0,\"volumesRead\":0,\"rating\":%d}",
+                            ThreadLocalRandom.current().nextInt(11))))
+                    .build());
+            case "refresh" -> new Operation(name, () -> request("/api/manga/" + randomMalId() + "/refresh")
+                    .method("PATCH", HttpRequest.BodyPublishers.noBody())
+                    .build());
+            case "add" -> new Operation(name, () -> add(randomMalId()));
+            default -> throw new IllegalArgumentException("Unknown load test operation: " + name);
+        };
+    }
+
+    private HttpRequest search() {
+        String query = QUERIES[ThreadLocalRandom.current().nextInt(QUERIES.length)];
+        return request("/api/manga/search?query=" + URLEncoder.encode(query, StandardCharsets.UTF_8)).GET().build();
+    }
+
+    private HttpRequest add(Long malId) {
+        String token = continuationToken == null ? "" : "&token=" + URLEncoder.encode(continuationToken, StandardCharsets.UTF_8);
+        return request("/api/manga?malId=" + malId + token)
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build();
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(target + path)).header("X-Tenant-Id", TENANT);
+    }
+
+    private Long randomMalId() {
+        return malIds.get(ThreadLocalRandom.current().nextInt(malIds.size()));
+    }
+}
@@ -0,0 +1,81 @@
+package dev.playerblair.manga_library.client;
+
+import dev.playerblair.manga_library.exception.JikanUnavailableException;
+import dev.playerblair.manga_library.monitoring.JikanCallEvent;
+import dev.playerblair.manga_library.response.JikanResponse;
+import dev.playerblair.manga_library.response.JikanSearchResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientResponseException;
+
+import java.util.function.Supplier;
+
+public class InstrumentedJikanClient implements JikanClient {
+
+    private static final String SEARCH = "search";
+    private static final String DETAIL = "detail";
+
+    private final JikanClient delegate;
+    private final MeterRegistry meterRegistry;
+
+    public InstrumentedJikanClient(JikanClient delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public JikanSearchResponse searchManga(String query) {
+        return execute(SEARCH, 0, length(query), () -> delegate.searchManga(query));
+    }
+
+    @Override
+    public JikanSearchResponse searchManga(String query, int page) {
+        return execute(SEARCH, 0, length(query), () -> delegate.searchManga(query, page));
+    }
+
+    @Override
+    public JikanResponse getManga(Long malId) {
+        return execute(DETAIL, malId, 0, () -> delegate.getManga(malId));
+    }
+
+    private <T> T execute(String operation, long malId, int queryLength, Supplier<T> call) {
+        JikanCallEvent event = JikanCallEvent.start();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            T response = call.get();
+            stop(event, sample, operation, malId, queryLength, "success", "200");
+            return response;
+        } catch (RestClientResponseException exception) {
+            int status = exception.getStatusCode().value();
+            stop(event, sample, operation, malId, queryLength,
+                    exception.getStatusCode().is4xxClientError() ? "client_error" : "server_error",
+                    Integer.toString(status));
+            throw exception;
+        } catch (ResourceAccessException exception) {
+            stop(event, sample, operation, malId, queryLength, "io_error", "none");
+            throw exception;
+        } catch (JikanUnavailableException exception) {
+            stop(event, sample, operation, malId, queryLength, "unavailable", "none");
+            throw exception;
+        } catch (RuntimeException exception) {
+            stop(event, sample, operation, malId, queryLength, "error", "none");
+            throw exception;
+        }
+    }
+
+    private static int length(String query) {
+        return query == null ? 0 : query.length();
+    }
+
+    private void stop(JikanCallEvent event, Timer.Sample sample, String operation, long malId, int queryLength,
+                      String outcome, String status) {
+        event.complete(operation, malId, queryLength, outcome, status);
+        sample.stop(Timer.builder("jikan.client.requests")
+                .description("Jikan API calls including retries and rejections")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .tag("status", status)
+                .register(meterRegistry));
+    }
+}
@@ -0,0 +1,65 @@
+package dev.playerblair.manga_library.client;
+
+import dev.playerblair.manga_library.exception.JikanUnavailableException;
+import dev.playerblair.manga_library.response.JikanResponse;
+import dev.playerblair.manga_library.response.JikanSearchResponse;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.function.Supplier;
+
+public class ResilientJikanClient implements JikanClient {
+
+    private final JikanClient delegate;
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final Counter circuitOpenRejections;
+    private final Counter bulkheadFullRejections;
+
+    public ResilientJikanClient(JikanClient delegate, CircuitBreaker circuitBreaker, Bulkhead bulkhead, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.circuitBreaker = circuitBreaker;
+        this.bulkhead = bulkhead;
+        this.circuitOpenRejections = rejectionCounter(meterRegistry, "circuit_open");
+        this.bulkheadFullRejections = rejectionCounter(meterRegistry, "bulkhead_full");
+    }
+
+    @Override
+    public JikanSearchResponse searchManga(String query) {
+        return execute(() -> delegate.searchManga(query));
+    }
+
+    @Override
+    public JikanSearchResponse searchManga(String query, int page) {
+        return execute(() -> delegate.searchManga(query, page));
+    }
+
+    @Override
+    public JikanResponse getManga(Long malId) {
+        return execute(() -> delegate.getManga(malId));
+    }
+
+    private <T> T execute(Supplier<T> call) {
+        Supplier<T> guarded = Bulkhead.decorateSupplier(bulkhead, CircuitBreaker.decorateSupplier(circuitBreaker, call));
+        try {
+            return guarded.get();
+        } catch (CallNotPermittedException exception) {
+            circuitOpenRejections.increment();
+            throw new JikanUnavailableException(exception);
+        } catch (BulkheadFullException exception) {
+            bulkheadFullRejections.increment();
+            throw new JikanUnavailableException(exception);
+        }
+    }
+
+    private Counter rejectionCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("jikan.client.rejections")
+                .description("Jikan calls rejected without reaching the upstream API")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
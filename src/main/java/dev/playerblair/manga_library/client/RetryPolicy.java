@@ -0,0 +1,20 @@
+package dev.playerblair.manga_library.client;
+
+import java.time.Duration;
+import java.util.random.RandomGenerator;
+
+public record RetryPolicy(
+        int maxAttempts,
+        Duration initialBackoff,
+        Duration maxBackoff,
+        double multiplier,
+        Duration maxRetryAfter
+) {
+
+    public Duration backoff(int attempt, RandomGenerator random) {
+        double exponential = initialBackoff.toMillis() * Math.pow(multiplier, attempt - 1);
+        long ceiling = (long) Math.min(maxBackoff.toMillis(), exponential);
+        long half = ceiling / 2;
+        return Duration.ofMillis(half + random.nextLong(half + 1));
+    }
+}
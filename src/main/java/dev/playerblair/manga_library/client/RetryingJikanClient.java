@@ -0,0 +1,150 @@
+package dev.playerblair.manga_library.client;
+
+import dev.playerblair.manga_library.response.JikanResponse;
+import dev.playerblair.manga_library.response.JikanSearchResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientResponseException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+public class RetryingJikanClient implements JikanClient {
+
+    private static final String SEARCH = "search";
+    private static final String DETAIL = "detail";
+
+    private final JikanClient delegate;
+    private final RetryPolicy policy;
+    private final RetryBudget budget;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    private final Sleeper sleeper;
+
+    public RetryingJikanClient(JikanClient delegate, RetryPolicy policy, RetryBudget budget, MeterRegistry meterRegistry) {
+        this(delegate, policy, budget, meterRegistry, Clock.systemUTC(), Thread::sleep);
+    }
+
+    RetryingJikanClient(JikanClient delegate, RetryPolicy policy, RetryBudget budget, MeterRegistry meterRegistry, Clock clock, Sleeper sleeper) {
+        this.delegate = delegate;
+        this.policy = policy;
+        this.budget = budget;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        this.sleeper = sleeper;
+    }
+
+    @Override
+    public JikanSearchResponse searchManga(String query) {
+        return execute(SEARCH, () -> delegate.searchManga(query));
+    }
+
+    @Override
+    public JikanSearchResponse searchManga(String query, int page) {
+        return execute(SEARCH, () -> delegate.searchManga(query, page));
+    }
+
+    @Override
+    public JikanResponse getManga(Long malId) {
+        return execute(DETAIL, () -> delegate.getManga(malId));
+    }
+
+    private <T> T execute(String operation, Supplier<T> call) {
+        budget.recordAttempt();
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return call.get();
+            } catch (RuntimeException exception) {
+                String reason = retryReason(exception);
+                if (reason == null || attempt >= policy.maxAttempts()) {
+                    throw exception;
+                }
+
+                Duration delay = retryAfter(exception).orElse(null);
+                if (delay == null) {
+                    delay = policy.backoff(attempt, ThreadLocalRandom.current());
+                }
+                if (delay.compareTo(policy.maxRetryAfter()) > 0) {
+                    recordRetry(operation, "retry_after_too_long");
+                    throw exception;
+                }
+
+                if (!budget.tryAcquireRetry()) {
+                    recordRetry(operation, "budget_exhausted");
+                    throw exception;
+                }
+
+                recordRetry(operation, reason);
+                pause(delay, exception);
+            }
+        }
+    }
+
+    private String retryReason(RuntimeException exception) {
+        if (exception instanceof RestClientResponseException responseException) {
+            if (responseException.getStatusCode().isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS)) {
+                return "too_many_requests";
+            }
+            if (exception instanceof HttpServerErrorException) {
+                return "server_error";
+            }
+            return null;
+        }
+        if (exception instanceof ResourceAccessException) {
+            return "io_error";
+        }
+        return null;
+    }
+
+    private Optional<Duration> retryAfter(RuntimeException exception) {
+        if (!(exception instanceof RestClientResponseException responseException)
+                || responseException.getResponseHeaders() == null) {
+            return Optional.empty();
+        }
+
+        String retryAfter = responseException.getResponseHeaders().getFirst(HttpHeaders.RETRY_AFTER);
+        if (retryAfter == null || retryAfter.isBlank()) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(Duration.ofSeconds(Math.max(0, Long.parseLong(retryAfter.trim()))));
+        } catch (NumberFormatException notSeconds) {
+            try {
+                ZonedDateTime retryAt = ZonedDateTime.parse(retryAfter.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+                Duration delay = Duration.between(clock.instant(), retryAt.toInstant());
+                return Optional.of(delay.isNegative() ? Duration.ZERO : delay);
+            } catch (DateTimeParseException notDate) {
+                return Optional.empty();
+            }
+        }
+    }
+
+    private void recordRetry(String operation, String outcome) {
+        meterRegistry.counter("jikan.client.retries", "operation", operation, "outcome", outcome).increment();
+    }
+
+    private void pause(Duration delay, RuntimeException failure) {
+        try {
+            sleeper.sleep(delay);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw failure;
+        }
+    }
+
+    @FunctionalInterface
+    interface Sleeper {
+        void sleep(Duration duration) throws InterruptedException;
+    }
+}
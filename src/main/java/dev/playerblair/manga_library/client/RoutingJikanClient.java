@@ -0,0 +1,30 @@
+package dev.playerblair.manga_library.client;
+
+import dev.playerblair.manga_library.response.JikanResponse;
+import dev.playerblair.manga_library.response.JikanSearchResponse;
+
+public class RoutingJikanClient implements JikanClient {
+
+    private final JikanClient searchClient;
+    private final JikanClient detailClient;
+
+    public RoutingJikanClient(JikanClient searchClient, JikanClient detailClient) {
+        this.searchClient = searchClient;
+        this.detailClient = detailClient;
+    }
+
+    @Override
+    public JikanSearchResponse searchManga(String query) {
+        return searchClient.searchManga(query);
+    }
+
+    @Override
+    public JikanSearchResponse searchManga(String query, int page) {
+        return searchClient.searchManga(query, page);
+    }
+
+    @Override
+    public JikanResponse getManga(Long malId) {
+        return detailClient.getManga(malId);
+    }
+}
@@ -0,0 +1,11 @@
+package dev.playerblair.manga_library.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(CatalogProperties.class)
+public class CatalogConfig {
+}
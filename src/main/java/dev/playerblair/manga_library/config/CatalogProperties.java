@@ -0,0 +1,30 @@
+package dev.playerblair.manga_library.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties("manga.catalog")
+public record CatalogProperties(
+        boolean localSearch,
+        int pageSize,
+        int importBatchSize,
+        Crawl crawl
+) {
+
+    public record Crawl(
+            boolean enabled,
+            int pagesPerRun,
+            int maxPages,
+            Duration interval
+    ) {
+
+        public Crawl {
+            // a run holds its caller and the Jikan rate limit until it finishes, so no run may exceed maxPages
+            if (maxPages < 1 || pagesPerRun < 1 || pagesPerRun > maxPages) {
+                throw new IllegalArgumentException(
+                        "manga.catalog.crawl.pages-per-run must be between 1 and manga.catalog.crawl.max-pages");
+            }
+        }
+    }
+}
@@ -1,19 +1,154 @@
 package dev.playerblair.manga_library.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.playerblair.manga_library.client.InstrumentedJikanClient;
 import dev.playerblair.manga_library.client.JikanClient;
+import dev.playerblair.manga_library.client.ResilientJikanClient;
+import dev.playerblair.manga_library.client.RetryBudget;
+import dev.playerblair.manga_library.client.RetryPolicy;
+import dev.playerblair.manga_library.client.RetryingJikanClient;
+import dev.playerblair.manga_library.client.RoutingJikanClient;
+import dev.playerblair.manga_library.model.*;
+import dev.playerblair.manga_library.request.FilterParams;
+import dev.playerblair.manga_library.response.*;
+import dev.playerblair.manga_library.util.EnumLabelModule;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.netty.channel.Channel;
+import io.netty.util.AttributeKey;
+import io.netty.util.concurrent.ScheduledFuture;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.http.client.ReactorClientHttpRequestFactory;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.client.support.RestClientAdapter;
 import org.springframework.web.service.invoker.HttpServiceProxyFactory;
+import reactor.netty.ConnectionObserver;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
+@EnableConfigurationProperties({JikanClientProperties.class, EnumLabelProperties.class})
+@ImportRuntimeHints(MangaRuntimeHints.class)
+@RegisterReflectionForBinding({
+        JikanResponse.class,
+        JikanSearchResponse.class,
+        MangaResponse.class,
+        Pagination.class,
+        ErrorResponse.class,
+        Manga.class,
+        Author.class,
+        UserProgress.class,
+        CatalogEntry.class,
+        CatalogCrawlState.class,
+        FilterParams.class,
+        Genre.class,
+        ProgressType.class,
+        Status.class,
+        Type.class
+})
 public class ClientConfig {
 
+    private static final String JIKAN_INSTANCE = "jikan";
+    private static final AttributeKey<ScheduledFuture<?>> EXCHANGE_DEADLINE = AttributeKey.valueOf("jikan.exchange.deadline");
+
+    @Bean(destroyMethod = "dispose")
+    ConnectionProvider jikanConnectionProvider(JikanClientProperties properties) {
+        JikanClientProperties.Pool pool = properties.pool();
+        return ConnectionProvider.builder(JIKAN_INSTANCE)
+                .maxConnections(pool.maxConnections())
+                .pendingAcquireMaxCount(pool.maxPendingAcquires())
+                .pendingAcquireTimeout(pool.pendingAcquireTimeout())
+                .maxIdleTime(pool.maxIdleTime())
+                .maxLifeTime(pool.maxLifeTime())
+                .evictInBackground(pool.maxIdleTime())
+                .metrics(true)
+                .build();
+    }
+
+    /**
+     * Reads Jikan payloads, and dumps of them, with the configured policy for labels this build does not know.
+     * Not a default candidate, so the application keeps Spring Boot's own mapper.
+     */
+    @Bean(defaultCandidate = false)
+    ObjectMapper jikanObjectMapper(ObjectMapper objectMapper, EnumLabelProperties enumLabelProperties) {
+        return objectMapper.copy()
+                .registerModule(new EnumLabelModule(enumLabelProperties.unknownPolicy()));
+    }
+
     @Bean
-    JikanClient jikanClient(RestClient.Builder builder) {
-        RestClient client = builder
-                .baseUrl("https://api.jikan.moe")
+    JikanClient jikanClient(RestClient.Builder builder,
+                            ConnectionProvider jikanConnectionProvider,
+                            JikanClientProperties properties,
+                            CircuitBreakerRegistry circuitBreakerRegistry,
+                            BulkheadRegistry bulkheadRegistry,
+                            MeterRegistry meterRegistry,
+                            @Qualifier("jikanObjectMapper") ObjectMapper jikanObjectMapper) {
+        HttpClient httpClient = HttpClient.create(jikanConnectionProvider)
+                .keepAlive(true)
+                .compress(true);
+
+        if (properties.http2() && properties.baseUrl().startsWith("https")) {
+            httpClient = httpClient
+                    .protocol(HttpProtocol.H2, HttpProtocol.HTTP11)
+                    .secure();
+        }
+
+        JikanClient routingClient = new RoutingJikanClient(
+                createClient(builder, httpClient, jikanObjectMapper, properties.baseUrl(), properties.search()),
+                createClient(builder, httpClient, jikanObjectMapper, properties.baseUrl(), properties.detail())
+        );
+
+        JikanClient resilientClient = new ResilientJikanClient(
+                routingClient,
+                circuitBreakerRegistry.circuitBreaker(JIKAN_INSTANCE),
+                bulkheadRegistry.bulkhead(JIKAN_INSTANCE),
+                meterRegistry
+        );
+
+        JikanClientProperties.Retry retry = properties.retry();
+        JikanClient retryingClient = new RetryingJikanClient(
+                resilientClient,
+                new RetryPolicy(
+                        retry.maxAttempts(),
+                        retry.initialBackoff(),
+                        retry.maxBackoff(),
+                        retry.multiplier(),
+                        retry.maxRetryAfter()
+                ),
+                new RetryBudget(retry.budgetRatio(), retry.budgetMaxTokens()),
+                meterRegistry
+        );
+
+        return new InstrumentedJikanClient(retryingClient, meterRegistry);
+    }
+
+    private JikanClient createClient(RestClient.Builder builder, HttpClient httpClient, ObjectMapper objectMapper,
+                                     String baseUrl, JikanClientProperties.Timeouts timeouts) {
+        ReactorClientHttpRequestFactory requestFactory =
+                new ReactorClientHttpRequestFactory(withTotalTimeout(httpClient, timeouts.totalTimeout()));
+        requestFactory.setConnectTimeout(timeouts.connectTimeout());
+        requestFactory.setReadTimeout(timeouts.readTimeout());
+
+        RestClient client = builder.clone()
+                .baseUrl(baseUrl)
+                .requestFactory(requestFactory)
+                .messageConverters(converters -> converters.replaceAll(converter ->
+                        converter instanceof MappingJackson2HttpMessageConverter
+                                ? new MappingJackson2HttpMessageConverter(objectMapper)
+                                : converter))
                 .build();
 
         RestClientAdapter adapter = RestClientAdapter.create(client);
@@ -24,4 +159,38 @@ public class ClientConfig {
 
         return factory.createClient(JikanClient.class);
     }
+
+    /**
+     * Reactor Netty only bounds the gap between reads, so a response that trickles in never times out. The total
+     * deadline runs from sending the request until the body has been received, and fails the exchange the same way
+     * the read timeout does. It is cancelled once the connection is released or closed, whether the exchange
+     * succeeded, failed or was cancelled, so a pooled connection never carries a deadline into its next exchange.
+     */
+    private static HttpClient withTotalTimeout(HttpClient httpClient, Duration totalTimeout) {
+        return httpClient
+                .doOnRequest((request, connection) -> {
+                    Channel channel = connection.channel();
+                    cancel(channel.attr(EXCHANGE_DEADLINE).getAndSet(channel.eventLoop().schedule(() -> {
+                        if (channel.isActive()) {
+                            channel.pipeline().fireExceptionCaught(new ResourceAccessException(
+                                    "Jikan response not received within " + totalTimeout,
+                                    new SocketTimeoutException(totalTimeout.toString())));
+                            channel.close();
+                        }
+                    }, totalTimeout.toNanos(), TimeUnit.NANOSECONDS)));
+                })
+                .doAfterResponseSuccess((response, connection) ->
+                        cancel(connection.channel().attr(EXCHANGE_DEADLINE).getAndSet(null)))
+                .observe((connection, state) -> {
+                    if (state == ConnectionObserver.State.RELEASED || state == ConnectionObserver.State.DISCONNECTING) {
+                        cancel(connection.channel().attr(EXCHANGE_DEADLINE).getAndSet(null));
+                    }
+                });
+    }
+
+    private static void cancel(ScheduledFuture<?> deadline) {
+        if (deadline != null) {
+            deadline.cancel(false);
+        }
+    }
 }
@@ -0,0 +1,26 @@
+package dev.playerblair.manga_library.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+@ConfigurationProperties("manga.search.continuation-token")
+public record ContinuationTokenProperties(
+        String secret,
+        Duration ttl
+) {
+
+    private static final int MIN_SECRET_BYTES = 32;
+
+    public ContinuationTokenProperties {
+        // a shared or guessable secret lets anyone mint tokens, so there is no default to fall back on
+        if (secret == null || secret.getBytes(StandardCharsets.UTF_8).length < MIN_SECRET_BYTES) {
+            throw new IllegalArgumentException(
+                    "manga.search.continuation-token.secret must be set to at least " + MIN_SECRET_BYTES + " bytes");
+        }
+        if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("manga.search.continuation-token.ttl must be positive");
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package dev.playerblair.manga_library.config;
+
+import com.mongodb.MongoClientSettings;
+import dev.playerblair.manga_library.repository.codec.EnumStorageConversions;
+import dev.playerblair.manga_library.repository.codec.MangaCodecProvider;
+import org.bson.codecs.configuration.CodecRegistries;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+
+@Configuration
+@EnableConfigurationProperties(EnumLabelProperties.class)
+public class EnumLabelConfig {
+
+    @Bean
+    MongoCustomConversions mongoCustomConversions(EnumLabelProperties properties) {
+        return EnumStorageConversions.customConversions(properties.unknownPolicy(), properties.storageFormat());
+    }
+
+    @Bean
+    MangaCodecProvider mangaCodecProvider(EnumLabelProperties properties) {
+        return new MangaCodecProvider(properties.unknownPolicy(), properties.storageFormat());
+    }
+
+    @Bean
+    MongoClientSettingsBuilderCustomizer mangaCodecCustomizer(MangaCodecProvider mangaCodecProvider) {
+        return builder -> builder.codecRegistry(CodecRegistries.fromRegistries(
+                CodecRegistries.fromProviders(mangaCodecProvider),
+                MongoClientSettings.getDefaultCodecRegistry()
+        ));
+    }
+}
@@ -0,0 +1,12 @@
+package dev.playerblair.manga_library.config;
+
+import dev.playerblair.manga_library.util.EnumStorageFormat;
+import dev.playerblair.manga_library.util.UnknownLabelPolicy;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties("manga.enum-labels")
+public record EnumLabelProperties(
+        UnknownLabelPolicy unknownPolicy,
+        EnumStorageFormat storageFormat
+) {
+}
@@ -0,0 +1,40 @@
+package dev.playerblair.manga_library.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties("jikan.client")
+public record JikanClientProperties(
+        String baseUrl,
+        boolean http2,
+        Pool pool,
+        Timeouts search,
+        Timeouts detail,
+        Retry retry
+) {
+
+    public record Pool(
+            int maxConnections,
+            int maxPendingAcquires,
+            Duration pendingAcquireTimeout,
+            Duration maxIdleTime,
+            Duration maxLifeTime
+    ) {}
+
+    public record Timeouts(
+            Duration connectTimeout,
+            Duration readTimeout,
+            Duration totalTimeout
+    ) {}
+
+    public record Retry(
+            int maxAttempts,
+            Duration initialBackoff,
+            Duration maxBackoff,
+            double multiplier,
+            Duration maxRetryAfter,
+            double budgetRatio,
+            int budgetMaxTokens
+    ) {}
+}
@@ -0,0 +1,14 @@
+package dev.playerblair.manga_library.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties("manga.feed")
+public record LibraryFeedProperties(
+        int replaySize,
+        int subscriberBuffer,
+        Duration heartbeatInterval,
+        Duration timeout
+) {
+}
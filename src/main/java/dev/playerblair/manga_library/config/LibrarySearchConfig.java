@@ -0,0 +1,18 @@
+package dev.playerblair.manga_library.config;
+
+import dev.playerblair.manga_library.search.LibraryIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+@Configuration
+public class LibrarySearchConfig {
+
+    @Bean(destroyMethod = "close")
+    public LibraryIndex libraryIndex(@Value("${manga.library-search.index-path}") Path indexPath) throws IOException {
+        return LibraryIndex.open(indexPath);
+    }
+}
@@ -0,0 +1,9 @@
+package dev.playerblair.manga_library.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(LibrarySyncProperties.class)
+public class LibrarySyncConfig {
+}
@@ -0,0 +1,14 @@
+package dev.playerblair.manga_library.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties("manga.sync")
+public record LibrarySyncProperties(
+        int defaultPageSize,
+        int maxPageSize,
+        Duration tombstoneRetention,
+        Duration purgeInterval
+) {
+}
@@ -0,0 +1,16 @@
+package dev.playerblair.manga_library.config;
+
+import dev.playerblair.manga_library.client.JikanClient;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+public class MangaRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        hints.proxies().registerJdkProxy(AopProxyUtils.completeJdkProxyInterfaces(JikanClient.class));
+        hints.reflection().registerType(JikanClient.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+    }
+}
@@ -0,0 +1,40 @@
+package dev.playerblair.manga_library.config;
+
+import dev.playerblair.manga_library.monitoring.SlowQueryEndpoint;
+import dev.playerblair.manga_library.monitoring.SlowQueryExplainer;
+import dev.playerblair.manga_library.monitoring.SlowQueryListener;
+import dev.playerblair.manga_library.monitoring.SlowQueryLog;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+
+import java.util.concurrent.Executors;
+
+@Configuration
+@EnableConfigurationProperties(SlowQueryProperties.class)
+public class SlowQueryConfig {
+
+    @Bean
+    SlowQueryLog slowQueryLog(SlowQueryProperties properties) {
+        return new SlowQueryLog(properties.maxShapes());
+    }
+
+    @Bean
+    MongoClientSettingsBuilderCustomizer slowQueryListener(SlowQueryProperties properties,
+                                                           SlowQueryLog slowQueryLog,
+                                                           ObjectProvider<MongoDatabaseFactory> databaseFactory) {
+        SlowQueryExplainer explainer = properties.explain()
+                ? new SlowQueryExplainer(databaseFactory, slowQueryLog,
+                        Executors.newSingleThreadExecutor(Thread.ofPlatform().name("slow-query-explain").daemon().factory()))
+                : null;
+        return settings -> settings.addCommandListener(new SlowQueryListener(properties.threshold(), slowQueryLog, explainer));
+    }
+
+    @Bean
+    SlowQueryEndpoint slowQueryEndpoint(SlowQueryLog slowQueryLog) {
+        return new SlowQueryEndpoint(slowQueryLog);
+    }
+}
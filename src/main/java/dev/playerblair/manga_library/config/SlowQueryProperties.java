@@ -0,0 +1,13 @@
+package dev.playerblair.manga_library.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@ConfigurationProperties("manga.slow-query")
+public record SlowQueryProperties(
+        Duration threshold,
+        int maxShapes,
+        boolean explain
+) {
+}
@@ -0,0 +1,26 @@
+package dev.playerblair.manga_library.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.playerblair.manga_library.tenant.TenantFilter;
+import dev.playerblair.manga_library.tenant.TenantRateLimiter;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(TenantProperties.class)
+public class TenantConfig {
+
+    @Bean
+    public FilterRegistrationBean<TenantFilter> tenantFilter(TenantProperties properties, ObjectMapper objectMapper) {
+        FilterRegistrationBean<TenantFilter> registration = new FilterRegistrationBean<>(new TenantFilter(
+                properties.header(),
+                properties.allowed(),
+                new TenantRateLimiter(properties.rateLimit()),
+                objectMapper
+        ));
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+}
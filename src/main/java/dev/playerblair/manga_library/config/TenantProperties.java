@@ -0,0 +1,28 @@
+package dev.playerblair.manga_library.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.Set;
+
+@ConfigurationProperties("manga.tenant")
+public record TenantProperties(
+        String header,
+        Set<String> allowed,
+        Duration idleTimeout,
+        long maxLibrarySize,
+        RateLimit rateLimit
+) {
+
+    public TenantProperties {
+        // the tenant header is not authenticated, so an open list would let anyone create and read any library
+        if (allowed == null || allowed.isEmpty()) {
+            throw new IllegalArgumentException("manga.tenant.allowed must list the tenants this deployment serves");
+        }
+    }
+
+    public record RateLimit(
+            int limit,
+            Duration window
+    ) {}
+}
@@ -0,0 +1,36 @@
+package dev.playerblair.manga_library.controller;
+
+import dev.playerblair.manga_library.response.CatalogCrawlResult;
+import dev.playerblair.manga_library.response.CatalogImportResult;
+import dev.playerblair.manga_library.response.CatalogStatus;
+import dev.playerblair.manga_library.service.CatalogService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+
+@RestController
+@RequestMapping("/api/catalog")
+public class CatalogController {
+
+    private final CatalogService catalogService;
+
+    public CatalogController(CatalogService catalogService) {
+        this.catalogService = catalogService;
+    }
+
+    @GetMapping
+    public ResponseEntity<CatalogStatus> getStatus() {
+        return ResponseEntity.ok(catalogService.getStatus());
+    }
+
+    @PostMapping(value = "/import", consumes = {"application/x-ndjson", "application/json"})
+    public ResponseEntity<CatalogImportResult> importDump(InputStream dump) {
+        return ResponseEntity.ok(catalogService.importDump(dump));
+    }
+
+    @PostMapping("/crawl")
+    public ResponseEntity<CatalogCrawlResult> crawl(@RequestParam(defaultValue = "1") int pages) {
+        return ResponseEntity.ok(catalogService.crawl(pages));
+    }
+}
@@ -0,0 +1,27 @@
+package dev.playerblair.manga_library.controller;
+
+import dev.playerblair.manga_library.service.LibraryFeedService;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/library")
+public class LibraryFeedController {
+
+    public static final String LAST_EVENT_ID_HEADER = "Last-Event-ID";
+
+    private final LibraryFeedService libraryFeedService;
+
+    public LibraryFeedController(LibraryFeedService libraryFeedService) {
+        this.libraryFeedService = libraryFeedService;
+    }
+
+    @GetMapping(value = "/feed", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(@RequestHeader(value = LAST_EVENT_ID_HEADER, required = false) String lastEventId) {
+        return libraryFeedService.subscribe(lastEventId);
+    }
+}
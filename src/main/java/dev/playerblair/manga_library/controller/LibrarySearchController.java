@@ -0,0 +1,30 @@
+package dev.playerblair.manga_library.controller;
+
+import dev.playerblair.manga_library.response.LibrarySearchHit;
+import dev.playerblair.manga_library.service.LibrarySearchService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/library")
+public class LibrarySearchController {
+
+    private static final int MAX_LIMIT = 100;
+
+    private final LibrarySearchService librarySearchService;
+
+    public LibrarySearchController(LibrarySearchService librarySearchService) {
+        this.librarySearchService = librarySearchService;
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<LibrarySearchHit>> search(@RequestParam String query,
+                                                         @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(librarySearchService.search(query, Math.clamp(limit, 1, MAX_LIMIT)));
+    }
+}
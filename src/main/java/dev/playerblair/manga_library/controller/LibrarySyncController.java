@@ -0,0 +1,27 @@
+package dev.playerblair.manga_library.controller;
+
+import dev.playerblair.manga_library.response.LibraryChanges;
+import dev.playerblair.manga_library.service.LibrarySyncService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/manga")
+public class LibrarySyncController {
+
+    private final LibrarySyncService librarySyncService;
+
+    public LibrarySyncController(LibrarySyncService librarySyncService) {
+        this.librarySyncService = librarySyncService;
+    }
+
+    @GetMapping("/changes")
+    public ResponseEntity<LibraryChanges> getChanges(
+            @RequestParam(defaultValue = "0") long since,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(librarySyncService.getChangesSince(since, limit));
+    }
+}
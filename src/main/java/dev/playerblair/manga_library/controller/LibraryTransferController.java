@@ -0,0 +1,49 @@
+package dev.playerblair.manga_library.controller;
+
+import dev.playerblair.manga_library.response.LibraryImportResult;
+import dev.playerblair.manga_library.service.LibraryTransferService;
+import dev.playerblair.manga_library.tenant.TenantContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+
+@RestController
+@RequestMapping("/api/manga")
+public class LibraryTransferController {
+
+    public static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private final LibraryTransferService libraryTransferService;
+
+    public LibraryTransferController(LibraryTransferService libraryTransferService) {
+        this.libraryTransferService = libraryTransferService;
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportLibrary() {
+        String tenant = TenantContext.current();
+        return ResponseEntity.ok()
+                .contentType(NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"manga-library.ndjson\"")
+                .body(outputStream -> {
+                    TenantContext.set(tenant);
+                    try {
+                        libraryTransferService.exportLibrary(outputStream);
+                    } finally {
+                        TenantContext.clear();
+                    }
+                });
+    }
+
+    @PostMapping(value = "/import", consumes = {"application/x-ndjson", "application/json"})
+    public ResponseEntity<LibraryImportResult> importLibrary(InputStream library) {
+        return ResponseEntity.ok(libraryTransferService.importLibrary(library));
+    }
+}
@@ -1,49 +1,85 @@
 package dev.playerblair.manga_library.controller;
 
+import dev.playerblair.manga_library.model.LibraryEntry;
+import dev.playerblair.manga_library.model.LibraryState;
 import dev.playerblair.manga_library.model.Manga;
 import dev.playerblair.manga_library.model.UserProgress;
 import dev.playerblair.manga_library.request.FilterParams;
+import dev.playerblair.manga_library.request.SearchContinuation;
 import dev.playerblair.manga_library.response.JikanSearchResponse;
+import dev.playerblair.manga_library.response.SearchPage;
 import dev.playerblair.manga_library.service.MangaService;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+import org.springframework.web.accept.ContentNegotiationManager;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/manga")
 public class MangaController {
 
+    public static final String CONTINUATION_TOKEN_HEADER = "X-Continuation-Token";
+
+    // each encoding of a version is different bytes, so binary ones get their own strong entity tag
+    private static final Map<MediaType, String> ENCODING_TAGS = Map.of(
+            MediaType.APPLICATION_CBOR, "cbor",
+            MediaType.valueOf("application/x-jackson-smile"), "smile");
+
     private final MangaService mangaService;
+    private final ContentNegotiationManager contentNegotiationManager;
 
-    public MangaController(MangaService mangaService) {
+    public MangaController(MangaService mangaService, ContentNegotiationManager contentNegotiationManager) {
         this.mangaService = mangaService;
+        this.contentNegotiationManager = contentNegotiationManager;
     }
 
     @GetMapping
-    public ResponseEntity<List<Manga>> getAllManga() {
+    public ResponseEntity<List<Manga>> getAllManga(NativeWebRequest request) throws HttpMediaTypeNotAcceptableException {
+        LibraryState state = mangaService.getLibraryState();
+        if (request.checkNotModified(entityTag(state.version() + "-" + state.size(), request))) {
+            return null;
+        }
         return ResponseEntity.ok(mangaService.getAllManga());
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Manga> getManga(@PathVariable("id") Long malId) {
+    public ResponseEntity<Manga> getManga(@PathVariable("id") Long malId, NativeWebRequest request)
+            throws HttpMediaTypeNotAcceptableException {
+        if (isNotModified(malId, request)) {
+            return null;
+        }
         return ResponseEntity.ok(mangaService.getManga(malId));
     }
 
     @GetMapping("/search")
     public ResponseEntity<JikanSearchResponse> searchManga(@RequestParam String query) {
-        return ResponseEntity.ok(mangaService.searchManga(query));
+        return withContinuationToken(query, mangaService.searchManga(query));
     }
 
     @GetMapping("/search/next")
-    public ResponseEntity<JikanSearchResponse> searchMangaNext() {
-        return ResponseEntity.ok(mangaService.searchMangaNext());
+    public ResponseEntity<JikanSearchResponse> searchMangaNext(@RequestParam(required = false) String token) {
+        if (token == null) {
+            return ResponseEntity.ok(mangaService.searchMangaNext());
+        }
+
+        SearchContinuation continuation = mangaService.decodeContinuationToken(token);
+        return withContinuationToken(continuation.query(), mangaService.searchMangaNext(continuation));
     }
 
     @PostMapping
-    public ResponseEntity<Manga> addManga(@RequestParam Long malId) {
-        return ResponseEntity.status(HttpStatus.CREATED).body(mangaService.addManga(malId));
+    public ResponseEntity<Manga> addManga(@RequestParam Long malId, @RequestParam(required = false) String token) {
+        if (token == null) {
+            return ResponseEntity.status(HttpStatus.CREATED).body(mangaService.addManga(malId));
+        }
+
+        SearchContinuation continuation = mangaService.decodeContinuationToken(token);
+        return ResponseEntity.status(HttpStatus.CREATED).body(mangaService.addManga(malId, continuation));
     }
 
     @PatchMapping("/refresh-all")
@@ -58,7 +94,11 @@ public class MangaController {
     }
 
     @GetMapping("/{id}/progress")
-    public ResponseEntity<UserProgress> getProgress(@PathVariable("id") Long malId) {
+    public ResponseEntity<UserProgress> getProgress(@PathVariable("id") Long malId, NativeWebRequest request)
+            throws HttpMediaTypeNotAcceptableException {
+        if (isNotModified(malId, request)) {
+            return null;
+        }
         return ResponseEntity.ok(mangaService.getProgress(malId));
     }
 
@@ -76,4 +116,35 @@ public class MangaController {
     public ResponseEntity<List<Manga>> filterManga(@RequestBody FilterParams filter) {
         return ResponseEntity.ok(mangaService.filterManga(filter));
     }
+
+    private boolean isNotModified(Long malId, NativeWebRequest request) throws HttpMediaTypeNotAcceptableException {
+        LibraryEntry entry = mangaService.findEntry(malId).orElse(null);
+        if (entry == null) {
+            return false;
+        }
+        return request.checkNotModified(
+                entityTag(String.valueOf(entry.version()), request),
+                entry.modifiedAt() == null ? -1 : entry.modifiedAt().toEpochMilli());
+    }
+
+    // accepted types come sorted by preference; wildcards fall through to JSON like the message converters do
+    private String entityTag(String version, NativeWebRequest request) throws HttpMediaTypeNotAcceptableException {
+        for (MediaType accepted : contentNegotiationManager.resolveMediaTypes(request)) {
+            if (accepted.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                break;
+            }
+            for (Map.Entry<MediaType, String> encoding : ENCODING_TAGS.entrySet()) {
+                if (accepted.isCompatibleWith(encoding.getKey())) {
+                    return "\"" + version + "-" + encoding.getValue() + "\"";
+                }
+            }
+        }
+        return "\"" + version + "\"";
+    }
+
+    private ResponseEntity<JikanSearchResponse> withContinuationToken(String query, SearchPage searchPage) {
+        return ResponseEntity.ok()
+                .header(CONTINUATION_TOKEN_HEADER, mangaService.createContinuationToken(query, searchPage))
+                .body(searchPage.response());
+    }
 }
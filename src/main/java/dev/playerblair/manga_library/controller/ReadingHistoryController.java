@@ -0,0 +1,34 @@
+package dev.playerblair.manga_library.controller;
+
+import dev.playerblair.manga_library.request.HistoryInterval;
+import dev.playerblair.manga_library.response.ReadingActivity;
+import dev.playerblair.manga_library.service.ReadingHistoryService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/library")
+public class ReadingHistoryController {
+
+    private final ReadingHistoryService readingHistoryService;
+
+    public ReadingHistoryController(ReadingHistoryService readingHistoryService) {
+        this.readingHistoryService = readingHistoryService;
+    }
+
+    @GetMapping("/history")
+    public ResponseEntity<List<ReadingActivity>> getActivity(
+            @RequestParam(required = false) Long malId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "MONTH") HistoryInterval interval) {
+        return ResponseEntity.ok(readingHistoryService.getActivity(malId, from, to, interval));
+    }
+}
@@ -0,0 +1,8 @@
+package dev.playerblair.manga_library.event;
+
+import dev.playerblair.manga_library.model.Manga;
+
+import java.util.List;
+
+public record LibraryImportedEvent(List<Manga> imported) {
+}
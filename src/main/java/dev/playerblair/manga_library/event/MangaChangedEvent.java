@@ -0,0 +1,25 @@
+package dev.playerblair.manga_library.event;
+
+import dev.playerblair.manga_library.model.Manga;
+
+public record MangaChangedEvent(
+        ChangeType type,
+        Long malId,
+        Manga previous,
+        Manga current
+) {
+
+    public enum ChangeType {
+        ADDED,
+        UPDATED,
+        DELETED
+    }
+
+    public static MangaChangedEvent saved(Manga previous, Manga current) {
+        return new MangaChangedEvent(previous == null ? ChangeType.ADDED : ChangeType.UPDATED, current.malId(), previous, current);
+    }
+
+    public static MangaChangedEvent deleted(Manga previous) {
+        return new MangaChangedEvent(ChangeType.DELETED, previous.malId(), previous, null);
+    }
+}
@@ -0,0 +1,11 @@
+package dev.playerblair.manga_library.event;
+
+import dev.playerblair.manga_library.response.MangaResponse;
+
+import java.util.List;
+
+public record SearchResultsCachedEvent(
+        String query,
+        List<MangaResponse> results
+) {
+}
@@ -0,0 +1,7 @@
+package dev.playerblair.manga_library.exception;
+
+public class InvalidContinuationTokenException extends RuntimeException {
+    public InvalidContinuationTokenException() {
+        super("Cannot continue search: continuation token is invalid, expired or has been tampered with.");
+    }
+}
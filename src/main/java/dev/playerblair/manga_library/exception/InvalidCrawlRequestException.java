@@ -0,0 +1,7 @@
+package dev.playerblair.manga_library.exception;
+
+public class InvalidCrawlRequestException extends RuntimeException {
+    public InvalidCrawlRequestException(String message) {
+        super(message);
+    }
+}
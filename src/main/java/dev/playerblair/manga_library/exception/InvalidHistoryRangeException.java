@@ -0,0 +1,7 @@
+package dev.playerblair.manga_library.exception;
+
+public class InvalidHistoryRangeException extends RuntimeException {
+    public InvalidHistoryRangeException(String message) {
+        super(message);
+    }
+}
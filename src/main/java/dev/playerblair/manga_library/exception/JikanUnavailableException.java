@@ -0,0 +1,7 @@
+package dev.playerblair.manga_library.exception;
+
+public class JikanUnavailableException extends RuntimeException {
+    public JikanUnavailableException(Throwable cause) {
+        super("Jikan is currently unavailable, please try again later.", cause);
+    }
+}
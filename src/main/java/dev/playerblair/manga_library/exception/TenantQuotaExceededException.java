@@ -0,0 +1,7 @@
+package dev.playerblair.manga_library.exception;
+
+public class TenantQuotaExceededException extends RuntimeException {
+    public TenantQuotaExceededException(String tenant, long maxLibrarySize) {
+        super(String.format("The library of tenant '%s' is limited to %d manga.", tenant, maxLibrarySize));
+    }
+}
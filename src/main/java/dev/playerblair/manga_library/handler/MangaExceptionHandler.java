@@ -1,14 +1,20 @@
 package dev.playerblair.manga_library.handler;
 
+import dev.playerblair.manga_library.exception.InvalidContinuationTokenException;
+import dev.playerblair.manga_library.exception.InvalidCrawlRequestException;
+import dev.playerblair.manga_library.exception.InvalidHistoryRangeException;
 import dev.playerblair.manga_library.exception.InvalidProgressUpdateException;
+import dev.playerblair.manga_library.exception.JikanUnavailableException;
 import dev.playerblair.manga_library.exception.MangaNotFoundException;
 import dev.playerblair.manga_library.exception.NoInitialSearchException;
 import dev.playerblair.manga_library.exception.PaginationLimitReachedException;
+import dev.playerblair.manga_library.exception.TenantQuotaExceededException;
 import dev.playerblair.manga_library.response.ErrorResponse;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.client.RestClientException;
 
 import java.time.LocalDateTime;
 
@@ -58,4 +64,70 @@ public class MangaExceptionHandler {
 
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
     }
+
+    @ExceptionHandler(InvalidContinuationTokenException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidContinuationTokenException(InvalidContinuationTokenException exception) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.BAD_REQUEST.value(),
+                exception.getMessage(),
+                LocalDateTime.now()
+        );
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    @ExceptionHandler(InvalidHistoryRangeException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidHistoryRangeException(InvalidHistoryRangeException exception) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.BAD_REQUEST.value(),
+                exception.getMessage(),
+                LocalDateTime.now()
+        );
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    @ExceptionHandler(InvalidCrawlRequestException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidCrawlRequestException(InvalidCrawlRequestException exception) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.BAD_REQUEST.value(),
+                exception.getMessage(),
+                LocalDateTime.now()
+        );
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+    }
+
+    @ExceptionHandler(TenantQuotaExceededException.class)
+    public ResponseEntity<ErrorResponse> handleTenantQuotaExceededException(TenantQuotaExceededException exception) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.FORBIDDEN.value(),
+                exception.getMessage(),
+                LocalDateTime.now()
+        );
+
+        return ResponseEntity.status(HttpStatus.FORBIDDEN).body(errorResponse);
+    }
+
+    @ExceptionHandler(JikanUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleJikanUnavailableException(JikanUnavailableException exception) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                exception.getMessage(),
+                LocalDateTime.now()
+        );
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
+    }
+
+    @ExceptionHandler(RestClientException.class)
+    public ResponseEntity<ErrorResponse> handleRestClientException(RestClientException exception) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                HttpStatus.BAD_GATEWAY.value(),
+                "Request to Jikan failed: " + exception.getMessage(),
+                LocalDateTime.now()
+        );
+
+        return ResponseEntity.status(HttpStatus.BAD_GATEWAY).body(errorResponse);
+    }
 }
@@ -0,0 +1,20 @@
+package dev.playerblair.manga_library.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+@Document("catalog_state")
+public record CatalogCrawlState(
+        @Id String id,
+        int nextPage,
+        Instant lastCrawledAt
+) {
+
+    public static final String CRAWL_ID = "crawl";
+
+    public static CatalogCrawlState initial() {
+        return new CatalogCrawlState(CRAWL_ID, 1, null);
+    }
+}
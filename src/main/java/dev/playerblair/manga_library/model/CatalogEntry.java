@@ -0,0 +1,23 @@
+package dev.playerblair.manga_library.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.util.List;
+
+@Document("catalog")
+public record CatalogEntry(
+        @Id Long malId,
+        String title,
+        Type type,
+        int chapters,
+        int volumes,
+        Status status,
+        String synopsis,
+        List<Author> authors,
+        List<String> genres,
+        String url,
+        Instant importedAt
+) {
+}
@@ -2,45 +2,57 @@ package dev.playerblair.manga_library.model;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import dev.playerblair.manga_library.util.EnumLabelCodec;
 
-import java.util.Arrays;
-
-public enum Genre {
-    ACTION("Action"),
-    ADVENTURE("Adventure"),
-    AVANT_GARDE("Avant Garde"),
-    AWARD_WINNING("Award Winning"),
-    BOYS_LOVE("Boys Love"),
-    COMEDY("Comedy"),
-    DRAMA("Drama"),
-    FANTASY("Fantasy"),
-    GIRLS_LOVE("Girls Love"),
-    GOURMET("Gourmet"),
-    HORROR("Horror"),
-    MYSTERY("Mystery"),
-    ROMANCE("Romance"),
-    SCI_FI("Sci-Fi"),
-    SLICE_OF_LIFE("Slice of Life"),
-    SPORTS("Sports"),
-    SUPERNATURAL("Supernatural"),
-    SUSPENSE("Suspense");
+public enum Genre implements LabeledEnum {
+    ACTION(0, "Action"),
+    ADVENTURE(1, "Adventure"),
+    AVANT_GARDE(2, "Avant Garde"),
+    AWARD_WINNING(3, "Award Winning"),
+    BOYS_LOVE(4, "Boys Love"),
+    COMEDY(5, "Comedy"),
+    DRAMA(6, "Drama"),
+    FANTASY(7, "Fantasy"),
+    GIRLS_LOVE(8, "Girls Love"),
+    GOURMET(9, "Gourmet"),
+    HORROR(10, "Horror"),
+    MYSTERY(11, "Mystery"),
+    ROMANCE(12, "Romance"),
+    SCI_FI(13, "Sci-Fi"),
+    SLICE_OF_LIFE(14, "Slice of Life"),
+    SPORTS(15, "Sports"),
+    SUPERNATURAL(16, "Supernatural"),
+    SUSPENSE(17, "Suspense"),
+    UNKNOWN(18, "Unknown");
+
+    private static final EnumLabelCodec<Genre> LABELS = EnumLabelCodec.of(Genre.class);
+
+    private final int code;
 
     @JsonValue
     private final String label;
 
-    Genre(String label) {
+    Genre(int code, String label) {
+        this.code = code;
         this.label = label;
     }
 
+    @Override
+    public int getCode() {
+        return code;
+    }
+
+    @Override
     public String getLabel() {
         return label;
     }
 
     @JsonCreator
     public static Genre fromLabel(String label) {
-        return Arrays.stream(Genre.values())
-                .filter(genre -> genre.getLabel().equals(label))
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException("Unknown label: " + label));
+        return LABELS.fromLabel(label);
+    }
+
+    public static EnumLabelCodec<Genre> labels() {
+        return LABELS;
     }
 }
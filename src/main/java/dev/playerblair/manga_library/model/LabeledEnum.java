@@ -0,0 +1,8 @@
+package dev.playerblair.manga_library.model;
+
+public interface LabeledEnum {
+
+    int getCode();
+
+    String getLabel();
+}
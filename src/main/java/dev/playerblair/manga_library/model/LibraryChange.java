@@ -0,0 +1,12 @@
+package dev.playerblair.manga_library.model;
+
+public record LibraryChange(
+        long version,
+        Long malId,
+        Manga manga
+) {
+
+    public boolean deleted() {
+        return manga == null;
+    }
+}
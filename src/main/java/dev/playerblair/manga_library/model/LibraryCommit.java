@@ -0,0 +1,17 @@
+package dev.playerblair.manga_library.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+/**
+ * Marks the library versions {@code firstVersion} to {@code lastVersion} as written, whichever instance wrote them.
+ */
+@Document("library_commits")
+public record LibraryCommit(
+        @Id long firstVersion,
+        long lastVersion,
+        Instant committedAt
+) {
+}
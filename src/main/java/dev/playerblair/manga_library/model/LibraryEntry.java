@@ -0,0 +1,29 @@
+package dev.playerblair.manga_library.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * A manga in one tenant's library. Type, status and genres are copied from the shared metadata so that library
+ * filters can run on tenant-prefixed indexes instead of after the metadata lookup.
+ */
+@Document("library")
+public record LibraryEntry(
+        @Id String id,
+        String tenant,
+        Long malId,
+        Type type,
+        Status status,
+        List<Genre> genres,
+        UserProgress progress,
+        long version,
+        Instant modifiedAt
+) {
+
+    public static String idOf(String tenant, Long malId) {
+        return tenant + ":" + malId;
+    }
+}
@@ -0,0 +1,11 @@
+package dev.playerblair.manga_library.model;
+
+public record LibraryState(
+        long size,
+        long version
+) {
+
+    public static LibraryState empty() {
+        return new LibraryState(0, 0);
+    }
+}
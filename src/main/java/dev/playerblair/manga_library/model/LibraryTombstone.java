@@ -0,0 +1,16 @@
+package dev.playerblair.manga_library.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+@Document("library_tombstones")
+public record LibraryTombstone(
+        @Id String id,
+        String tenant,
+        Long malId,
+        long version,
+        Instant deletedAt
+) {
+}
@@ -0,0 +1,18 @@
+package dev.playerblair.manga_library.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+@Document("library_version")
+public record LibraryVersion(
+        @Id String id,
+        long version,
+        long purgedVersion
+) {
+
+    public static final String ID = "library";
+
+    public static LibraryVersion initial() {
+        return new LibraryVersion(ID, 0, 0);
+    }
+}
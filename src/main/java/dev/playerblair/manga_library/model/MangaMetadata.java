@@ -0,0 +1,21 @@
+package dev.playerblair.manga_library.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.util.List;
+
+@Document("manga_metadata")
+public record MangaMetadata(
+        @Id Long malId,
+        String title,
+        Type type,
+        int chapters,
+        int volumes,
+        Status status,
+        String synopsis,
+        List<Author> authors,
+        List<Genre> genres,
+        String url
+) {
+}
@@ -0,0 +1,23 @@
+package dev.playerblair.manga_library.model;
+
+import org.springframework.data.mongodb.core.mapping.TimeSeries;
+import org.springframework.data.mongodb.core.timeseries.Granularity;
+
+import java.time.Instant;
+
+@TimeSeries(collection = "progress_history", timeField = "timestamp", metaField = "subject", granularity = Granularity.HOURS)
+public record ProgressEvent(
+        Instant timestamp,
+        Subject subject,
+        ProgressType previousProgress,
+        ProgressType progress,
+        int chaptersDelta,
+        int volumesDelta,
+        int ratingDelta
+) {
+
+    public record Subject(
+            String tenant,
+            Long malId
+    ) {}
+}
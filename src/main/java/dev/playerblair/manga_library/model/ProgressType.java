@@ -2,32 +2,43 @@ package dev.playerblair.manga_library.model;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import dev.playerblair.manga_library.util.EnumLabelCodec;
 
-import java.util.Arrays;
+public enum ProgressType implements LabeledEnum {
+    PLANNING(0, "Planning"),
+    READING(1, "Reading"),
+    FINISHED(2, "Finished"),
+    PAUSED(3, "Paused"),
+    DROPPED(4, "Dropping");
 
-public enum ProgressType {
-    PLANNING("Planning"),
-    READING("Reading"),
-    FINISHED("Finished"),
-    PAUSED("Paused"),
-    DROPPED("Dropping");
+    private static final EnumLabelCodec<ProgressType> LABELS = EnumLabelCodec.of(ProgressType.class);
+
+    private final int code;
 
     @JsonValue
     private final String label;
 
-    ProgressType(String label) {
+    ProgressType(int code, String label) {
+        this.code = code;
         this.label = label;
     }
 
+    @Override
+    public int getCode() {
+        return code;
+    }
+
+    @Override
     public String getLabel() {
         return label;
     }
 
     @JsonCreator
     public static ProgressType fromLabel(String label) {
-        return Arrays.stream(ProgressType.values())
-                .filter(progressType -> progressType.getLabel().equals(label))
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException("Unknown label: " + label));
+        return LABELS.fromLabel(label);
+    }
+
+    public static EnumLabelCodec<ProgressType> labels() {
+        return LABELS;
     }
 }
@@ -2,32 +2,44 @@ package dev.playerblair.manga_library.model;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import dev.playerblair.manga_library.util.EnumLabelCodec;
 
-import java.util.Arrays;
+public enum Status implements LabeledEnum {
+    PUBLISHING(0, "Publishing"),
+    FINISHED(1, "Finished"),
+    HIATUS(2, "On Hiatus"),
+    DISCONTINUED(3, "Discontinued"),
+    UPCOMING(4, "Upcoming"),
+    UNKNOWN(5, "Unknown");
 
-public enum Status {
-    PUBLISHING("Publishing"),
-    FINISHED("Finished"),
-    HIATUS("On Hiatus"),
-    DISCONTINUED("Discontinued"),
-    UPCOMING("Upcoming");
+    private static final EnumLabelCodec<Status> LABELS = EnumLabelCodec.of(Status.class);
+
+    private final int code;
 
     @JsonValue
     private final String label;
 
-    Status(String label) {
+    Status(int code, String label) {
+        this.code = code;
         this.label = label;
     }
 
+    @Override
+    public int getCode() {
+        return code;
+    }
+
+    @Override
     public String getLabel() {
         return label;
     }
 
     @JsonCreator
     public static Status fromLabel(String label) {
-        return Arrays.stream(Status.values())
-                .filter(status -> status.getLabel().equals(label))
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException("Unknown label: " + label));
+        return LABELS.fromLabel(label);
+    }
+
+    public static EnumLabelCodec<Status> labels() {
+        return LABELS;
     }
 }
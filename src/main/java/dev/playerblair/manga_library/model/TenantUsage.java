@@ -0,0 +1,11 @@
+package dev.playerblair.manga_library.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+@Document("library_usage")
+public record TenantUsage(
+        @Id String tenant,
+        long size
+) {
+}
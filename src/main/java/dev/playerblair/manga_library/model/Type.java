@@ -2,34 +2,46 @@ package dev.playerblair.manga_library.model;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import dev.playerblair.manga_library.util.EnumLabelCodec;
 
-import java.util.Arrays;
+public enum Type implements LabeledEnum {
+    MANGA(0, "Manga"),
+    MANHWA(1, "Manhwa"),
+    MANHUA(2, "Manhua"),
+    ONESHOT(3, "One-shot"),
+    DOUJINSHI(4, "Doujinshi"),
+    LIGHTNOVEL(5, "Light Novel"),
+    NOVEL(6, "Novel"),
+    UNKNOWN(7, "Unknown");
 
-public enum Type {
-    MANGA("Manga"),
-    MANHWA("Manhwa"),
-    MANHUA("Manhua"),
-    ONESHOT("One-shot"),
-    DOUJINSHI("Doujinshi"),
-    LIGHTNOVEL("Light Novel"),
-    NOVEL("Novel");
+    private static final EnumLabelCodec<Type> LABELS = EnumLabelCodec.of(Type.class);
+
+    private final int code;
 
     @JsonValue
     private final String label;
 
-    Type(String label) {
+    Type(int code, String label) {
+        this.code = code;
         this.label = label;
     }
 
+    @Override
+    public int getCode() {
+        return code;
+    }
+
+    @Override
     public String getLabel() {
         return label;
     }
 
     @JsonCreator
     public static Type fromLabel(String label) {
-        return Arrays.stream(Type.values())
-                .filter(type -> type.getLabel().equals(label))
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException("Unknown label: " + label));
+        return LABELS.fromLabel(label);
+    }
+
+    public static EnumLabelCodec<Type> labels() {
+        return LABELS;
     }
 }
@@ -0,0 +1,68 @@
+package dev.playerblair.manga_library.monitoring;
+
+import dev.playerblair.manga_library.request.FilterParams;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.util.StringJoiner;
+
+@Name("dev.playerblair.manga_library.FilterManga")
+@Label("Filter Manga")
+@Description("Execution of a library filter query")
+@Category({"Manga Library", "Library"})
+@StackTrace(false)
+public class FilterMangaEvent extends Event {
+
+    @Label("Predicates")
+    @Description("Filter fields that were set")
+    String predicates;
+
+    @Label("Genres")
+    int genres;
+
+    @Label("Results")
+    int results;
+
+    public static FilterMangaEvent start() {
+        FilterMangaEvent event = new FilterMangaEvent();
+        event.begin();
+        return event;
+    }
+
+    public void complete(FilterParams filter, int results) {
+        end();
+        if (shouldCommit()) {
+            this.predicates = predicates(filter);
+            this.genres = filter.genres() == null ? 0 : filter.genres().size();
+            this.results = results;
+            commit();
+        }
+    }
+
+    private static String predicates(FilterParams filter) {
+        StringJoiner predicates = new StringJoiner(",");
+        if (filter.title() != null) {
+            predicates.add("title");
+        }
+        if (filter.type() != null) {
+            predicates.add("type");
+        }
+        if (filter.status() != null) {
+            predicates.add("status");
+        }
+        if (filter.author() != null) {
+            predicates.add("author");
+        }
+        if (filter.genres() != null && !filter.genres().isEmpty()) {
+            predicates.add("genres");
+        }
+        if (filter.progress() != null) {
+            predicates.add("progress");
+        }
+        return predicates.toString();
+    }
+}
@@ -0,0 +1,51 @@
+package dev.playerblair.manga_library.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("dev.playerblair.manga_library.JikanCall")
+@Label("Jikan Call")
+@Description("A Jikan API call as seen by the service, retries included")
+@Category({"Manga Library", "Jikan"})
+@StackTrace(false)
+public class JikanCallEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("MAL Id")
+    @Description("MyAnimeList id of a detail call, 0 for searches")
+    long malId;
+
+    @Label("Query Length")
+    @Description("Length of the search query; the query itself is user input and is not recorded")
+    int queryLength;
+
+    @Label("Outcome")
+    String outcome;
+
+    @Label("Status")
+    String status;
+
+    public static JikanCallEvent start() {
+        JikanCallEvent event = new JikanCallEvent();
+        event.begin();
+        return event;
+    }
+
+    public void complete(String operation, long malId, int queryLength, String outcome, String status) {
+        end();
+        if (shouldCommit()) {
+            this.operation = operation;
+            this.malId = malId;
+            this.queryLength = queryLength;
+            this.outcome = outcome;
+            this.status = status;
+            commit();
+        }
+    }
+}
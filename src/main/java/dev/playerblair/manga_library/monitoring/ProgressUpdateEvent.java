@@ -0,0 +1,47 @@
+package dev.playerblair.manga_library.monitoring;
+
+import dev.playerblair.manga_library.model.UserProgress;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("dev.playerblair.manga_library.ProgressUpdate")
+@Label("Progress Update")
+@Description("Validation and storage of a progress update")
+@Category({"Manga Library", "Library"})
+@StackTrace(false)
+public class ProgressUpdateEvent extends Event {
+
+    @Label("MAL Id")
+    long malId;
+
+    @Label("Progress")
+    String progress;
+
+    @Label("Chapters Read")
+    int chaptersRead;
+
+    @Label("Outcome")
+    @Description("updated, or the simple name of the exception that rejected the update")
+    String outcome;
+
+    public static ProgressUpdateEvent start() {
+        ProgressUpdateEvent event = new ProgressUpdateEvent();
+        event.begin();
+        return event;
+    }
+
+    public void complete(long malId, UserProgress update, String outcome) {
+        end();
+        if (shouldCommit()) {
+            this.malId = malId;
+            this.progress = update.progress() == null ? null : update.progress().name();
+            this.chaptersRead = update.chaptersRead();
+            this.outcome = outcome;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package dev.playerblair.manga_library.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("dev.playerblair.manga_library.RefreshManga")
+@Label("Refresh Manga")
+@Description("Refresh of a single manga during a library refresh")
+@Category({"Manga Library", "Library"})
+@StackTrace(false)
+public class RefreshMangaEvent extends Event {
+
+    @Label("MAL Id")
+    long malId;
+
+    @Label("Outcome")
+    @Description("refreshed, unchanged, kept_stored when Jikan is unavailable, or skipped after a failed call")
+    String outcome;
+
+    public static RefreshMangaEvent start() {
+        RefreshMangaEvent event = new RefreshMangaEvent();
+        event.begin();
+        return event;
+    }
+
+    public void complete(long malId, String outcome) {
+        end();
+        if (shouldCommit()) {
+            this.malId = malId;
+            this.outcome = outcome;
+            commit();
+        }
+    }
+}
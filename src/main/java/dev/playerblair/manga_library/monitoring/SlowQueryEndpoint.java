@@ -0,0 +1,22 @@
+package dev.playerblair.manga_library.monitoring;
+
+import dev.playerblair.manga_library.response.SlowQueryShape;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.List;
+
+@Endpoint(id = "slowqueries")
+public class SlowQueryEndpoint {
+
+    private final SlowQueryLog slowQueryLog;
+
+    public SlowQueryEndpoint(SlowQueryLog slowQueryLog) {
+        this.slowQueryLog = slowQueryLog;
+    }
+
+    @ReadOperation
+    public List<SlowQueryShape> slowQueries() {
+        return slowQueryLog.top();
+    }
+}
@@ -0,0 +1,112 @@
+package dev.playerblair.manga_library.monitoring;
+
+import dev.playerblair.manga_library.response.QueryExplainSummary;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.Document;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.mongodb.MongoDatabaseFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+public class SlowQueryExplainer {
+
+    private static final Logger log = LoggerFactory.getLogger(SlowQueryExplainer.class);
+
+    private static final List<String> SESSION_FIELDS = List.of(
+            "$db", "lsid", "$clusterTime", "$readPreference", "txnNumber", "autocommit", "startTransaction");
+
+    private final ObjectProvider<MongoDatabaseFactory> databaseFactory;
+    private final SlowQueryLog slowQueryLog;
+    private final Executor executor;
+
+    public SlowQueryExplainer(ObjectProvider<MongoDatabaseFactory> databaseFactory, SlowQueryLog slowQueryLog, Executor executor) {
+        this.databaseFactory = databaseFactory;
+        this.slowQueryLog = slowQueryLog;
+        this.executor = executor;
+    }
+
+    public void explain(String database, String collection, String command, String shape, BsonDocument document) {
+        executor.execute(() -> {
+            BsonDocument explained = document.clone();
+            SESSION_FIELDS.forEach(explained::remove);
+            try {
+                Document explain = databaseFactory.getObject().getMongoDatabase(database).runCommand(
+                        new BsonDocument("explain", explained).append("verbosity", new BsonString("executionStats")));
+                slowQueryLog.attachExplain(collection, command, shape, summarize(explain));
+            } catch (RuntimeException exception) {
+                log.debug("Could not explain slow {} on {}: {}", command, collection, exception.getMessage());
+            }
+        });
+    }
+
+    static QueryExplainSummary summarize(Document explain) {
+        List<String> stages = new ArrayList<>();
+        collectWinningStages(explain, false, stages);
+        Map<?, ?> executionStats = find(explain, "executionStats");
+        return new QueryExplainSummary(
+                stages,
+                sum(explain, "totalKeysExamined"),
+                sum(explain, "totalDocsExamined"),
+                executionStats != null && executionStats.get("nReturned") instanceof Number returned ? returned.longValue() : 0
+        );
+    }
+
+    private static void collectWinningStages(Object node, boolean inWinningPlan, List<String> stages) {
+        if (node instanceof Map<?, ?> document) {
+            if (inWinningPlan && document.get("stage") instanceof String stage) {
+                stages.add(document.get("indexName") instanceof String index ? stage + " " + index : stage);
+            }
+            document.forEach((key, value) -> {
+                if (!"rejectedPlans".equals(key)) {
+                    collectWinningStages(value, inWinningPlan || "winningPlan".equals(key), stages);
+                }
+            });
+        } else if (node instanceof List<?> list) {
+            list.forEach(element -> collectWinningStages(element, inWinningPlan, stages));
+        }
+    }
+
+    private static Map<?, ?> find(Object node, String field) {
+        if (node instanceof Map<?, ?> document) {
+            if (document.get(field) instanceof Map<?, ?> found) {
+                return found;
+            }
+            for (Object value : document.values()) {
+                Map<?, ?> found = find(value, field);
+                if (found != null) {
+                    return found;
+                }
+            }
+        } else if (node instanceof List<?> list) {
+            for (Object element : list) {
+                Map<?, ?> found = find(element, field);
+                if (found != null) {
+                    return found;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static long sum(Object node, String field) {
+        long total = 0;
+        if (node instanceof Map<?, ?> document) {
+            for (Map.Entry<?, ?> entry : document.entrySet()) {
+                total += field.equals(entry.getKey()) && entry.getValue() instanceof Number number
+                        ? number.longValue()
+                        : sum(entry.getValue(), field);
+            }
+        } else if (node instanceof List<?> list) {
+            for (Object element : list) {
+                total += sum(element, field);
+            }
+        }
+        return total;
+    }
+}
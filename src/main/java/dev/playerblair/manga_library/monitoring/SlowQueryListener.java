@@ -0,0 +1,138 @@
+package dev.playerblair.manga_library.monitoring;
+
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.BsonValue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+public class SlowQueryListener implements CommandListener {
+
+    private static final Logger log = LoggerFactory.getLogger(SlowQueryListener.class);
+
+    private static final Set<String> QUERY_COMMANDS = Set.of(
+            "find", "aggregate", "count", "distinct", "findAndModify", "update", "delete");
+    private static final BsonString PLACEHOLDER = new BsonString("?");
+
+    private final long thresholdNanos;
+    private final SlowQueryLog slowQueryLog;
+    private final SlowQueryExplainer explainer;
+    private final Map<Integer, PendingCommand> pending = new ConcurrentHashMap<>();
+
+    public SlowQueryListener(Duration threshold, SlowQueryLog slowQueryLog, SlowQueryExplainer explainer) {
+        this.thresholdNanos = threshold.toNanos();
+        this.slowQueryLog = slowQueryLog;
+        this.explainer = explainer;
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        if (!QUERY_COMMANDS.contains(event.getCommandName())) {
+            return;
+        }
+
+        // the event's command is only valid during this callback; copying its bytes is cheaper than normalizing
+        // every query when most of them finish under the threshold
+        BsonDocument command = event.getCommand();
+        BsonValue collection = command.get(event.getCommandName());
+        pending.put(event.getRequestId(), new PendingCommand(
+                event.getDatabaseName(),
+                collection != null && collection.isString() ? collection.asString().getValue() : "",
+                event.getCommandName(),
+                command.clone()
+        ));
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        complete(event.getRequestId(), event.getElapsedTime(TimeUnit.NANOSECONDS));
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        complete(event.getRequestId(), event.getElapsedTime(TimeUnit.NANOSECONDS));
+    }
+
+    private void complete(int requestId, long elapsedNanos) {
+        PendingCommand command = pending.remove(requestId);
+        if (command == null || elapsedNanos < thresholdNanos) {
+            return;
+        }
+
+        String shape = shape(command.name(), command.document());
+        log.warn("Slow Mongo {} on {} took {} ms: {}", command.name(), command.collection(),
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos), shape);
+        boolean newShape = slowQueryLog.record(command.collection(), command.name(), shape, elapsedNanos);
+        if (newShape && explainer != null) {
+            explainer.explain(command.database(), command.collection(), command.name(), shape, command.document());
+        }
+    }
+
+    static String shape(String commandName, BsonDocument command) {
+        return switch (commandName) {
+            case "find" -> "filter " + json(normalize(command.get("filter"))) + sort(command);
+            case "aggregate" -> command.getArray("pipeline", new BsonArray()).stream()
+                    .map(SlowQueryListener::stage)
+                    .collect(Collectors.joining(" | "));
+            case "count", "findAndModify" -> "query " + json(normalize(command.get("query"))) + sort(command);
+            case "distinct" -> command.getString("key", PLACEHOLDER).getValue() + " query " + json(normalize(command.get("query")));
+            case "update" -> "q " + json(normalize(firstStatement(command, "updates")));
+            case "delete" -> "q " + json(normalize(firstStatement(command, "deletes")));
+            default -> commandName;
+        };
+    }
+
+    private static String stage(BsonValue stage) {
+        if (!stage.isDocument() || stage.asDocument().isEmpty()) {
+            return "?";
+        }
+
+        String name = stage.asDocument().getFirstKey();
+        return "$match".equals(name) ? name + " " + json(normalize(stage.asDocument().get(name))) : name;
+    }
+
+    private static String sort(BsonDocument command) {
+        return command.containsKey("sort") ? " sort " + json(command.get("sort")) : "";
+    }
+
+    private static BsonValue firstStatement(BsonDocument command, String field) {
+        BsonArray statements = command.getArray(field, new BsonArray());
+        return statements.isEmpty() || !statements.get(0).isDocument() ? null : statements.get(0).asDocument().get("q");
+    }
+
+    private static BsonValue normalize(BsonValue value) {
+        if (value == null) {
+            return new BsonDocument();
+        }
+        if (value.isDocument()) {
+            BsonDocument normalized = new BsonDocument();
+            value.asDocument().forEach((key, nested) -> normalized.append(key, normalize(nested)));
+            return normalized;
+        }
+        if (value.isArray() && value.asArray().stream().allMatch(BsonValue::isDocument)) {
+            BsonArray normalized = new BsonArray();
+            value.asArray().forEach(element -> normalized.add(normalize(element)));
+            return normalized;
+        }
+        return PLACEHOLDER;
+    }
+
+    private static String json(BsonValue value) {
+        return value.isDocument() ? value.asDocument().toJson() : new BsonDocument("", value).toJson();
+    }
+
+    private record PendingCommand(String database, String collection, String name, BsonDocument document) {
+    }
+}
@@ -0,0 +1,89 @@
+package dev.playerblair.manga_library.monitoring;
+
+import dev.playerblair.manga_library.response.QueryExplainSummary;
+import dev.playerblair.manga_library.response.SlowQueryShape;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class SlowQueryLog {
+
+    private final int maxShapes;
+    private final Clock clock;
+    private final Map<String, ShapeStats> shapes = new ConcurrentHashMap<>();
+
+    public SlowQueryLog(int maxShapes) {
+        this(maxShapes, Clock.systemUTC());
+    }
+
+    SlowQueryLog(int maxShapes, Clock clock) {
+        this.maxShapes = maxShapes;
+        this.clock = clock;
+    }
+
+    public synchronized boolean record(String collection, String command, String shape, long elapsedNanos) {
+        String key = key(collection, command, shape);
+        ShapeStats stats = shapes.get(key);
+        boolean added = stats == null;
+        if (added) {
+            stats = new ShapeStats(collection, command, shape);
+            shapes.put(key, stats);
+        }
+        stats.count++;
+        stats.totalNanos += elapsedNanos;
+        stats.maxNanos = Math.max(stats.maxNanos, elapsedNanos);
+        stats.lastSeen = clock.instant();
+
+        if (shapes.size() > maxShapes) {
+            shapes.values().stream()
+                    .min(Comparator.comparingLong(candidate -> candidate.maxNanos))
+                    .ifPresent(fastest -> shapes.remove(key(fastest.collection, fastest.command, fastest.shape)));
+        }
+        return added && shapes.containsKey(key);
+    }
+
+    public void attachExplain(String collection, String command, String shape, QueryExplainSummary explain) {
+        ShapeStats stats = shapes.get(key(collection, command, shape));
+        if (stats != null) {
+            stats.explain = explain;
+        }
+    }
+
+    public synchronized List<SlowQueryShape> top() {
+        return shapes.values().stream()
+                .sorted(Comparator.comparingLong((ShapeStats stats) -> stats.maxNanos).reversed())
+                .map(ShapeStats::toShape)
+                .toList();
+    }
+
+    private static String key(String collection, String command, String shape) {
+        return collection + '\u0000' + command + '\u0000' + shape;
+    }
+
+    private static final class ShapeStats {
+
+        private final String collection;
+        private final String command;
+        private final String shape;
+        private long count;
+        private long totalNanos;
+        private long maxNanos;
+        private Instant lastSeen;
+        private volatile QueryExplainSummary explain;
+
+        private ShapeStats(String collection, String command, String shape) {
+            this.collection = collection;
+            this.command = command;
+            this.shape = shape;
+        }
+
+        private SlowQueryShape toShape() {
+            return new SlowQueryShape(collection, command, shape, count,
+                    totalNanos / (double) count / 1_000_000, maxNanos / 1_000_000.0, lastSeen, explain);
+        }
+    }
+}
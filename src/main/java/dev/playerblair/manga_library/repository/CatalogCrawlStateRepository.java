@@ -0,0 +1,9 @@
+package dev.playerblair.manga_library.repository;
+
+import dev.playerblair.manga_library.model.CatalogCrawlState;
+import org.springframework.data.repository.ListCrudRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CatalogCrawlStateRepository extends ListCrudRepository<CatalogCrawlState, String> {
+}
@@ -0,0 +1,9 @@
+package dev.playerblair.manga_library.repository;
+
+import dev.playerblair.manga_library.model.CatalogEntry;
+import org.springframework.data.repository.ListCrudRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CatalogRepository extends ListCrudRepository<CatalogEntry, Long>, CustomCatalogRepository {
+}
@@ -0,0 +1,12 @@
+package dev.playerblair.manga_library.repository;
+
+import dev.playerblair.manga_library.model.CatalogEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+public interface CustomCatalogRepository {
+
+    Slice<CatalogEntry> searchByTitle(String query, Pageable pageable);
+
+    void ensureTitleIndex();
+}
@@ -1,9 +1,64 @@
 package dev.playerblair.manga_library.repository;
 
+import dev.playerblair.manga_library.model.LibraryChange;
+import dev.playerblair.manga_library.model.LibraryEntry;
+import dev.playerblair.manga_library.model.LibraryState;
+import dev.playerblair.manga_library.model.LibraryVersion;
 import dev.playerblair.manga_library.model.Manga;
-import org.springframework.data.repository.ListCrudRepository;
-import org.springframework.stereotype.Repository;
+import dev.playerblair.manga_library.request.FilterParams;
 
-@Repository
-public interface MangaRepository extends ListCrudRepository<Manga, Long>, CustomMangaRepository {
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public interface MangaRepository {
+
+    List<Manga> findAll();
+
+    Optional<Manga> findById(Long malId);
+
+    Optional<LibraryEntry> findEntry(Long malId);
+
+    LibraryState findState();
+
+    long count();
+
+    long countReservedEntries();
+
+    boolean reserveEntries(int count, long limit);
+
+    void releaseEntries(int count);
+
+    Manga save(Manga manga);
+
+    Manga saveMetadata(Manga manga);
+
+    Manga saveProgress(Manga manga);
+
+    void delete(Manga manga);
+
+    void deleteAll();
+
+    List<Manga> findByDynamicCriteria(FilterParams filter);
+
+    Stream<Manga> streamAll();
+
+    List<Manga> insertUnordered(List<Manga> batch);
+
+    LibraryVersion findVersion();
+
+    List<LibraryChange> findChangesSince(long version, int limit);
+
+    long purgeTombstones(Instant deletedBefore);
+
+    List<String> findTenants();
+
+    void ensureIndexes();
+
+    int migrateLegacyCollection(int batchSize);
+
+    int migrateEnumStorage(int batchSize);
+
+    int migrateEntryFilterFields(int batchSize);
 }
@@ -0,0 +1,17 @@
+package dev.playerblair.manga_library.repository;
+
+import dev.playerblair.manga_library.model.ProgressEvent;
+import dev.playerblair.manga_library.request.HistoryInterval;
+import dev.playerblair.manga_library.response.ReadingActivity;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface ProgressHistoryRepository {
+
+    void ensureCollection();
+
+    void insert(ProgressEvent event);
+
+    List<ReadingActivity> findActivity(Long malId, Instant from, Instant to, HistoryInterval interval);
+}
@@ -0,0 +1,42 @@
+package dev.playerblair.manga_library.repository.codec;
+
+import dev.playerblair.manga_library.model.Author;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+public class AuthorCodec implements Codec<Author> {
+
+    @Override
+    public Author decode(BsonReader reader, DecoderContext decoderContext) {
+        String name = null;
+        String url = null;
+
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            switch (reader.readName()) {
+                case "name" -> name = BsonValues.readString(reader);
+                case "url" -> url = BsonValues.readString(reader);
+                default -> reader.skipValue();
+            }
+        }
+        reader.readEndDocument();
+        return new Author(name, url);
+    }
+
+    @Override
+    public void encode(BsonWriter writer, Author author, EncoderContext encoderContext) {
+        writer.writeStartDocument();
+        BsonValues.writeString(writer, "name", author.name());
+        BsonValues.writeString(writer, "url", author.url());
+        writer.writeEndDocument();
+    }
+
+    @Override
+    public Class<Author> getEncoderClass() {
+        return Author.class;
+    }
+}
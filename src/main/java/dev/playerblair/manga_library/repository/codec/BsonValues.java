@@ -0,0 +1,70 @@
+package dev.playerblair.manga_library.repository.codec;
+
+import dev.playerblair.manga_library.model.LabeledEnum;
+import dev.playerblair.manga_library.util.EnumLabelCodec;
+import dev.playerblair.manga_library.util.EnumStorageFormat;
+import dev.playerblair.manga_library.util.UnknownLabelPolicy;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+
+final class BsonValues {
+
+    private BsonValues() {
+    }
+
+    static String readString(BsonReader reader) {
+        if (reader.getCurrentBsonType() == BsonType.STRING) {
+            return reader.readString();
+        }
+        reader.skipValue();
+        return null;
+    }
+
+    static long readLong(BsonReader reader) {
+        return switch (reader.getCurrentBsonType()) {
+            case INT32 -> reader.readInt32();
+            case INT64 -> reader.readInt64();
+            case DOUBLE -> (long) reader.readDouble();
+            default -> {
+                reader.skipValue();
+                yield 0;
+            }
+        };
+    }
+
+    static int readInt(BsonReader reader) {
+        return (int) readLong(reader);
+    }
+
+    static <E extends Enum<E> & LabeledEnum> E readEnum(BsonReader reader, EnumLabelCodec<E> labels,
+                                                        UnknownLabelPolicy policy) {
+        return switch (reader.getCurrentBsonType()) {
+            case STRING -> labels.decodeName(reader.readString(), policy);
+            case INT32, INT64, DOUBLE -> labels.decodeCode(readInt(reader), policy);
+            default -> {
+                reader.skipValue();
+                yield null;
+            }
+        };
+    }
+
+    static void writeString(BsonWriter writer, String name, String value) {
+        if (value == null) {
+            writer.writeNull(name);
+        } else {
+            writer.writeString(name, value);
+        }
+    }
+
+    static <E extends Enum<E> & LabeledEnum> void writeEnum(BsonWriter writer, String name, EnumLabelCodec<E> labels,
+                                                            E value, EnumStorageFormat format) {
+        if (value == null) {
+            writer.writeNull(name);
+        } else if (format == EnumStorageFormat.CODES) {
+            writer.writeInt32(name, labels.code(value));
+        } else {
+            writer.writeString(name, value.name());
+        }
+    }
+}
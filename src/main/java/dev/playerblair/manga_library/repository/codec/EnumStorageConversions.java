@@ -0,0 +1,105 @@
+package dev.playerblair.manga_library.repository.codec;
+
+import dev.playerblair.manga_library.model.*;
+import dev.playerblair.manga_library.util.EnumLabelCodec;
+import dev.playerblair.manga_library.util.EnumStorageFormat;
+import dev.playerblair.manga_library.util.UnknownLabelPolicy;
+import org.springframework.data.convert.PropertyValueConverter;
+import org.springframework.data.mongodb.core.convert.MongoConversionContext;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public final class EnumStorageConversions {
+
+    private EnumStorageConversions() {
+    }
+
+    public static MongoCustomConversions customConversions(UnknownLabelPolicy policy, EnumStorageFormat format) {
+        return MongoCustomConversions.create(adapter -> {
+            adapter.registerConverters(List.of(
+                    Genre.labels().mongoReader(policy),
+                    Status.labels().mongoReader(policy),
+                    Type.labels().mongoReader(policy),
+                    ProgressType.labels().mongoReader(policy)
+            ));
+            adapter.configurePropertyConversions(registrar -> {
+                for (Class<?> type : List.of(MangaMetadata.class, Manga.class, LibraryEntry.class)) {
+                    // genres are read as a whole in both formats, so names skipped by the policy leave no nulls
+                    registrar.registerConverter(type, "genres", new GenresConverter(policy, format));
+                    if (format == EnumStorageFormat.CODES) {
+                        registrar.registerConverter(type, "type", new EnumValueConverter<>(Type.labels(), policy, format))
+                                .registerConverter(type, "status", new EnumValueConverter<>(Status.labels(), policy, format));
+                    }
+                }
+                if (format == EnumStorageFormat.CODES) {
+                    registrar.registerConverter(UserProgress.class, "progress",
+                            new EnumValueConverter<>(ProgressType.labels(), policy, format));
+                }
+            });
+        });
+    }
+
+    public static <E extends Enum<E> & LabeledEnum> Object stored(EnumLabelCodec<E> labels, E value, EnumStorageFormat format) {
+        if (value == null) {
+            return null;
+        }
+        return format == EnumStorageFormat.CODES ? labels.code(value) : value.name();
+    }
+
+    public static Object storedGenres(List<Genre> genres, EnumStorageFormat format) {
+        if (genres == null) {
+            return null;
+        }
+        return format == EnumStorageFormat.CODES ? Genre.labels().mask(genres) : genres.stream().map(Enum::name).toList();
+    }
+
+    public static List<Genre> readGenres(Object value, UnknownLabelPolicy policy) {
+        if (value instanceof Number mask) {
+            return Genre.labels().decodeMask(mask.longValue(), policy);
+        }
+        if (!(value instanceof List<?> names)) {
+            return null;
+        }
+
+        List<Genre> genres = new ArrayList<>(names.size());
+        for (Object name : names) {
+            Genre genre = Genre.labels().decodeStored(name, policy);
+            if (genre != null) {
+                genres.add(genre);
+            }
+        }
+        return genres;
+    }
+
+    private record EnumValueConverter<E extends Enum<E> & LabeledEnum>(EnumLabelCodec<E> labels,
+                                                                        UnknownLabelPolicy policy,
+                                                                        EnumStorageFormat format)
+            implements PropertyValueConverter<E, Object, MongoConversionContext> {
+
+        @Override
+        public E read(Object value, MongoConversionContext context) {
+            return labels.decodeStored(value, policy);
+        }
+
+        @Override
+        public Object write(E value, MongoConversionContext context) {
+            return stored(labels, value, format);
+        }
+    }
+
+    private record GenresConverter(UnknownLabelPolicy policy, EnumStorageFormat format)
+            implements PropertyValueConverter<List<Genre>, Object, MongoConversionContext> {
+
+        @Override
+        public List<Genre> read(Object value, MongoConversionContext context) {
+            return readGenres(value, policy);
+        }
+
+        @Override
+        public Object write(List<Genre> value, MongoConversionContext context) {
+            return storedGenres(value, format);
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package dev.playerblair.manga_library.repository.codec;
+
+import dev.playerblair.manga_library.model.*;
+import dev.playerblair.manga_library.util.EnumStorageFormat;
+import dev.playerblair.manga_library.util.UnknownLabelPolicy;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class MangaCodec implements Codec<Manga> {
+
+    private final AuthorCodec authorCodec;
+    private final UserProgressCodec progressCodec;
+    private final UnknownLabelPolicy policy;
+    private final EnumStorageFormat format;
+
+    public MangaCodec(AuthorCodec authorCodec, UserProgressCodec progressCodec, UnknownLabelPolicy policy,
+                      EnumStorageFormat format) {
+        this.authorCodec = authorCodec;
+        this.progressCodec = progressCodec;
+        this.policy = policy;
+        this.format = format;
+    }
+
+    @Override
+    public Manga decode(BsonReader reader, DecoderContext decoderContext) {
+        Long malId = null;
+        String title = null;
+        Type type = null;
+        int chapters = 0;
+        int volumes = 0;
+        Status status = null;
+        String synopsis = null;
+        List<Author> authors = null;
+        List<Genre> genres = null;
+        String url = null;
+        UserProgress progress = null;
+
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            switch (reader.readName()) {
+                case "_id" -> malId = BsonValues.readLong(reader);
+                case "title" -> title = BsonValues.readString(reader);
+                case "type" -> type = BsonValues.readEnum(reader, Type.labels(), policy);
+                case "chapters" -> chapters = BsonValues.readInt(reader);
+                case "volumes" -> volumes = BsonValues.readInt(reader);
+                case "status" -> status = BsonValues.readEnum(reader, Status.labels(), policy);
+                case "synopsis" -> synopsis = BsonValues.readString(reader);
+                case "authors" -> authors = readAuthors(reader, decoderContext);
+                case "genres" -> genres = readGenres(reader);
+                case "url" -> url = BsonValues.readString(reader);
+                case "progress" -> progress = reader.getCurrentBsonType() == BsonType.DOCUMENT
+                        ? progressCodec.decode(reader, decoderContext)
+                        : skip(reader);
+                default -> reader.skipValue();
+            }
+        }
+        reader.readEndDocument();
+        return new Manga(malId, title, type, chapters, volumes, status, synopsis, authors, genres, url, progress);
+    }
+
+    @Override
+    public void encode(BsonWriter writer, Manga manga, EncoderContext encoderContext) {
+        writer.writeStartDocument();
+        writer.writeInt64("_id", manga.malId());
+        BsonValues.writeString(writer, "title", manga.title());
+        BsonValues.writeEnum(writer, "type", Type.labels(), manga.type(), format);
+        writer.writeInt32("chapters", manga.chapters());
+        writer.writeInt32("volumes", manga.volumes());
+        BsonValues.writeEnum(writer, "status", Status.labels(), manga.status(), format);
+        BsonValues.writeString(writer, "synopsis", manga.synopsis());
+        if (manga.authors() != null) {
+            writer.writeStartArray("authors");
+            for (Author author : manga.authors()) {
+                authorCodec.encode(writer, author, encoderContext);
+            }
+            writer.writeEndArray();
+        }
+        if (manga.genres() != null && format == EnumStorageFormat.CODES) {
+            writer.writeInt64("genres", Genre.labels().mask(manga.genres()));
+        } else if (manga.genres() != null) {
+            writer.writeStartArray("genres");
+            for (Genre genre : manga.genres()) {
+                writer.writeString(genre.name());
+            }
+            writer.writeEndArray();
+        }
+        BsonValues.writeString(writer, "url", manga.url());
+        if (manga.progress() != null) {
+            writer.writeName("progress");
+            progressCodec.encode(writer, manga.progress(), encoderContext);
+        }
+        writer.writeEndDocument();
+    }
+
+    @Override
+    public Class<Manga> getEncoderClass() {
+        return Manga.class;
+    }
+
+    private List<Author> readAuthors(BsonReader reader, DecoderContext decoderContext) {
+        if (reader.getCurrentBsonType() != BsonType.ARRAY) {
+            return skip(reader);
+        }
+
+        List<Author> authors = new ArrayList<>();
+        reader.readStartArray();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            authors.add(authorCodec.decode(reader, decoderContext));
+        }
+        reader.readEndArray();
+        return authors;
+    }
+
+    private List<Genre> readGenres(BsonReader reader) {
+        if (reader.getCurrentBsonType() == BsonType.INT64 || reader.getCurrentBsonType() == BsonType.INT32) {
+            return Genre.labels().decodeMask(BsonValues.readLong(reader), policy);
+        }
+        if (reader.getCurrentBsonType() != BsonType.ARRAY) {
+            return skip(reader);
+        }
+
+        List<Genre> genres = new ArrayList<>();
+        reader.readStartArray();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            Genre genre = BsonValues.readEnum(reader, Genre.labels(), policy);
+            if (genre != null) {
+                genres.add(genre);
+            }
+        }
+        reader.readEndArray();
+        return genres;
+    }
+
+    private static <T> T skip(BsonReader reader) {
+        reader.skipValue();
+        return null;
+    }
+}
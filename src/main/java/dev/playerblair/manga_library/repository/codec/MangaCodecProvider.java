@@ -0,0 +1,44 @@
+package dev.playerblair.manga_library.repository.codec;
+
+import dev.playerblair.manga_library.model.Author;
+import dev.playerblair.manga_library.model.Manga;
+import dev.playerblair.manga_library.model.UserProgress;
+import dev.playerblair.manga_library.util.EnumStorageFormat;
+import dev.playerblair.manga_library.util.UnknownLabelPolicy;
+import org.bson.codecs.Codec;
+import org.bson.codecs.configuration.CodecProvider;
+import org.bson.codecs.configuration.CodecRegistry;
+
+public class MangaCodecProvider implements CodecProvider {
+
+    private final AuthorCodec authorCodec;
+    private final UserProgressCodec progressCodec;
+    private final MangaCodec mangaCodec;
+    private final EnumStorageFormat storageFormat;
+
+    public MangaCodecProvider(UnknownLabelPolicy policy, EnumStorageFormat storageFormat) {
+        this.authorCodec = new AuthorCodec();
+        this.progressCodec = new UserProgressCodec(policy, storageFormat);
+        this.mangaCodec = new MangaCodec(authorCodec, progressCodec, policy, storageFormat);
+        this.storageFormat = storageFormat;
+    }
+
+    public EnumStorageFormat storageFormat() {
+        return storageFormat;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Codec<T> get(Class<T> clazz, CodecRegistry registry) {
+        if (clazz == Manga.class) {
+            return (Codec<T>) mangaCodec;
+        }
+        if (clazz == Author.class) {
+            return (Codec<T>) authorCodec;
+        }
+        if (clazz == UserProgress.class) {
+            return (Codec<T>) progressCodec;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,59 @@
+package dev.playerblair.manga_library.repository.codec;
+
+import dev.playerblair.manga_library.model.ProgressType;
+import dev.playerblair.manga_library.model.UserProgress;
+import dev.playerblair.manga_library.util.EnumStorageFormat;
+import dev.playerblair.manga_library.util.UnknownLabelPolicy;
+import org.bson.BsonReader;
+import org.bson.BsonType;
+import org.bson.BsonWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+
+public class UserProgressCodec implements Codec<UserProgress> {
+
+    private final UnknownLabelPolicy policy;
+    private final EnumStorageFormat format;
+
+    public UserProgressCodec(UnknownLabelPolicy policy, EnumStorageFormat format) {
+        this.policy = policy;
+        this.format = format;
+    }
+
+    @Override
+    public UserProgress decode(BsonReader reader, DecoderContext decoderContext) {
+        ProgressType progress = null;
+        int chaptersRead = 0;
+        int volumesRead = 0;
+        int rating = 0;
+
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            switch (reader.readName()) {
+                case "progress" -> progress = BsonValues.readEnum(reader, ProgressType.labels(), policy);
+                case "chaptersRead" -> chaptersRead = BsonValues.readInt(reader);
+                case "volumesRead" -> volumesRead = BsonValues.readInt(reader);
+                case "rating" -> rating = BsonValues.readInt(reader);
+                default -> reader.skipValue();
+            }
+        }
+        reader.readEndDocument();
+        return new UserProgress(progress, chaptersRead, volumesRead, rating);
+    }
+
+    @Override
+    public void encode(BsonWriter writer, UserProgress progress, EncoderContext encoderContext) {
+        writer.writeStartDocument();
+        BsonValues.writeEnum(writer, "progress", ProgressType.labels(), progress.progress(), format);
+        writer.writeInt32("chaptersRead", progress.chaptersRead());
+        writer.writeInt32("volumesRead", progress.volumesRead());
+        writer.writeInt32("rating", progress.rating());
+        writer.writeEndDocument();
+    }
+
+    @Override
+    public Class<UserProgress> getEncoderClass() {
+        return UserProgress.class;
+    }
+}
@@ -0,0 +1,76 @@
+package dev.playerblair.manga_library.repository.impl;
+
+import dev.playerblair.manga_library.model.LibraryCommit;
+import dev.playerblair.manga_library.model.LibraryVersion;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+/**
+ * Tracks which allocated library versions have been written, across every instance sharing the database. A write
+ * records a commit marker for its versions once it has returned, and readers only see versions up to the first one
+ * without a marker. The contiguous prefix is kept as a watermark so markers below it can be dropped.
+ * <p>
+ * A writer that dies between allocating and marking its versions would hold the feed back forever, so a gap is
+ * skipped once a later version has been committed for longer than {@link #ABANDONED_AFTER}.
+ */
+class CommittedVersions {
+
+    static final String WATERMARK_ID = "committed";
+    static final Duration ABANDONED_AFTER = Duration.ofMinutes(1);
+
+    private static final int SCAN_LIMIT = 1000;
+
+    private final MongoTemplate mongoTemplate;
+    private final Clock clock;
+
+    CommittedVersions(MongoTemplate mongoTemplate) {
+        this(mongoTemplate, Clock.systemUTC());
+    }
+
+    CommittedVersions(MongoTemplate mongoTemplate, Clock clock) {
+        this.mongoTemplate = mongoTemplate;
+        this.clock = clock;
+    }
+
+    void commit(long firstVersion, long lastVersion) {
+        mongoTemplate.insert(new LibraryCommit(firstVersion, lastVersion, clock.instant()));
+    }
+
+    long committed(long allocated) {
+        LibraryVersion stored = mongoTemplate.findById(WATERMARK_ID, LibraryVersion.class);
+        long watermark = stored == null ? 0 : stored.version();
+        List<LibraryCommit> pending = mongoTemplate.find(
+                query(where("_id").gt(watermark)).with(Sort.by(Sort.Direction.ASC, "_id")).limit(SCAN_LIMIT),
+                LibraryCommit.class
+        );
+
+        long advanced = advance(watermark, pending, clock.instant().minus(ABANDONED_AFTER));
+        if (advanced > watermark) {
+            mongoTemplate.upsert(query(where("_id").is(WATERMARK_ID)), new Update().max("version", advanced),
+                    LibraryVersion.class);
+            mongoTemplate.remove(query(where("_id").lte(advanced)), LibraryCommit.class);
+        }
+        // the counter only falls behind the watermark when the version document is dropped
+        return Math.min(advanced, allocated);
+    }
+
+    static long advance(long watermark, List<LibraryCommit> pending, Instant abandonedBefore) {
+        long next = watermark + 1;
+        for (LibraryCommit commit : pending) {
+            if (commit.firstVersion() > next && commit.committedAt().isAfter(abandonedBefore)) {
+                break;
+            }
+            next = Math.max(next, commit.lastVersion() + 1);
+        }
+        return next - 1;
+    }
+}
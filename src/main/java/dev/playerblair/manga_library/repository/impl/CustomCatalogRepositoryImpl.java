@@ -0,0 +1,44 @@
+package dev.playerblair.manga_library.repository.impl;
+
+import dev.playerblair.manga_library.model.CatalogEntry;
+import dev.playerblair.manga_library.repository.CustomCatalogRepository;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.TextIndexDefinition;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.TextCriteria;
+import org.springframework.data.mongodb.core.query.TextQuery;
+
+import java.util.List;
+
+public class CustomCatalogRepositoryImpl implements CustomCatalogRepository {
+
+    private final MongoTemplate mongoTemplate;
+
+    public CustomCatalogRepositoryImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public Slice<CatalogEntry> searchByTitle(String query, Pageable pageable) {
+        Query textQuery = TextQuery.queryText(TextCriteria.forDefaultLanguage().matching(query))
+                .sortByScore()
+                .with(Sort.by("_id"))
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1);
+
+        List<CatalogEntry> results = mongoTemplate.find(textQuery, CatalogEntry.class);
+        boolean hasNext = results.size() > pageable.getPageSize();
+
+        return new SliceImpl<>(hasNext ? results.subList(0, pageable.getPageSize()) : results, pageable, hasNext);
+    }
+
+    @Override
+    public void ensureTitleIndex() {
+        mongoTemplate.indexOps(CatalogEntry.class)
+                .ensureIndex(new TextIndexDefinition.TextIndexDefinitionBuilder().onField("title").build());
+    }
+}
@@ -0,0 +1,703 @@
+package dev.playerblair.manga_library.repository.impl;
+
+import com.mongodb.MongoNamespace;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import dev.playerblair.manga_library.model.Genre;
+import dev.playerblair.manga_library.model.LabeledEnum;
+import dev.playerblair.manga_library.model.LibraryChange;
+import dev.playerblair.manga_library.model.LibraryEntry;
+import dev.playerblair.manga_library.model.LibraryState;
+import dev.playerblair.manga_library.model.LibraryTombstone;
+import dev.playerblair.manga_library.model.LibraryVersion;
+import dev.playerblair.manga_library.model.Manga;
+import dev.playerblair.manga_library.model.MangaMetadata;
+import dev.playerblair.manga_library.model.ProgressType;
+import dev.playerblair.manga_library.model.Status;
+import dev.playerblair.manga_library.model.TenantUsage;
+import dev.playerblair.manga_library.model.Type;
+import dev.playerblair.manga_library.repository.MangaRepository;
+import dev.playerblair.manga_library.repository.codec.EnumStorageConversions;
+import dev.playerblair.manga_library.repository.codec.MangaCodecProvider;
+import dev.playerblair.manga_library.request.FilterParams;
+import dev.playerblair.manga_library.tenant.TenantContext;
+import dev.playerblair.manga_library.util.EnumLabelCodec;
+import dev.playerblair.manga_library.util.EnumStorageFormat;
+import dev.playerblair.manga_library.util.MangaMapper;
+import dev.playerblair.manga_library.util.UnknownLabelPolicy;
+import io.micrometer.core.annotation.Timed;
+import org.bson.BsonType;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.configuration.CodecRegistries;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperation;
+import org.springframework.data.mongodb.core.aggregation.AggregationOperationContext;
+import org.springframework.data.mongodb.core.aggregation.FieldLookupPolicy;
+import org.springframework.data.mongodb.core.aggregation.ObjectOperators;
+import org.springframework.data.mongodb.core.aggregation.TypeBasedAggregationOperationContext;
+import org.springframework.data.mongodb.core.convert.QueryMapper;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+import static org.springframework.data.mongodb.core.query.Query.query;
+
+@Repository
+@Timed("manga.repository")
+public class MangaRepositoryImpl implements MangaRepository {
+
+    static final String LEGACY_COLLECTION = "manga";
+    static final String MIGRATED_COLLECTION = "manga_legacy";
+
+    private static final Logger log = LoggerFactory.getLogger(MangaRepositoryImpl.class);
+
+    private static final int DUPLICATE_KEY = 11000;
+    private static final DecoderContext DECODER_CONTEXT = DecoderContext.builder().build();
+
+    private final MongoTemplate mongoTemplate;
+    private final String libraryCollection;
+    private final String metadataCollection;
+    private final MangaCodecProvider codecProvider;
+    private final Codec<Manga> mangaCodec;
+    private final EnumStorageFormat storageFormat;
+    private final AggregationOperationContext entryContext;
+    private final CommittedVersions committedVersions;
+
+    public MangaRepositoryImpl(MongoTemplate mongoTemplate, MangaCodecProvider codecProvider) {
+        this.mongoTemplate = mongoTemplate;
+        this.codecProvider = codecProvider;
+        this.mangaCodec = codecProvider.get(Manga.class, null);
+        this.storageFormat = codecProvider.storageFormat();
+        this.libraryCollection = mongoTemplate.getCollectionName(LibraryEntry.class);
+        this.metadataCollection = mongoTemplate.getCollectionName(MangaMetadata.class);
+        this.committedVersions = new CommittedVersions(mongoTemplate);
+        // pipelines run on the driver to decode with the Manga codec, but still map their criteria like templates do
+        this.entryContext = new TypeBasedAggregationOperationContext(LibraryEntry.class,
+                mongoTemplate.getConverter().getMappingContext(), new QueryMapper(mongoTemplate.getConverter()),
+                FieldLookupPolicy.relaxed());
+    }
+
+    @Override
+    public List<Manga> findAll() {
+        return aggregateManga(libraryPipeline(tenantCriteria(), null));
+    }
+
+    @Override
+    public Optional<Manga> findById(Long malId) {
+        LibraryEntry entry = mongoTemplate.findById(LibraryEntry.idOf(tenant(), malId), LibraryEntry.class);
+        if (entry == null) {
+            return Optional.empty();
+        }
+
+        return Optional.ofNullable(mongoTemplate.findById(malId, MangaMetadata.class))
+                .map(metadata -> MangaMapper.toManga(metadata, entry));
+    }
+
+    @Override
+    public Optional<LibraryEntry> findEntry(Long malId) {
+        return Optional.ofNullable(mongoTemplate.findById(LibraryEntry.idOf(tenant(), malId), LibraryEntry.class));
+    }
+
+    @Override
+    public LibraryState findState() {
+        Aggregation state = Aggregation.newAggregation(
+                Aggregation.match(tenantCriteria()),
+                Aggregation.group().count().as("size").max("version").as("version")
+        );
+        return Objects.requireNonNullElseGet(
+                mongoTemplate.aggregate(state, libraryCollection, LibraryState.class).getUniqueMappedResult(),
+                LibraryState::empty
+        );
+    }
+
+    @Override
+    public long count() {
+        return mongoTemplate.count(query(tenantCriteria()), LibraryEntry.class);
+    }
+
+    @Override
+    public long countReservedEntries() {
+        TenantUsage usage = mongoTemplate.findById(tenant(), TenantUsage.class);
+        return usage == null ? seedUsage() : usage.size();
+    }
+
+    @Override
+    public boolean reserveEntries(int count, long limit) {
+        if (!mongoTemplate.exists(query(where("_id").is(tenant())), TenantUsage.class)) {
+            seedUsage();
+        }
+        return mongoTemplate.updateFirst(
+                query(where("_id").is(tenant()).and("size").lte(limit - count)),
+                new Update().inc("size", count),
+                TenantUsage.class
+        ).getModifiedCount() == 1;
+    }
+
+    @Override
+    public void releaseEntries(int count) {
+        if (count > 0) {
+            mongoTemplate.updateFirst(query(where("_id").is(tenant())), new Update().inc("size", -count), TenantUsage.class);
+        }
+    }
+
+    @Override
+    public Manga save(Manga manga) {
+        MangaMetadata stored = mongoTemplate.findById(manga.malId(), MangaMetadata.class);
+        return versioned(1, version -> {
+            Instant modifiedAt = Instant.now();
+            writeMetadata(stored, MangaMapper.toMetadata(manga), version, modifiedAt);
+            mongoTemplate.save(MangaMapper.toLibraryEntry(tenant(), manga, version, modifiedAt));
+            mongoTemplate.remove(query(where("_id").is(LibraryEntry.idOf(tenant(), manga.malId()))), LibraryTombstone.class);
+            return manga;
+        });
+    }
+
+    @Override
+    public Manga saveMetadata(Manga manga) {
+        MangaMetadata stored = mongoTemplate.findById(manga.malId(), MangaMetadata.class);
+        MangaMetadata metadata = MangaMapper.toMetadata(manga);
+        if (metadata.equals(stored)) {
+            return manga;
+        }
+
+        return versioned(1, version -> {
+            writeMetadata(stored, metadata, version, Instant.now());
+            return manga;
+        });
+    }
+
+    @Override
+    public Manga saveProgress(Manga manga) {
+        return versioned(1, version -> {
+            mongoTemplate.save(MangaMapper.toLibraryEntry(tenant(), manga, version, Instant.now()));
+            return manga;
+        });
+    }
+
+    @Override
+    public void delete(Manga manga) {
+        String tenant = tenant();
+        String id = LibraryEntry.idOf(tenant, manga.malId());
+        versioned(1, version -> {
+            if (mongoTemplate.remove(query(where("_id").is(id)), LibraryEntry.class).getDeletedCount() > 0) {
+                releaseEntries(1);
+            }
+            return mongoTemplate.save(new LibraryTombstone(id, tenant, manga.malId(), version, Instant.now()));
+        });
+    }
+
+    @Override
+    public void deleteAll() {
+        String tenant = tenant();
+        Query entries = query(tenantCriteria());
+        entries.fields().include("malId");
+        List<LibraryEntry> removed = mongoTemplate.find(entries, LibraryEntry.class);
+        if (removed.isEmpty()) {
+            return;
+        }
+
+        versioned(removed.size(), lastVersion -> {
+            long version = lastVersion - removed.size();
+            Instant deletedAt = Instant.now();
+            BulkOperations tombstones = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, LibraryTombstone.class);
+            for (LibraryEntry entry : removed) {
+                tombstones.replaceOne(
+                        query(where("_id").is(entry.id())),
+                        new LibraryTombstone(entry.id(), tenant, entry.malId(), ++version, deletedAt),
+                        FindAndReplaceOptions.options().upsert()
+                );
+            }
+            tombstones.execute();
+            long deleted = mongoTemplate.remove(query(tenantCriteria()), LibraryEntry.class).getDeletedCount();
+            releaseEntries((int) deleted);
+            return deleted;
+        });
+    }
+
+    @Override
+    public List<Manga> findByDynamicCriteria(FilterParams filter) {
+        if (filter == null) {
+            return findAll();
+        }
+
+        Criteria entryCriteria = tenantCriteria();
+        if (filter.progress() != null) {
+            entryCriteria.and("progress.progress").is(filter.progress());
+        }
+
+        if (filter.type() != null) {
+            entryCriteria.and("type").is(filter.type());
+        }
+
+        if (filter.status() != null) {
+            entryCriteria.and("status").is(filter.status());
+        }
+
+        if (filter.genres() != null && !filter.genres().isEmpty()) {
+            if (storageFormat == EnumStorageFormat.CODES) {
+                // the genres converter writes the list as the stored mask
+                entryCriteria.and("genres").is(new Document("$bitsAllSet", filter.genres()));
+            } else {
+                entryCriteria.and("genres").all(filter.genres());
+            }
+        }
+
+        List<Criteria> metadataCriteria = new ArrayList<>();
+
+        if (filter.title() != null && !filter.title().isBlank()) {
+            metadataCriteria.add(where("metadata.title").regex(filter.title(), "i"));
+        }
+
+        if (filter.author() != null && !filter.author().isBlank()) {
+            metadataCriteria.add(where("metadata.authors.name").regex(filter.author(), "i"));
+        }
+
+        Criteria joinedCriteria = metadataCriteria.isEmpty()
+                ? null
+                : new Criteria().andOperator(metadataCriteria);
+        return aggregateManga(libraryPipeline(entryCriteria, joinedCriteria));
+    }
+
+    @Override
+    public Stream<Manga> streamAll() {
+        MongoCursor<Manga> cursor = mongoTemplate.execute(libraryCollection, collection ->
+                withMangaCodecs(collection).aggregate(libraryPipeline(tenantCriteria(), null)
+                        .toPipeline(entryContext), Manga.class).cursor());
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(cursor, Spliterator.ORDERED), false)
+                .onClose(cursor::close);
+    }
+
+    @Override
+    public List<Manga> insertUnordered(List<Manga> batch) {
+        if (batch.isEmpty()) {
+            return List.of();
+        }
+
+        String tenant = tenant();
+        return versioned(batch.size(), lastVersion -> insertEntries(tenant, batch, lastVersion - batch.size() + 1));
+    }
+
+    @Override
+    public LibraryVersion findVersion() {
+        LibraryVersion stored = storedVersion();
+        return new LibraryVersion(stored.id(), committedVersions.committed(stored.version()), stored.purgedVersion());
+    }
+
+    @Override
+    public List<LibraryChange> findChangesSince(long version, int limit) {
+        long committed = committedVersions.committed(storedVersion().version());
+        Aggregation changedEntries = Aggregation.newAggregation(
+                Aggregation.match(tenantCriteria().and("version").gt(version).lte(committed)),
+                Aggregation.sort(Sort.Direction.ASC, "version"),
+                Aggregation.limit(limit),
+                Aggregation.lookup(metadataCollection, "malId", "_id", "metadata"),
+                Aggregation.unwind("metadata"),
+                Aggregation.replaceRoot(ObjectOperators.valueOf("metadata")
+                        .mergeWith(new Document("progress", "$progress").append("version", "$version")))
+        );
+
+        List<LibraryChange> changes = new ArrayList<>();
+        List<RawBsonDocument> documents = mongoTemplate.execute(libraryCollection, collection -> collection
+                .aggregate(changedEntries.toPipeline(entryContext), RawBsonDocument.class)
+                .into(new ArrayList<>()));
+        for (RawBsonDocument document : documents) {
+            Manga manga = mangaCodec.decode(document.asBsonReader(), DECODER_CONTEXT);
+            changes.add(new LibraryChange(document.getNumber("version").longValue(), manga.malId(), manga));
+        }
+
+        Query deletedEntries = query(tenantCriteria().and("version").gt(version).lte(committed))
+                .with(Sort.by(Sort.Direction.ASC, "version"))
+                .limit(limit);
+        for (LibraryTombstone tombstone : mongoTemplate.find(deletedEntries, LibraryTombstone.class)) {
+            changes.add(new LibraryChange(tombstone.version(), tombstone.malId(), null));
+        }
+
+        changes.sort(Comparator.comparingLong(LibraryChange::version));
+        return changes.size() > limit ? changes.subList(0, limit) : changes;
+    }
+
+    @Override
+    public long purgeTombstones(Instant deletedBefore) {
+        Query expired = query(where("deletedAt").lt(deletedBefore))
+                .with(Sort.by(Sort.Direction.DESC, "version"))
+                .limit(1);
+        LibraryTombstone newest = mongoTemplate.findOne(expired, LibraryTombstone.class);
+        if (newest == null) {
+            return 0;
+        }
+
+        mongoTemplate.upsert(query(where("_id").is(LibraryVersion.ID)),
+                new Update().max("purgedVersion", newest.version()), LibraryVersion.class);
+        return mongoTemplate.remove(query(where("deletedAt").lt(deletedBefore).and("version").lte(newest.version())),
+                LibraryTombstone.class).getDeletedCount();
+    }
+
+    @Override
+    public List<String> findTenants() {
+        return mongoTemplate.findDistinct(new Query(), "tenant", LibraryEntry.class, String.class);
+    }
+
+    @Override
+    public void ensureIndexes() {
+        IndexOperations indexOps = mongoTemplate.indexOps(LibraryEntry.class);
+        indexOps.ensureIndex(new Index().on("tenant", Sort.Direction.ASC).on("malId", Sort.Direction.ASC).unique());
+        indexOps.ensureIndex(new Index().on("tenant", Sort.Direction.ASC).on("progress.progress", Sort.Direction.ASC));
+        indexOps.ensureIndex(new Index().on("tenant", Sort.Direction.ASC).on("type", Sort.Direction.ASC));
+        indexOps.ensureIndex(new Index().on("tenant", Sort.Direction.ASC).on("status", Sort.Direction.ASC));
+        indexOps.ensureIndex(new Index().on("tenant", Sort.Direction.ASC).on("genres", Sort.Direction.ASC));
+        indexOps.ensureIndex(new Index().on("tenant", Sort.Direction.ASC).on("version", Sort.Direction.ASC));
+        indexOps.ensureIndex(new Index().on("malId", Sort.Direction.ASC));
+
+        IndexOperations tombstoneIndexOps = mongoTemplate.indexOps(LibraryTombstone.class);
+        tombstoneIndexOps.ensureIndex(new Index().on("tenant", Sort.Direction.ASC).on("version", Sort.Direction.ASC));
+        tombstoneIndexOps.ensureIndex(new Index().on("deletedAt", Sort.Direction.ASC));
+    }
+
+    @Override
+    public int migrateLegacyCollection(int batchSize) {
+        if (!mongoTemplate.collectionExists(LEGACY_COLLECTION)) {
+            return 0;
+        }
+
+        int migrated = 0;
+        List<Manga> batch = new ArrayList<>(batchSize);
+        try (Stream<Manga> legacy = mongoTemplate.stream(new Query(), Manga.class, LEGACY_COLLECTION)) {
+            Iterator<Manga> iterator = legacy.iterator();
+            while (iterator.hasNext()) {
+                batch.add(iterator.next());
+                if (batch.size() == batchSize) {
+                    migrated += upsertLegacyBatch(batch);
+                }
+            }
+        }
+        migrated += upsertLegacyBatch(batch);
+
+        String target = mongoTemplate.collectionExists(MIGRATED_COLLECTION)
+                ? MIGRATED_COLLECTION + "_" + Instant.now().toEpochMilli()
+                : MIGRATED_COLLECTION;
+        mongoTemplate.getCollection(LEGACY_COLLECTION).renameCollection(
+                new MongoNamespace(mongoTemplate.getDb().getName(), target));
+        // migrated entries were written without a reservation, the next quota check recounts them
+        mongoTemplate.remove(query(where("_id").is(TenantContext.DEFAULT_TENANT)), TenantUsage.class);
+        return migrated;
+    }
+
+    @Override
+    public int migrateEnumStorage(int batchSize) {
+        boolean toCodes = storageFormat == EnumStorageFormat.CODES;
+        int stale = (toCodes ? BsonType.STRING : BsonType.INT32).getValue();
+        Criteria staleMetadata = new Criteria().orOperator(
+                where("type").type(stale),
+                where("status").type(stale),
+                where("genres").type((toCodes ? BsonType.ARRAY : BsonType.INT64).getValue())
+        );
+
+        Criteria staleEntries = new Criteria().orOperator(
+                where("progress.progress").type(stale),
+                where("type").type(stale),
+                where("status").type(stale),
+                where("genres").type((toCodes ? BsonType.ARRAY : BsonType.INT64).getValue())
+        );
+
+        int migrated = recodeBatches(metadataCollection, staleMetadata, batchSize, this::recodeMetadata);
+        migrated += recodeBatches(libraryCollection, staleEntries, batchSize, this::recodeEntry);
+        return migrated;
+    }
+
+    @Override
+    public int migrateEntryFilterFields(int batchSize) {
+        return recodePages(libraryCollection, where("type").exists(false), batchSize, this::copyFilterFields);
+    }
+
+    private Update recodeMetadata(Document metadata) {
+        return filterFields(
+                Type.labels().decodeStored(metadata.get("type"), UnknownLabelPolicy.UNKNOWN),
+                Status.labels().decodeStored(metadata.get("status"), UnknownLabelPolicy.UNKNOWN),
+                EnumStorageConversions.readGenres(metadata.get("genres"), UnknownLabelPolicy.UNKNOWN)
+        );
+    }
+
+    private Update recodeEntry(Document entry) {
+        Object progress = entry.get("progress", Document.class).get("progress");
+        // entries written before the filter fields existed get them from migrateEntryFilterFields instead
+        Update update = entry.containsKey("type") ? recodeMetadata(entry) : new Update();
+        return update.set("progress.progress",
+                stored(ProgressType.labels(), ProgressType.labels().decodeStored(progress, UnknownLabelPolicy.FAIL)));
+    }
+
+    private Function<Document, Update> copyFilterFields(List<Document> entries) {
+        Map<Object, Document> metadata = new HashMap<>();
+        List<Object> malIds = entries.stream().map(entry -> entry.get("malId")).toList();
+        mongoTemplate.find(query(where("_id").in(malIds)), Document.class, metadataCollection)
+                .forEach(document -> metadata.put(document.get("_id"), document));
+
+        return entry -> {
+            Document source = metadata.get(entry.get("malId"));
+            if (source == null) {
+                throw new IllegalArgumentException("no metadata stored for manga " + entry.get("malId"));
+            }
+            return recodeMetadata(source);
+        };
+    }
+
+    private Update filterFields(Type type, Status status, List<Genre> genres) {
+        return Update.update("type", stored(Type.labels(), type))
+                .set("status", stored(Status.labels(), status))
+                .set("genres", EnumStorageConversions.storedGenres(genres, storageFormat));
+    }
+
+    private int recodeBatches(String collectionName, Criteria stale, int batchSize, Function<Document, Update> recode) {
+        return recodePages(collectionName, stale, batchSize, batch -> recode);
+    }
+
+    private int recodePages(String collectionName, Criteria stale, int batchSize,
+                            Function<List<Document>, Function<Document, Update>> recodePage) {
+        int recoded = 0;
+        Object lastId = null;
+        while (true) {
+            Criteria page = lastId == null ? stale : new Criteria().andOperator(stale, where("_id").gt(lastId));
+            List<Document> batch = mongoTemplate.find(
+                    query(page).with(Sort.by(Sort.Direction.ASC, "_id")).limit(batchSize),
+                    Document.class,
+                    collectionName
+            );
+            if (batch.isEmpty()) {
+                return recoded;
+            }
+
+            Function<Document, Update> recode = recodePage.apply(batch);
+            BulkOperations updates = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, collectionName);
+            int pending = 0;
+            for (Document document : batch) {
+                try {
+                    updates.updateOne(query(where("_id").is(document.get("_id"))), recode.apply(document));
+                    pending++;
+                } catch (IllegalArgumentException exception) {
+                    log.warn("Skipping {} document {} during storage migration: {}",
+                            collectionName, document.get("_id"), exception.getMessage());
+                }
+            }
+            if (pending > 0) {
+                updates.execute();
+                recoded += pending;
+            }
+            lastId = batch.getLast().get("_id");
+        }
+    }
+
+    private long seedUsage() {
+        long size = count();
+        mongoTemplate.upsert(query(where("_id").is(tenant())), new Update().setOnInsert("size", size), TenantUsage.class);
+        return size;
+    }
+
+    private <E extends Enum<E> & LabeledEnum> Object stored(EnumLabelCodec<E> labels, E value) {
+        return EnumStorageConversions.stored(labels, value, storageFormat);
+    }
+
+    /**
+     * Runs a write under freshly allocated versions, passing it the last of them. Readers do not see these
+     * versions, or any newer ones, until the write has returned and marked them committed.
+     */
+    private <T> T versioned(int count, LongFunction<T> write) {
+        long lastVersion = nextVersion(count);
+        try {
+            return write.apply(lastVersion);
+        } finally {
+            committedVersions.commit(lastVersion - count + 1, lastVersion);
+        }
+    }
+
+    private LibraryVersion storedVersion() {
+        return Objects.requireNonNullElseGet(
+                mongoTemplate.findById(LibraryVersion.ID, LibraryVersion.class),
+                LibraryVersion::initial
+        );
+    }
+
+    private long nextVersion(int count) {
+        LibraryVersion version = mongoTemplate.findAndModify(
+                query(where("_id").is(LibraryVersion.ID)),
+                new Update().inc("version", count),
+                FindAndModifyOptions.options().returnNew(true).upsert(true),
+                LibraryVersion.class
+        );
+        return version.version();
+    }
+
+    private List<Manga> aggregateManga(Aggregation aggregation) {
+        return mongoTemplate.execute(libraryCollection, collection -> withMangaCodecs(collection)
+                .aggregate(aggregation.toPipeline(entryContext), Manga.class)
+                .into(new ArrayList<>()));
+    }
+
+    private <T> MongoCollection<T> withMangaCodecs(MongoCollection<T> collection) {
+        CodecRegistry registry = CodecRegistries.fromRegistries(
+                CodecRegistries.fromProviders(codecProvider), collection.getCodecRegistry());
+        return collection.withCodecRegistry(registry);
+    }
+
+    private Aggregation libraryPipeline(Criteria entryCriteria, Criteria metadataCriteria) {
+        List<AggregationOperation> operations = new ArrayList<>();
+        operations.add(Aggregation.match(entryCriteria));
+        operations.add(Aggregation.lookup(metadataCollection, "malId", "_id", "metadata"));
+        operations.add(Aggregation.unwind("metadata"));
+        if (metadataCriteria != null) {
+            operations.add(Aggregation.match(metadataCriteria));
+        }
+        operations.add(Aggregation.replaceRoot(ObjectOperators.valueOf("metadata")
+                .mergeWith(new Document("progress", "$progress"))));
+        operations.add(Aggregation.project().andExclude("_class"));
+        return Aggregation.newAggregation(operations);
+    }
+
+    /**
+     * Metadata is shared by every tenant holding the title, so a change moves all of their entries to the new
+     * version, and rewrites the filter fields copied onto them when one of those changed. Unchanged metadata is
+     * not written at all.
+     */
+    private void writeMetadata(MangaMetadata stored, MangaMetadata metadata, long version, Instant modifiedAt) {
+        if (metadata.equals(stored)) {
+            return;
+        }
+
+        mongoTemplate.save(metadata);
+        boolean filterFieldsChanged = stored == null || stored.type() != metadata.type()
+                || stored.status() != metadata.status() || !stored.genres().equals(metadata.genres());
+        Update update = filterFieldsChanged
+                ? filterFields(metadata.type(), metadata.status(), metadata.genres())
+                : new Update();
+        mongoTemplate.updateMulti(
+                query(where("malId").is(metadata.malId())),
+                update.set("version", version).set("modifiedAt", modifiedAt),
+                libraryCollection
+        );
+    }
+
+    private List<Manga> insertEntries(String tenant, List<Manga> batch, long firstVersion) {
+        // entries take the metadata already shared with other tenants, an import only fills in titles not stored yet
+        insertMissingMetadata(batch);
+        Map<Long, MangaMetadata> metadata = new HashMap<>();
+        mongoTemplate.find(query(where("_id").in(batch.stream().map(Manga::malId).toList())), MangaMetadata.class)
+                .forEach(stored -> metadata.put(stored.malId(), stored));
+        List<Manga> stored = batch.stream()
+                .map(manga -> MangaMapper.toManga(metadata.get(manga.malId()), manga.progress()))
+                .toList();
+
+        Instant modifiedAt = Instant.now();
+        List<LibraryEntry> entries = new ArrayList<>(stored.size());
+        for (int i = 0; i < stored.size(); i++) {
+            entries.add(MangaMapper.toLibraryEntry(tenant, stored.get(i), firstVersion + i, modifiedAt));
+        }
+
+        List<Manga> inserted = new ArrayList<>(stored.size());
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, LibraryEntry.class)
+                    .insert(entries)
+                    .execute();
+            inserted.addAll(stored);
+        } catch (BulkOperationException exception) {
+            Set<Integer> rejected = new HashSet<>();
+            for (BulkWriteError error : exception.getErrors()) {
+                if (error.getCode() != DUPLICATE_KEY) {
+                    throw exception;
+                }
+                rejected.add(error.getIndex());
+            }
+
+            for (int i = 0; i < stored.size(); i++) {
+                if (!rejected.contains(i)) {
+                    inserted.add(stored.get(i));
+                }
+            }
+        }
+
+        if (!inserted.isEmpty()) {
+            List<String> ids = inserted.stream().map(manga -> LibraryEntry.idOf(tenant, manga.malId())).toList();
+            mongoTemplate.remove(query(where("_id").in(ids)), LibraryTombstone.class);
+        }
+        return inserted;
+    }
+
+    private int upsertLegacyBatch(List<Manga> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        String tenant = TenantContext.DEFAULT_TENANT;
+        Instant modifiedAt = Instant.now();
+        BulkOperations entries = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, LibraryEntry.class);
+        batch.forEach(manga -> entries.replaceOne(
+                query(where("_id").is(LibraryEntry.idOf(tenant, manga.malId()))),
+                MangaMapper.toLibraryEntry(tenant, manga, 0, modifiedAt),
+                FindAndReplaceOptions.options().upsert()
+        ));
+        entries.execute();
+        insertMissingMetadata(batch);
+
+        int size = batch.size();
+        batch.clear();
+        return size;
+    }
+
+    private void insertMissingMetadata(List<Manga> manga) {
+        if (manga.isEmpty()) {
+            return;
+        }
+
+        // raw collection name: the converted document already holds stored values
+        BulkOperations metadata = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, metadataCollection);
+        for (Manga item : manga) {
+            Document converted = new Document();
+            mongoTemplate.getConverter().write(MangaMapper.toMetadata(item), converted);
+            Update insertOnly = new Update();
+            converted.forEach((key, value) -> {
+                if (!"_id".equals(key)) {
+                    insertOnly.setOnInsert(key, value);
+                }
+            });
+            metadata.upsert(query(where("_id").is(item.malId())), insertOnly);
+        }
+
+        try {
+            metadata.execute();
+        } catch (BulkOperationException exception) {
+            // a concurrent upsert inserted the same title first, which is all this needed
+            if (exception.getErrors().stream().anyMatch(error -> error.getCode() != DUPLICATE_KEY)) {
+                throw exception;
+            }
+        }
+    }
+
+    private Criteria tenantCriteria() {
+        return where("tenant").is(tenant());
+    }
+
+    private String tenant() {
+        return TenantContext.current();
+    }
+}
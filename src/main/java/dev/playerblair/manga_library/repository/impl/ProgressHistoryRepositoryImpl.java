@@ -0,0 +1,77 @@
+package dev.playerblair.manga_library.repository.impl;
+
+import dev.playerblair.manga_library.model.ProgressEvent;
+import dev.playerblair.manga_library.model.ProgressType;
+import dev.playerblair.manga_library.repository.ProgressHistoryRepository;
+import dev.playerblair.manga_library.request.HistoryInterval;
+import dev.playerblair.manga_library.response.ReadingActivity;
+import dev.playerblair.manga_library.tenant.TenantContext;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.ConditionalOperators;
+import org.springframework.data.mongodb.core.aggregation.DateOperators;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.stereotype.Repository;
+
+import java.time.DayOfWeek;
+import java.time.Instant;
+import java.util.List;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+@Repository
+public class ProgressHistoryRepositoryImpl implements ProgressHistoryRepository {
+
+    private final MongoTemplate mongoTemplate;
+
+    public ProgressHistoryRepositoryImpl(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    @Override
+    public void ensureCollection() {
+        if (!mongoTemplate.collectionExists(ProgressEvent.class)) {
+            mongoTemplate.createCollection(ProgressEvent.class);
+        }
+    }
+
+    @Override
+    public void insert(ProgressEvent event) {
+        mongoTemplate.insert(event);
+    }
+
+    @Override
+    public List<ReadingActivity> findActivity(Long malId, Instant from, Instant to, HistoryInterval interval) {
+        Criteria criteria = where("subject.tenant").is(TenantContext.current());
+        if (malId != null) {
+            criteria.and("subject.malId").is(malId);
+        }
+        criteria.and("timestamp").gte(from).lt(to);
+
+        DateOperators.DateTrunc bucket = DateOperators.DateTrunc.truncateValueOf("timestamp").to(interval.unit());
+        if (interval == HistoryInterval.WEEK) {
+            bucket = bucket.startOfWeek(DayOfWeek.MONDAY);
+        }
+
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(criteria),
+                Aggregation.project("chaptersDelta", "volumesDelta")
+                        .and(bucket).as("bucket")
+                        .and(ConditionalOperators.when(where("progress").is(ProgressType.FINISHED.name())
+                                        .and("previousProgress").ne(ProgressType.FINISHED.name()))
+                                .then(1)
+                                .otherwise(0)).as("finished"),
+                Aggregation.group("bucket")
+                        .count().as("updates")
+                        .sum("chaptersDelta").as("chaptersRead")
+                        .sum("volumesDelta").as("volumesRead")
+                        .sum("finished").as("finished"),
+                Aggregation.sort(Sort.Direction.ASC, "_id"),
+                Aggregation.project("updates", "chaptersRead", "volumesRead", "finished")
+                        .and("_id").as("start")
+                        .andExclude("_id")
+        );
+        return mongoTemplate.aggregate(aggregation, ProgressEvent.class, ReadingActivity.class).getMappedResults();
+    }
+}
@@ -0,0 +1,12 @@
+package dev.playerblair.manga_library.request;
+
+public enum HistoryInterval {
+    DAY,
+    WEEK,
+    MONTH,
+    YEAR;
+
+    public String unit() {
+        return name().toLowerCase();
+    }
+}
@@ -0,0 +1,21 @@
+package dev.playerblair.manga_library.request;
+
+import java.util.List;
+
+public record SearchContinuation(
+        String query,
+        int page,
+        boolean hasNext,
+        List<Long> malIds,
+        Source source
+) {
+
+    /**
+     * Where the first page of a search came from. Later pages are read from the same place, since the local
+     * catalog and Jikan rank and page results differently.
+     */
+    public enum Source {
+        CATALOG,
+        JIKAN
+    }
+}
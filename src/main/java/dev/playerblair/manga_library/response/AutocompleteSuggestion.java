@@ -0,0 +1,14 @@
+package dev.playerblair.manga_library.response;
+
+public record AutocompleteSuggestion(
+        String text,
+        Kind kind,
+        Long malId,
+        int score
+) {
+
+    public enum Kind {
+        TITLE,
+        AUTHOR
+    }
+}
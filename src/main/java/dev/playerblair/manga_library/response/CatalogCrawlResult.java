@@ -0,0 +1,8 @@
+package dev.playerblair.manga_library.response;
+
+public record CatalogCrawlResult(
+        int pagesCrawled,
+        int imported,
+        int nextPage
+) {
+}
@@ -0,0 +1,7 @@
+package dev.playerblair.manga_library.response;
+
+public record CatalogImportResult(
+        int imported,
+        int skipped
+) {
+}
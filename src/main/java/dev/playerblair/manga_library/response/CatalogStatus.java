@@ -0,0 +1,10 @@
+package dev.playerblair.manga_library.response;
+
+import java.time.Instant;
+
+public record CatalogStatus(
+        long entries,
+        int nextCrawlPage,
+        Instant lastCrawledAt
+) {
+}
@@ -0,0 +1,18 @@
+package dev.playerblair.manga_library.response;
+
+import dev.playerblair.manga_library.model.Manga;
+
+import java.util.List;
+
+public record LibraryChanges(
+        long version,
+        boolean fullResync,
+        boolean hasMore,
+        List<Manga> changed,
+        List<Long> deleted
+) {
+
+    public static LibraryChanges fullResync(long version) {
+        return new LibraryChanges(version, true, false, List.of(), List.of());
+    }
+}
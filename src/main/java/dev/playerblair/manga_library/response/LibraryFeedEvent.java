@@ -0,0 +1,20 @@
+package dev.playerblair.manga_library.response;
+
+import dev.playerblair.manga_library.model.Manga;
+
+public record LibraryFeedEvent(
+        String id,
+        Type type,
+        Long malId,
+        Manga manga
+) {
+
+    public enum Type {
+        ADDED,
+        REFRESHED,
+        PROGRESS,
+        DELETED,
+        IMPORTED,
+        RESET
+    }
+}
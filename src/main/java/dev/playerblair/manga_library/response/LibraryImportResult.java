@@ -0,0 +1,9 @@
+package dev.playerblair.manga_library.response;
+
+public record LibraryImportResult(
+        int imported,
+        int duplicates,
+        int invalid,
+        int overQuota
+) {
+}
@@ -0,0 +1,11 @@
+package dev.playerblair.manga_library.response;
+
+import java.util.Map;
+
+public record LibrarySearchHit(
+        Long malId,
+        String title,
+        float score,
+        Map<String, String> highlights
+) {
+}
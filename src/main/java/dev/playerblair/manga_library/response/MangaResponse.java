@@ -6,6 +6,7 @@ import dev.playerblair.manga_library.model.Status;
 import dev.playerblair.manga_library.model.Type;
 
 import java.util.List;
+import java.util.Objects;
 
 public record MangaResponse(
         @JsonProperty("mal_id") Long malId,
@@ -20,5 +21,11 @@ public record MangaResponse(
         String url
 ) {
 
+    public MangaResponse {
+        if (genres != null && genres.stream().anyMatch(Objects::isNull)) {
+            genres = genres.stream().filter(Objects::nonNull).toList();
+        }
+    }
+
     public record GenreWrapper(String name) {}
 }
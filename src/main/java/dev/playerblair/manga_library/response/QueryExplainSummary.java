@@ -0,0 +1,11 @@
+package dev.playerblair.manga_library.response;
+
+import java.util.List;
+
+public record QueryExplainSummary(
+        List<String> stages,
+        long keysExamined,
+        long docsExamined,
+        long returned
+) {
+}
@@ -0,0 +1,12 @@
+package dev.playerblair.manga_library.response;
+
+import java.time.Instant;
+
+public record ReadingActivity(
+        Instant start,
+        int updates,
+        int chaptersRead,
+        int volumesRead,
+        int finished
+) {
+}
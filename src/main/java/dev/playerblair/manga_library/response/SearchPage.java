@@ -0,0 +1,9 @@
+package dev.playerblair.manga_library.response;
+
+import dev.playerblair.manga_library.request.SearchContinuation;
+
+public record SearchPage(
+        JikanSearchResponse response,
+        SearchContinuation.Source source
+) {
+}
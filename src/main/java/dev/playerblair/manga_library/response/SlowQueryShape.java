@@ -0,0 +1,15 @@
+package dev.playerblair.manga_library.response;
+
+import java.time.Instant;
+
+public record SlowQueryShape(
+        String collection,
+        String command,
+        String shape,
+        long count,
+        double meanMillis,
+        double maxMillis,
+        Instant lastSeen,
+        QueryExplainSummary explain
+) {
+}
@@ -0,0 +1,338 @@
+package dev.playerblair.manga_library.search;
+
+import dev.playerblair.manga_library.model.Author;
+import dev.playerblair.manga_library.model.Genre;
+import dev.playerblair.manga_library.model.Manga;
+import dev.playerblair.manga_library.response.LibrarySearchHit;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.*;
+import org.apache.lucene.search.highlight.Highlighter;
+import org.apache.lucene.search.highlight.InvalidTokenOffsetsException;
+import org.apache.lucene.search.highlight.NullFragmenter;
+import org.apache.lucene.search.highlight.QueryScorer;
+import org.apache.lucene.search.highlight.SimpleHTMLFormatter;
+import org.apache.lucene.search.highlight.SimpleSpanFragmenter;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class LibraryIndex implements Closeable {
+
+    static final String ID = "id";
+    static final String TENANT = "tenant";
+    static final String MAL_ID = "malId";
+    static final String TITLE = "title";
+    static final String SYNOPSIS = "synopsis";
+    static final String AUTHORS = "authors";
+    static final String GENRES = "genres";
+
+    private static final Map<String, Float> FIELD_BOOSTS = Map.of(
+            TITLE, 3.0f,
+            AUTHORS, 2.0f,
+            GENRES, 1.5f,
+            SYNOPSIS, 1.0f
+    );
+    private static final List<String> HIGHLIGHT_FIELDS = List.of(TITLE, AUTHORS, SYNOPSIS);
+    private static final float FUZZY_PENALTY = 0.5f;
+    private static final int SYNOPSIS_FRAGMENT_SIZE = 150;
+
+    private final Directory directory;
+    private final Analyzer analyzer;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+
+    public LibraryIndex(Directory directory) throws IOException {
+        this.directory = directory;
+        this.analyzer = new StandardAnalyzer();
+        this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        this.searcherManager = new SearcherManager(writer, null);
+    }
+
+    public static LibraryIndex open(Path path) throws IOException {
+        return new LibraryIndex(FSDirectory.open(path));
+    }
+
+    public void index(String tenant, Manga manga) {
+        try {
+            writer.updateDocument(idTerm(tenant, manga.malId()), toDocument(tenant, manga));
+            searcherManager.maybeRefresh();
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Failed to index manga " + manga.malId(), exception);
+        }
+    }
+
+    public void indexAll(String tenant, List<Manga> library) {
+        try {
+            for (Manga manga : library) {
+                writer.updateDocument(idTerm(tenant, manga.malId()), toDocument(tenant, manga));
+            }
+            searcherManager.maybeRefresh();
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Failed to index " + library.size() + " manga", exception);
+        }
+    }
+
+    public void delete(String tenant, Long malId) {
+        try {
+            writer.deleteDocuments(idTerm(tenant, malId));
+            searcherManager.maybeRefresh();
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Failed to remove manga " + malId + " from the index", exception);
+        }
+    }
+
+    public void rebuild(String tenant, Iterable<Manga> library) {
+        try {
+            writer.deleteDocuments(new Term(TENANT, tenant));
+            for (Manga manga : library) {
+                writer.addDocument(toDocument(tenant, manga));
+            }
+            writer.commit();
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Failed to rebuild the library index", exception);
+        }
+    }
+
+    public void commit() {
+        try {
+            if (writer.hasUncommittedChanges()) {
+                writer.commit();
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Failed to commit the library index", exception);
+        }
+    }
+
+    public int size(String tenant) {
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                return searcher.count(new TermQuery(new Term(TENANT, tenant)));
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Failed to read the library index", exception);
+        }
+    }
+
+    /**
+     * Sums a hash of every stored document of the tenant. Comparing it with {@link #fingerprint(Stream)} of the
+     * library finds an index that holds the right number of manga but stale or wrong ones.
+     */
+    public Fingerprint fingerprint(String tenant) {
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                Query tenantQuery = new TermQuery(new Term(TENANT, tenant));
+                int size = searcher.count(tenantQuery);
+                long checksum = 0;
+                if (size > 0) {
+                    StoredFields storedFields = searcher.storedFields();
+                    for (ScoreDoc scoreDoc : searcher.search(tenantQuery, size).scoreDocs) {
+                        Document document = storedFields.document(scoreDoc.doc);
+                        checksum += contentHash(document.get(MAL_ID), document.get(TITLE), document.get(SYNOPSIS),
+                                document.get(AUTHORS), document.get(GENRES));
+                    }
+                }
+                return new Fingerprint(size, checksum);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Failed to read the library index", exception);
+        }
+    }
+
+    public static Fingerprint fingerprint(Stream<Manga> library) {
+        LongSummaryStatistics hashes = library
+                .mapToLong(manga -> contentHash(manga.malId().toString(), title(manga), synopsis(manga),
+                        authors(manga), genres(manga)))
+                .summaryStatistics();
+        return new Fingerprint(hashes.getCount(), hashes.getSum());
+    }
+
+    public List<LibrarySearchHit> search(String tenant, String text, int limit) {
+        List<String> terms = analyze(text);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        Query query = buildQuery(terms);
+        Query tenantQuery = new BooleanQuery.Builder()
+                .add(query, BooleanClause.Occur.MUST)
+                .add(new TermQuery(new Term(TENANT, tenant)), BooleanClause.Occur.FILTER)
+                .build();
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                StoredFields storedFields = searcher.storedFields();
+                List<LibrarySearchHit> hits = new ArrayList<>();
+                for (ScoreDoc scoreDoc : searcher.search(tenantQuery, limit).scoreDocs) {
+                    Document document = storedFields.document(scoreDoc.doc);
+                    hits.add(new LibrarySearchHit(
+                            Long.valueOf(document.get(MAL_ID)),
+                            document.get(TITLE),
+                            scoreDoc.score,
+                            highlight(query, document)
+                    ));
+                }
+                return hits;
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Failed to search the library index", exception);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    private Query buildQuery(List<String> terms) {
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        for (String term : terms) {
+            List<Query> fieldQueries = new ArrayList<>();
+            FIELD_BOOSTS.forEach((field, boost) -> {
+                fieldQueries.add(new BoostQuery(new TermQuery(new Term(field, term)), boost));
+                int maxEdits = maxEdits(term);
+                if (maxEdits > 0) {
+                    fieldQueries.add(new BoostQuery(new FuzzyQuery(new Term(field, term), maxEdits, 1), boost * FUZZY_PENALTY));
+                }
+            });
+            builder.add(new DisjunctionMaxQuery(fieldQueries, 0.1f), BooleanClause.Occur.SHOULD);
+        }
+        return builder.build();
+    }
+
+    private int maxEdits(String term) {
+        if (term.length() < 3) {
+            return 0;
+        }
+        return term.length() < 6 ? 1 : 2;
+    }
+
+    private Map<String, String> highlight(Query query, Document document) throws IOException {
+        Map<String, String> highlights = new LinkedHashMap<>();
+        for (String field : HIGHLIGHT_FIELDS) {
+            String text = document.get(field);
+            if (text == null || text.isEmpty()) {
+                continue;
+            }
+
+            QueryScorer scorer = new QueryScorer(query, field);
+            Highlighter highlighter = new Highlighter(new SimpleHTMLFormatter("<em>", "</em>"), scorer);
+            highlighter.setTextFragmenter(SYNOPSIS.equals(field)
+                    ? new SimpleSpanFragmenter(scorer, SYNOPSIS_FRAGMENT_SIZE)
+                    : new NullFragmenter());
+            try {
+                String fragment = highlighter.getBestFragment(analyzer, field, text);
+                if (fragment != null) {
+                    highlights.put(field, fragment);
+                }
+            } catch (InvalidTokenOffsetsException exception) {
+                throw new IllegalStateException("Failed to highlight " + field, exception);
+            }
+        }
+        return highlights;
+    }
+
+    private List<String> analyze(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+
+        List<String> terms = new ArrayList<>();
+        try (TokenStream tokenStream = analyzer.tokenStream(TITLE, text)) {
+            CharTermAttribute termAttribute = tokenStream.addAttribute(CharTermAttribute.class);
+            tokenStream.reset();
+            while (tokenStream.incrementToken()) {
+                terms.add(termAttribute.toString());
+            }
+            tokenStream.end();
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Failed to analyze query", exception);
+        }
+        return terms;
+    }
+
+    private Term idTerm(String tenant, Long malId) {
+        return new Term(ID, tenant + ":" + malId);
+    }
+
+    private Document toDocument(String tenant, Manga manga) {
+        Document document = new Document();
+        document.add(new StringField(ID, tenant + ":" + manga.malId(), Field.Store.NO));
+        document.add(new StringField(TENANT, tenant, Field.Store.NO));
+        document.add(new StringField(MAL_ID, manga.malId().toString(), Field.Store.YES));
+        document.add(new TextField(TITLE, title(manga), Field.Store.YES));
+        document.add(new TextField(SYNOPSIS, synopsis(manga), Field.Store.YES));
+        document.add(new TextField(AUTHORS, authors(manga), Field.Store.YES));
+        document.add(new TextField(GENRES, genres(manga), Field.Store.YES));
+        return document;
+    }
+
+    private static String title(Manga manga) {
+        return Objects.requireNonNullElse(manga.title(), "");
+    }
+
+    private static String synopsis(Manga manga) {
+        return Objects.requireNonNullElse(manga.synopsis(), "");
+    }
+
+    private static String authors(Manga manga) {
+        return Objects.requireNonNullElse(manga.authors(), List.<Author>of()).stream()
+                .map(Author::name)
+                .filter(Objects::nonNull)
+                .collect(Collectors.joining(", "));
+    }
+
+    private static String genres(Manga manga) {
+        return Objects.requireNonNullElse(manga.genres(), List.<Genre>of()).stream()
+                .map(Genre::getLabel)
+                .collect(Collectors.joining(", "));
+    }
+
+    private static long contentHash(String... fields) {
+        long hash = 17;
+        for (String field : fields) {
+            hash = 31 * hash + field.length();
+            for (int i = 0; i < field.length(); i++) {
+                hash = 31 * hash + field.charAt(i);
+            }
+        }
+        // mix the bits so that summing the hashes of a library does not cancel out similar documents
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        return hash ^ (hash >>> 33);
+    }
+
+    public record Fingerprint(long size, long checksum) {
+    }
+}
@@ -0,0 +1,259 @@
+package dev.playerblair.manga_library.search;
+
+import dev.playerblair.manga_library.response.AutocompleteSuggestion;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Prefix tree over suggestion texts and every word in them. Each node keeps the suggestions whose key ends there and
+ * its top {@code maxSuggestions} below it, so suggestions can be added and removed one at a time: a removal only
+ * recomputes the nodes on its own paths. Lookups and updates synchronize on the tree.
+ */
+public class SuggestionTrie {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final Node root = new Node();
+    private final int maxSuggestions;
+
+    private SuggestionTrie(int maxSuggestions) {
+        this.maxSuggestions = maxSuggestions;
+    }
+
+    public static SuggestionTrie build(Collection<AutocompleteSuggestion> suggestions, int maxSuggestions) {
+        SuggestionTrie trie = new SuggestionTrie(maxSuggestions);
+        suggestions.forEach(trie::insert);
+        return trie;
+    }
+
+    public static SuggestionTrie empty(int maxSuggestions) {
+        return new SuggestionTrie(maxSuggestions);
+    }
+
+    public synchronized List<AutocompleteSuggestion> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+
+        Node node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.child(key.charAt(i));
+        }
+
+        if (node == null) {
+            return List.of();
+        }
+        return List.of(Arrays.copyOf(node.top, Math.min(limit, node.topSize)));
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        return SEPARATORS.matcher(DIACRITICS.matcher(decomposed).replaceAll(""))
+                .replaceAll(" ")
+                .strip()
+                .toLowerCase(Locale.ROOT);
+    }
+
+    public synchronized void add(AutocompleteSuggestion suggestion) {
+        insert(suggestion);
+    }
+
+    public synchronized void remove(AutocompleteSuggestion suggestion) {
+        String key = normalize(suggestion.text());
+        for (int start : wordStarts(key)) {
+            Node[] path = new Node[key.length() - start + 1];
+            path[0] = root;
+            for (int i = start; i < key.length() && path[i - start] != null; i++) {
+                path[i - start + 1] = path[i - start].child(key.charAt(i));
+            }
+            if (path[path.length - 1] == null || !path[path.length - 1].removeEnding(suggestion)) {
+                continue;
+            }
+
+            for (int depth = path.length - 1; depth > 0; depth--) {
+                Node node = path[depth];
+                node.recompute(suggestion, maxSuggestions);
+                if (node.isEmpty()) {
+                    path[depth - 1].removeChild(key.charAt(start + depth - 1));
+                }
+            }
+        }
+    }
+
+    private void insert(AutocompleteSuggestion suggestion) {
+        String key = normalize(suggestion.text());
+        for (int start : wordStarts(key)) {
+            Node node = root;
+            for (int i = start; i < key.length(); i++) {
+                node = node.childOrCreate(key.charAt(i));
+                node.offer(suggestion, maxSuggestions);
+            }
+            node.addEnding(suggestion);
+        }
+    }
+
+    private static List<Integer> wordStarts(String key) {
+        List<Integer> starts = new ArrayList<>();
+        int start = key.isEmpty() ? -1 : 0;
+        while (start >= 0) {
+            starts.add(start);
+            int separator = key.indexOf(' ', start);
+            start = separator < 0 ? -1 : separator + 1;
+        }
+        return starts;
+    }
+
+    private static final class Node {
+
+        private static final char[] NO_KEYS = new char[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+        private static final AutocompleteSuggestion[] NO_SUGGESTIONS = new AutocompleteSuggestion[0];
+
+        private char[] keys = NO_KEYS;
+        private Node[] children = NO_CHILDREN;
+        private AutocompleteSuggestion[] endings = NO_SUGGESTIONS;
+        private AutocompleteSuggestion[] top = NO_SUGGESTIONS;
+        private int topSize;
+
+        private Node child(char key) {
+            int index = Arrays.binarySearch(keys, key);
+            return index >= 0 ? children[index] : null;
+        }
+
+        private Node childOrCreate(char key) {
+            int index = Arrays.binarySearch(keys, key);
+            if (index >= 0) {
+                return children[index];
+            }
+
+            int insertAt = -index - 1;
+            Node child = new Node();
+            keys = insert(keys, insertAt, key);
+            children = insert(children, insertAt, child);
+            return child;
+        }
+
+        private void removeChild(char key) {
+            int index = Arrays.binarySearch(keys, key);
+            if (index >= 0) {
+                keys = remove(keys, index);
+                children = remove(children, index);
+            }
+        }
+
+        private boolean isEmpty() {
+            return endings.length == 0 && children.length == 0;
+        }
+
+        private void addEnding(AutocompleteSuggestion suggestion) {
+            endings = Arrays.copyOf(endings, endings.length + 1);
+            endings[endings.length - 1] = suggestion;
+        }
+
+        private boolean removeEnding(AutocompleteSuggestion suggestion) {
+            for (int i = 0; i < endings.length; i++) {
+                if (endings[i].equals(suggestion)) {
+                    endings = remove(endings, i);
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        // the top of a node is the best of its own endings and of its children's tops
+        private void recompute(AutocompleteSuggestion removed, int maxSuggestions) {
+            boolean holdsRemoved = false;
+            for (int i = 0; i < topSize && !holdsRemoved; i++) {
+                holdsRemoved = top[i].equals(removed);
+            }
+            if (!holdsRemoved) {
+                return;
+            }
+
+            Arrays.fill(top, null);
+            topSize = 0;
+            for (AutocompleteSuggestion ending : endings) {
+                offer(ending, maxSuggestions);
+            }
+            for (Node child : children) {
+                for (int i = 0; i < child.topSize; i++) {
+                    offer(child.top[i], maxSuggestions);
+                }
+            }
+        }
+
+        private void offer(AutocompleteSuggestion suggestion, int maxSuggestions) {
+            for (int i = 0; i < topSize; i++) {
+                if (top[i] == suggestion) {
+                    return;
+                }
+            }
+
+            if (topSize == maxSuggestions && compareRank(suggestion, top[topSize - 1]) >= 0) {
+                return;
+            }
+
+            if (top.length == 0) {
+                top = new AutocompleteSuggestion[maxSuggestions];
+            }
+
+            int position = topSize == maxSuggestions ? topSize - 1 : topSize++;
+            while (position > 0 && compareRank(suggestion, top[position - 1]) < 0) {
+                top[position] = top[position - 1];
+                position--;
+            }
+            top[position] = suggestion;
+        }
+
+        private static int compareRank(AutocompleteSuggestion left, AutocompleteSuggestion right) {
+            if (left.score() != right.score()) {
+                return Integer.compare(right.score(), left.score());
+            }
+            if (left.text().length() != right.text().length()) {
+                return Integer.compare(left.text().length(), right.text().length());
+            }
+            return left.text().compareTo(right.text());
+        }
+
+        private static char[] insert(char[] array, int index, char value) {
+            char[] result = new char[array.length + 1];
+            System.arraycopy(array, 0, result, 0, index);
+            result[index] = value;
+            System.arraycopy(array, index, result, index + 1, array.length - index);
+            return result;
+        }
+
+        private static Node[] insert(Node[] array, int index, Node value) {
+            Node[] result = new Node[array.length + 1];
+            System.arraycopy(array, 0, result, 0, index);
+            result[index] = value;
+            System.arraycopy(array, index, result, index + 1, array.length - index);
+            return result;
+        }
+
+        private static char[] remove(char[] array, int index) {
+            char[] result = new char[array.length - 1];
+            System.arraycopy(array, 0, result, 0, index);
+            System.arraycopy(array, index + 1, result, index, array.length - index - 1);
+            return result;
+        }
+
+        private static <T> T[] remove(T[] array, int index) {
+            T[] result = Arrays.copyOf(array, array.length - 1);
+            System.arraycopy(array, index + 1, result, index, array.length - index - 1);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,268 @@
+package dev.playerblair.manga_library.service;
+
+import dev.playerblair.manga_library.config.TenantProperties;
+import dev.playerblair.manga_library.event.LibraryImportedEvent;
+import dev.playerblair.manga_library.event.MangaChangedEvent;
+import dev.playerblair.manga_library.event.SearchResultsCachedEvent;
+import dev.playerblair.manga_library.model.Author;
+import dev.playerblair.manga_library.model.Manga;
+import dev.playerblair.manga_library.model.ProgressType;
+import dev.playerblair.manga_library.repository.MangaRepository;
+import dev.playerblair.manga_library.response.AutocompleteSuggestion;
+import dev.playerblair.manga_library.response.MangaResponse;
+import dev.playerblair.manga_library.search.SuggestionTrie;
+import dev.playerblair.manga_library.tenant.TenantContext;
+import dev.playerblair.manga_library.tenant.TenantStateMap;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class AutocompleteService {
+
+    private static final Logger log = LoggerFactory.getLogger(AutocompleteService.class);
+
+    private static final int LIBRARY_SCORE = 1000;
+    private static final Map<ProgressType, Integer> PROGRESS_SCORES = Map.of(
+            ProgressType.READING, 50,
+            ProgressType.FINISHED, 40,
+            ProgressType.PAUSED, 30,
+            ProgressType.PLANNING, 20,
+            ProgressType.DROPPED, 0
+    );
+
+    private final MangaRepository mangaRepository;
+    private final int maxSuggestions;
+    private final Executor loadExecutor;
+    private final TenantStateMap<TenantSuggestions> tenants;
+
+    @Autowired
+    public AutocompleteService(MangaRepository mangaRepository,
+                               @Value("${manga.autocomplete.max-suggestions}") int maxSuggestions,
+                               TenantProperties tenantProperties) {
+        this(mangaRepository, maxSuggestions, tenantProperties.idleTimeout(),
+                Executors.newSingleThreadExecutor(Thread.ofPlatform().name("autocomplete-load").daemon().factory()));
+    }
+
+    AutocompleteService(MangaRepository mangaRepository, int maxSuggestions, Duration idleTimeout,
+                        Executor loadExecutor) {
+        this.mangaRepository = mangaRepository;
+        this.maxSuggestions = maxSuggestions;
+        this.loadExecutor = loadExecutor;
+        this.tenants = new TenantStateMap<>(idleTimeout);
+    }
+
+    public List<AutocompleteSuggestion> suggest(String prefix, int limit) {
+        return suggestions(TenantContext.current()).trie.suggest(prefix, Math.min(limit, maxSuggestions));
+    }
+
+    // a tenant that is not held has nothing to update, its library is loaded with the change on next use
+    @EventListener
+    public void onMangaChanged(MangaChangedEvent event) {
+        TenantSuggestions suggestions = tenants.get(TenantContext.current());
+        if (suggestions == null) {
+            return;
+        }
+        synchronized (suggestions) {
+            suggestions.putLibrary(event.malId(), event.type() == MangaChangedEvent.ChangeType.DELETED
+                    ? null
+                    : SuggestedTitle.of(event.current()));
+        }
+    }
+
+    @EventListener
+    public void onLibraryImported(LibraryImportedEvent event) {
+        TenantSuggestions suggestions = tenants.get(TenantContext.current());
+        if (suggestions == null) {
+            return;
+        }
+        synchronized (suggestions) {
+            event.imported().forEach(manga -> suggestions.putLibrary(manga.malId(), SuggestedTitle.of(manga)));
+        }
+    }
+
+    @EventListener
+    public void onSearchResultsCached(SearchResultsCachedEvent event) {
+        TenantSuggestions suggestions = suggestions(TenantContext.current());
+        synchronized (suggestions) {
+            suggestions.replaceSearchResults(event.results());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (loadExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private TenantSuggestions suggestions(String tenant) {
+        TenantSuggestions suggestions = tenants.computeIfAbsent(tenant, key -> new TenantSuggestions(maxSuggestions));
+        if (suggestions.loadScheduled.compareAndSet(false, true)) {
+            loadExecutor.execute(() -> TenantContext.runAs(tenant, () -> load(suggestions)));
+        }
+        return suggestions;
+    }
+
+    private void load(TenantSuggestions target) {
+        List<Manga> stored;
+        try {
+            stored = mangaRepository.findAll();
+        } catch (DataAccessException exception) {
+            log.warn("Could not load library for autocomplete: {}", exception.getMessage());
+            target.loadScheduled.set(false);
+            return;
+        }
+
+        synchronized (target) {
+            stored.stream()
+                    .filter(manga -> !target.changedBeforeLoad.contains(manga.malId()))
+                    .forEach(manga -> target.putLibrary(manga.malId(), SuggestedTitle.of(manga)));
+            target.changedBeforeLoad = null;
+        }
+    }
+
+    static int score(Manga manga) {
+        if (manga.progress() == null) {
+            return LIBRARY_SCORE;
+        }
+        return LIBRARY_SCORE
+                + PROGRESS_SCORES.getOrDefault(manga.progress().progress(), 0)
+                + manga.progress().rating();
+    }
+
+    // only what the suggestions are built from, not the whole manga
+    private record SuggestedTitle(Long malId, String title, List<String> authors, int score) {
+
+        private static SuggestedTitle of(Manga manga) {
+            return new SuggestedTitle(manga.malId(), manga.title(), authorNames(manga.authors()), AutocompleteService.score(manga));
+        }
+
+        private static SuggestedTitle of(MangaResponse mangaResponse) {
+            return new SuggestedTitle(mangaResponse.malId(), mangaResponse.title(),
+                    authorNames(mangaResponse.authors()), 0);
+        }
+
+        private static List<String> authorNames(List<Author> authors) {
+            if (authors == null) {
+                return List.of();
+            }
+            return authors.stream().map(Author::name).filter(Objects::nonNull).distinct().toList();
+        }
+    }
+
+    /**
+     * Suggestions of one tenant, updated in place as titles change. Library titles win over search results with the
+     * same id, and an author ranks with the best title listing them. Guarded by the instance's monitor.
+     */
+    private static final class TenantSuggestions {
+
+        private final SuggestionTrie trie;
+        private final Map<Long, SuggestedTitle> library = new HashMap<>();
+        private Map<Long, SuggestedTitle> searchResults = Map.of();
+        private final Map<String, Set<Long>> authorTitles = new HashMap<>();
+        private final Map<Long, AutocompleteSuggestion> titleSuggestions = new HashMap<>();
+        private final Map<String, AutocompleteSuggestion> authorSuggestions = new HashMap<>();
+        private final AtomicBoolean loadScheduled = new AtomicBoolean();
+        // titles changed by events while the library loads, the loaded copy of them is older; null once loaded
+        private Set<Long> changedBeforeLoad = new HashSet<>();
+
+        private TenantSuggestions(int maxSuggestions) {
+            this.trie = SuggestionTrie.empty(maxSuggestions);
+        }
+
+        private void putLibrary(Long malId, SuggestedTitle title) {
+            if (changedBeforeLoad != null) {
+                changedBeforeLoad.add(malId);
+            }
+            SuggestedTitle before = effective(malId);
+            if (title == null) {
+                library.remove(malId);
+            } else {
+                library.put(malId, title);
+            }
+            reindex(malId, before);
+        }
+
+        private void replaceSearchResults(List<MangaResponse> results) {
+            Map<Long, SuggestedTitle> before = new HashMap<>();
+            searchResults.keySet().forEach(malId -> before.put(malId, effective(malId)));
+            results.forEach(result -> before.putIfAbsent(result.malId(), effective(result.malId())));
+
+            searchResults = results.stream()
+                    .map(SuggestedTitle::of)
+                    .collect(Collectors.toMap(SuggestedTitle::malId, Function.identity(), (first, second) -> first));
+            before.forEach(this::reindex);
+        }
+
+        private SuggestedTitle effective(Long malId) {
+            SuggestedTitle title = library.get(malId);
+            return title == null ? searchResults.get(malId) : title;
+        }
+
+        private void reindex(Long malId, SuggestedTitle before) {
+            SuggestedTitle after = effective(malId);
+            if (Objects.equals(before, after)) {
+                return;
+            }
+
+            Set<String> authors = new HashSet<>();
+            if (before != null) {
+                before.authors().forEach(author -> {
+                    authorTitles.computeIfPresent(author, (key, titles) -> {
+                        titles.remove(malId);
+                        return titles.isEmpty() ? null : titles;
+                    });
+                    authors.add(author);
+                });
+            }
+            if (after != null) {
+                after.authors().forEach(author -> {
+                    authorTitles.computeIfAbsent(author, key -> new HashSet<>()).add(malId);
+                    authors.add(author);
+                });
+            }
+
+            replace(titleSuggestions, malId, after == null || after.title() == null
+                    ? null
+                    : new AutocompleteSuggestion(after.title(), AutocompleteSuggestion.Kind.TITLE, malId, after.score()));
+            authors.forEach(author -> replace(authorSuggestions, author, authorSuggestion(author)));
+        }
+
+        private AutocompleteSuggestion authorSuggestion(String author) {
+            Set<Long> titles = authorTitles.get(author);
+            if (titles == null) {
+                return null;
+            }
+            int score = titles.stream().mapToInt(malId -> effective(malId).score()).max().orElse(0);
+            return new AutocompleteSuggestion(author, AutocompleteSuggestion.Kind.AUTHOR, null, score);
+        }
+
+        private <K> void replace(Map<K, AutocompleteSuggestion> current, K key, AutocompleteSuggestion suggestion) {
+            AutocompleteSuggestion previous = suggestion == null ? current.remove(key) : current.put(key, suggestion);
+            if (Objects.equals(previous, suggestion)) {
+                return;
+            }
+            if (previous != null) {
+                trie.remove(previous);
+            }
+            if (suggestion != null) {
+                trie.add(suggestion);
+            }
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package dev.playerblair.manga_library.service;
+
+import dev.playerblair.manga_library.config.CatalogProperties;
+import dev.playerblair.manga_library.response.CatalogCrawlResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "manga.catalog.crawl.enabled", havingValue = "true")
+public class CatalogCrawlScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogCrawlScheduler.class);
+
+    private final CatalogService catalogService;
+    private final CatalogProperties properties;
+
+    public CatalogCrawlScheduler(CatalogService catalogService, CatalogProperties properties) {
+        this.catalogService = catalogService;
+        this.properties = properties;
+    }
+
+    @Scheduled(fixedDelayString = "${manga.catalog.crawl.interval}")
+    public void crawl() {
+        CatalogCrawlResult result = catalogService.crawl(properties.crawl().pagesPerRun());
+        log.info("Catalog crawl imported {} manga from {} page(s), next page {}",
+                result.imported(), result.pagesCrawled(), result.nextPage());
+    }
+}
@@ -0,0 +1,202 @@
+package dev.playerblair.manga_library.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.playerblair.manga_library.client.JikanClient;
+import dev.playerblair.manga_library.config.CatalogProperties;
+import dev.playerblair.manga_library.exception.InvalidCrawlRequestException;
+import dev.playerblair.manga_library.exception.JikanUnavailableException;
+import dev.playerblair.manga_library.model.CatalogCrawlState;
+import dev.playerblair.manga_library.model.CatalogEntry;
+import dev.playerblair.manga_library.repository.CatalogCrawlStateRepository;
+import dev.playerblair.manga_library.repository.CatalogRepository;
+import dev.playerblair.manga_library.response.CatalogCrawlResult;
+import dev.playerblair.manga_library.response.CatalogImportResult;
+import dev.playerblair.manga_library.response.CatalogStatus;
+import dev.playerblair.manga_library.response.JikanSearchResponse;
+import dev.playerblair.manga_library.response.MangaResponse;
+import dev.playerblair.manga_library.response.Pagination;
+import dev.playerblair.manga_library.util.CatalogMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClientException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+@Service
+public class CatalogService {
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogService.class);
+
+    private final CatalogRepository catalogRepository;
+    private final CatalogCrawlStateRepository crawlStateRepository;
+    private final JikanClient jikanClient;
+    private final ObjectMapper objectMapper;
+    private final CatalogProperties properties;
+
+    public CatalogService(CatalogRepository catalogRepository, CatalogCrawlStateRepository crawlStateRepository,
+                          JikanClient jikanClient, @Qualifier("jikanObjectMapper") ObjectMapper objectMapper,
+                          CatalogProperties properties) {
+        this.catalogRepository = catalogRepository;
+        this.crawlStateRepository = crawlStateRepository;
+        this.jikanClient = jikanClient;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureTitleIndex() {
+        try {
+            catalogRepository.ensureTitleIndex();
+        } catch (DataAccessException exception) {
+            log.warn("Could not create catalog title index, local search will fall back to Jikan: {}", exception.getMessage());
+        }
+    }
+
+    public Optional<JikanSearchResponse> searchManga(String query, int page) {
+        if (!properties.localSearch() || query == null || query.isBlank()) {
+            return Optional.empty();
+        }
+
+        Slice<CatalogEntry> results;
+        try {
+            results = catalogRepository.searchByTitle(query, PageRequest.of(page - 1, properties.pageSize()));
+        } catch (DataAccessException exception) {
+            log.warn("Local catalog search failed, falling back to Jikan: {}", exception.getMessage());
+            return Optional.empty();
+        }
+
+        if (!results.hasContent()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(new JikanSearchResponse(
+                new Pagination(page, results.hasNext()),
+                results.map(CatalogMapper::toMangaResponse).getContent()
+        ));
+    }
+
+    public Optional<MangaResponse> getManga(Long malId) {
+        return catalogRepository.findById(malId)
+                .map(CatalogMapper::toMangaResponse);
+    }
+
+    public CatalogImportResult importDump(InputStream dump) {
+        Instant importedAt = Instant.now();
+        List<CatalogEntry> batch = new ArrayList<>(properties.importBatchSize());
+        int imported = 0;
+        int skipped = 0;
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(dump, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                Optional<MangaResponse> mangaResponse = parseDumpLine(line);
+                if (mangaResponse.isEmpty()) {
+                    skipped++;
+                    continue;
+                }
+
+                batch.add(CatalogMapper.toCatalogEntry(mangaResponse.get(), importedAt));
+                if (batch.size() == properties.importBatchSize()) {
+                    imported += saveBatch(batch);
+                }
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Failed to read catalog dump", exception);
+        }
+
+        imported += saveBatch(batch);
+        return new CatalogImportResult(imported, skipped);
+    }
+
+    public CatalogCrawlResult crawl(int pages) {
+        if (pages < 1 || pages > properties.crawl().maxPages()) {
+            throw new InvalidCrawlRequestException(String.format(
+                    "Cannot crawl %d page(s): pages must be between 1 and %d.", pages, properties.crawl().maxPages()));
+        }
+
+        CatalogCrawlState state = crawlStateRepository.findById(CatalogCrawlState.CRAWL_ID)
+                .orElseGet(CatalogCrawlState::initial);
+        int page = state.nextPage();
+        int pagesCrawled = 0;
+        int imported = 0;
+
+        while (pagesCrawled < pages) {
+            JikanSearchResponse searchResponse;
+            try {
+                searchResponse = jikanClient.searchManga("", page);
+            } catch (RestClientException | JikanUnavailableException exception) {
+                log.warn("Stopping catalog crawl at page {}: {}", page, exception.getMessage());
+                break;
+            }
+
+            Instant importedAt = Instant.now();
+            imported += catalogRepository.saveAll(searchResponse.data().stream()
+                    .map(mangaResponse -> CatalogMapper.toCatalogEntry(mangaResponse, importedAt))
+                    .toList()).size();
+            pagesCrawled++;
+
+            if (!searchResponse.pagination().hasNext()) {
+                crawlStateRepository.save(new CatalogCrawlState(CatalogCrawlState.CRAWL_ID, page, importedAt));
+                break;
+            }
+
+            page++;
+            crawlStateRepository.save(new CatalogCrawlState(CatalogCrawlState.CRAWL_ID, page, importedAt));
+        }
+
+        return new CatalogCrawlResult(pagesCrawled, imported, page);
+    }
+
+    public CatalogStatus getStatus() {
+        CatalogCrawlState state = crawlStateRepository.findById(CatalogCrawlState.CRAWL_ID)
+                .orElseGet(CatalogCrawlState::initial);
+        return new CatalogStatus(catalogRepository.count(), state.nextPage(), state.lastCrawledAt());
+    }
+
+    private Optional<MangaResponse> parseDumpLine(String line) {
+        try {
+            JsonNode node = objectMapper.readTree(line);
+            JsonNode data = node.has("data") ? node.get("data") : node;
+            MangaResponse mangaResponse = objectMapper.treeToValue(data, MangaResponse.class);
+            if (mangaResponse.malId() == null || mangaResponse.title() == null) {
+                return Optional.empty();
+            }
+            return Optional.of(mangaResponse);
+        } catch (JsonProcessingException | IllegalArgumentException exception) {
+            log.debug("Skipping unreadable catalog dump line: {}", exception.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private int saveBatch(List<CatalogEntry> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        int saved = catalogRepository.saveAll(batch).size();
+        batch.clear();
+        return saved;
+    }
+}
@@ -0,0 +1,232 @@
+package dev.playerblair.manga_library.service;
+
+import dev.playerblair.manga_library.config.LibraryFeedProperties;
+import dev.playerblair.manga_library.event.LibraryImportedEvent;
+import dev.playerblair.manga_library.event.MangaChangedEvent;
+import dev.playerblair.manga_library.model.Manga;
+import dev.playerblair.manga_library.response.LibraryFeedEvent;
+import dev.playerblair.manga_library.tenant.TenantContext;
+import dev.playerblair.manga_library.tenant.TenantStateMap;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Service
+public class LibraryFeedService {
+
+    private static final Logger log = LoggerFactory.getLogger(LibraryFeedService.class);
+
+    private final LibraryFeedProperties properties;
+    private final Executor sendExecutor;
+    private final String instanceId;
+    private final TenantStateMap<TenantFeed> feeds;
+
+    @Autowired
+    public LibraryFeedService(LibraryFeedProperties properties) {
+        this(properties, Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("library-feed-", 0).factory()),
+                Long.toString(System.currentTimeMillis(), Character.MAX_RADIX));
+    }
+
+    LibraryFeedService(LibraryFeedProperties properties, Executor sendExecutor, String instanceId) {
+        this.properties = properties;
+        this.sendExecutor = sendExecutor;
+        this.instanceId = instanceId;
+        this.feeds = new TenantStateMap<>(properties.timeout(), feed -> feed.subscribers.isEmpty());
+    }
+
+    public SseEmitter subscribe(String lastEventId) {
+        TenantFeed feed = feed(TenantContext.current());
+        Subscriber subscriber = new Subscriber(new SseEmitter(properties.timeout().toMillis()),
+                properties.subscriberBuffer());
+        subscriber.emitter.onCompletion(() -> close(feed, subscriber));
+        subscriber.emitter.onTimeout(() -> close(feed, subscriber));
+        subscriber.emitter.onError(exception -> close(feed, subscriber));
+
+        synchronized (feed) {
+            if (lastEventId != null) {
+                List<LibraryFeedEvent> missed = feed.since(lastEventId);
+                if (missed == null || missed.size() > properties.subscriberBuffer()) {
+                    subscriber.queue.offer(toSse(feed.reset()));
+                } else {
+                    missed.forEach(event -> subscriber.queue.offer(toSse(event)));
+                }
+            }
+            feed.subscribers.add(subscriber);
+        }
+
+        scheduleSend(subscriber);
+        return subscriber.emitter;
+    }
+
+    int subscriberCount() {
+        return feeds.values().stream().mapToInt(feed -> feed.subscribers.size()).sum();
+    }
+
+    @EventListener
+    public void onMangaChanged(MangaChangedEvent event) {
+        publish(TenantContext.current(), type(event), event.malId(), event.current());
+    }
+
+    @EventListener
+    public void onLibraryImported(LibraryImportedEvent event) {
+        publish(TenantContext.current(), LibraryFeedEvent.Type.IMPORTED, null, null);
+    }
+
+    @Scheduled(fixedDelayString = "${manga.feed.heartbeat-interval}")
+    public void heartbeat() {
+        feeds.values().forEach(feed -> feed.subscribers.forEach(subscriber -> {
+            if (subscriber.queue.offer(SseEmitter.event().comment("heartbeat"))) {
+                scheduleSend(subscriber);
+            }
+        }));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        feeds.values().forEach(feed -> feed.subscribers.forEach(subscriber -> subscriber.emitter.complete()));
+        if (sendExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private void publish(String tenant, LibraryFeedEvent.Type type, Long malId, Manga manga) {
+        TenantFeed feed = feed(tenant);
+        synchronized (feed) {
+            LibraryFeedEvent event = feed.append(type, malId, manga);
+            for (Subscriber subscriber : feed.subscribers) {
+                if (subscriber.queue.offer(toSse(event))) {
+                    scheduleSend(subscriber);
+                } else {
+                    log.info("Disconnecting slow library feed subscriber of tenant {}", tenant);
+                    feed.subscribers.remove(subscriber);
+                    subscriber.emitter.complete();
+                }
+            }
+        }
+    }
+
+    private LibraryFeedEvent.Type type(MangaChangedEvent event) {
+        return switch (event.type()) {
+            case ADDED -> LibraryFeedEvent.Type.ADDED;
+            case DELETED -> LibraryFeedEvent.Type.DELETED;
+            case UPDATED -> Objects.equals(event.previous().progress(), event.current().progress())
+                    ? LibraryFeedEvent.Type.REFRESHED
+                    : LibraryFeedEvent.Type.PROGRESS;
+        };
+    }
+
+    private SseEmitter.SseEventBuilder toSse(LibraryFeedEvent event) {
+        return SseEmitter.event()
+                .id(event.id())
+                .name(event.type().name().toLowerCase())
+                .data(event, MediaType.APPLICATION_JSON);
+    }
+
+    private void scheduleSend(Subscriber subscriber) {
+        if (subscriber.sending.compareAndSet(false, true)) {
+            sendExecutor.execute(() -> send(subscriber));
+        }
+    }
+
+    private void send(Subscriber subscriber) {
+        try {
+            SseEmitter.SseEventBuilder event;
+            while ((event = subscriber.queue.poll()) != null) {
+                subscriber.emitter.send(event);
+            }
+        } catch (IOException | IllegalStateException exception) {
+            subscriber.queue.clear();
+            subscriber.emitter.completeWithError(exception);
+        } finally {
+            subscriber.sending.set(false);
+        }
+
+        if (!subscriber.queue.isEmpty()) {
+            scheduleSend(subscriber);
+        }
+    }
+
+    private void close(TenantFeed feed, Subscriber subscriber) {
+        feed.subscribers.remove(subscriber);
+        subscriber.queue.clear();
+    }
+
+    private TenantFeed feed(String tenant) {
+        return feeds.computeIfAbsent(tenant, key -> new TenantFeed(instanceId, properties.replaySize()));
+    }
+
+    private static final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> queue;
+        private final AtomicBoolean sending = new AtomicBoolean();
+
+        private Subscriber(SseEmitter emitter, int bufferSize) {
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(bufferSize);
+        }
+    }
+
+    private static final class TenantFeed {
+
+        private final String instanceId;
+        private final int replaySize;
+        private final Deque<LibraryFeedEvent> replay;
+        private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+        private long sequence;
+
+        private TenantFeed(String instanceId, int replaySize) {
+            this.instanceId = instanceId;
+            this.replaySize = replaySize;
+            this.replay = new ArrayDeque<>(replaySize);
+        }
+
+        private LibraryFeedEvent append(LibraryFeedEvent.Type type, Long malId, Manga manga) {
+            LibraryFeedEvent event = new LibraryFeedEvent(id(++sequence), type, malId, manga);
+            if (replay.size() == replaySize) {
+                replay.removeFirst();
+            }
+            replay.addLast(event);
+            return event;
+        }
+
+        private LibraryFeedEvent reset() {
+            return new LibraryFeedEvent(id(sequence), LibraryFeedEvent.Type.RESET, null, null);
+        }
+
+        private List<LibraryFeedEvent> since(String lastEventId) {
+            int separator = lastEventId.lastIndexOf('-');
+            if (separator < 0 || !lastEventId.substring(0, separator).equals(instanceId)) {
+                return null;
+            }
+
+            long lastSequence;
+            try {
+                lastSequence = Long.parseLong(lastEventId.substring(separator + 1));
+            } catch (NumberFormatException exception) {
+                return null;
+            }
+
+            long oldest = replay.isEmpty() ? sequence + 1 : sequence - replay.size() + 1;
+            if (lastSequence > sequence || lastSequence < oldest - 1) {
+                return null;
+            }
+            return replay.stream().skip(lastSequence - oldest + 1).toList();
+        }
+
+        private String id(long sequence) {
+            return instanceId + "-" + sequence;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package dev.playerblair.manga_library.service;
+
+import dev.playerblair.manga_library.event.LibraryImportedEvent;
+import dev.playerblair.manga_library.event.MangaChangedEvent;
+import dev.playerblair.manga_library.model.Manga;
+import dev.playerblair.manga_library.repository.MangaRepository;
+import dev.playerblair.manga_library.response.LibrarySearchHit;
+import dev.playerblair.manga_library.search.LibraryIndex;
+import dev.playerblair.manga_library.tenant.TenantContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+@Service
+public class LibrarySearchService {
+
+    private static final Logger log = LoggerFactory.getLogger(LibrarySearchService.class);
+
+    private final LibraryIndex libraryIndex;
+    private final MangaRepository mangaRepository;
+
+    public LibrarySearchService(LibraryIndex libraryIndex, MangaRepository mangaRepository) {
+        this.libraryIndex = libraryIndex;
+        this.mangaRepository = mangaRepository;
+    }
+
+    public List<LibrarySearchHit> search(String query, int limit) {
+        return libraryIndex.search(TenantContext.current(), query, limit);
+    }
+
+    @EventListener
+    public void onMangaChanged(MangaChangedEvent event) {
+        if (event.type() == MangaChangedEvent.ChangeType.DELETED) {
+            libraryIndex.delete(TenantContext.current(), event.malId());
+        } else {
+            libraryIndex.index(TenantContext.current(), event.current());
+        }
+    }
+
+    @EventListener
+    public void onLibraryImported(LibraryImportedEvent event) {
+        libraryIndex.indexAll(TenantContext.current(), event.imported());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileIndex() {
+        try {
+            mangaRepository.findTenants().forEach(tenant -> TenantContext.runAs(tenant, () -> reconcileTenant(tenant)));
+        } catch (DataAccessException exception) {
+            log.warn("Could not reconcile library index with MongoDB: {}", exception.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${manga.library-search.commit-interval}")
+    public void commit() {
+        libraryIndex.commit();
+    }
+
+    private void reconcileTenant(String tenant) {
+        LibraryIndex.Fingerprint stored;
+        try (Stream<Manga> library = mangaRepository.streamAll()) {
+            stored = LibraryIndex.fingerprint(library);
+        }
+        LibraryIndex.Fingerprint indexed = libraryIndex.fingerprint(tenant);
+        if (indexed.size() != stored.size()) {
+            log.info("Rebuilding library index of tenant {}: {} indexed, {} stored", tenant, indexed.size(), stored.size());
+            libraryIndex.rebuild(tenant, mangaRepository.findAll());
+        } else if (indexed.checksum() != stored.checksum()) {
+            log.info("Rebuilding library index of tenant {}: indexed manga differ from the {} stored", tenant, stored.size());
+            libraryIndex.rebuild(tenant, mangaRepository.findAll());
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package dev.playerblair.manga_library.service;
+
+import dev.playerblair.manga_library.repository.MangaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class LibraryStorageMigration implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(LibraryStorageMigration.class);
+
+    private final MangaRepository mangaRepository;
+    private final int batchSize;
+
+    public LibraryStorageMigration(MangaRepository mangaRepository, @Value("${manga.transfer.batch-size}") int batchSize) {
+        this.mangaRepository = mangaRepository;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            mangaRepository.ensureIndexes();
+            int migrated = mangaRepository.migrateLegacyCollection(batchSize);
+            if (migrated > 0) {
+                log.info("Split {} manga into shared metadata and library entries", migrated);
+            }
+            int recoded = mangaRepository.migrateEnumStorage(batchSize);
+            if (recoded > 0) {
+                log.info("Rewrote enum fields of {} documents in the configured storage format", recoded);
+            }
+            int copied = mangaRepository.migrateEntryFilterFields(batchSize);
+            if (copied > 0) {
+                log.info("Copied type, status and genres of {} library entries from their metadata", copied);
+            }
+        } catch (DataAccessException exception) {
+            log.warn("Could not prepare library storage: {}", exception.getMessage());
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package dev.playerblair.manga_library.service;
+
+import dev.playerblair.manga_library.config.LibrarySyncProperties;
+import dev.playerblair.manga_library.model.LibraryChange;
+import dev.playerblair.manga_library.model.LibraryVersion;
+import dev.playerblair.manga_library.model.Manga;
+import dev.playerblair.manga_library.repository.MangaRepository;
+import dev.playerblair.manga_library.response.LibraryChanges;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+
+@Service
+public class LibrarySyncService {
+
+    private static final Logger log = LoggerFactory.getLogger(LibrarySyncService.class);
+
+    private final MangaRepository mangaRepository;
+    private final LibrarySyncProperties properties;
+    private final Clock clock;
+
+    @Autowired
+    public LibrarySyncService(MangaRepository mangaRepository, LibrarySyncProperties properties) {
+        this(mangaRepository, properties, Clock.systemUTC());
+    }
+
+    LibrarySyncService(MangaRepository mangaRepository, LibrarySyncProperties properties, Clock clock) {
+        this.mangaRepository = mangaRepository;
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    public LibraryChanges getChangesSince(long since, Integer limit) {
+        LibraryVersion current = mangaRepository.findVersion();
+        if (since <= 0 || since < current.purgedVersion() || since > current.version()) {
+            return LibraryChanges.fullResync(current.version());
+        }
+
+        int pageSize = limit == null
+                ? properties.defaultPageSize()
+                : Math.clamp(limit, 1, properties.maxPageSize());
+        List<LibraryChange> changes = mangaRepository.findChangesSince(since, pageSize + 1);
+        boolean hasMore = changes.size() > pageSize;
+        if (hasMore) {
+            changes = changes.subList(0, pageSize);
+        }
+
+        List<Manga> changed = new ArrayList<>();
+        List<Long> deleted = new ArrayList<>();
+        for (LibraryChange change : changes) {
+            if (change.deleted()) {
+                deleted.add(change.malId());
+            } else {
+                changed.add(change.manga());
+            }
+        }
+
+        long version = changes.isEmpty() ? since : changes.getLast().version();
+        return new LibraryChanges(version, false, hasMore, changed, deleted);
+    }
+
+    @Scheduled(fixedDelayString = "${manga.sync.purge-interval}", initialDelayString = "${manga.sync.purge-interval}")
+    public void purgeTombstones() {
+        try {
+            long purged = mangaRepository.purgeTombstones(clock.instant().minus(properties.tombstoneRetention()));
+            if (purged > 0) {
+                log.info("Purged {} library tombstones older than {}", purged, properties.tombstoneRetention());
+            }
+        } catch (DataAccessException exception) {
+            log.warn("Could not purge library tombstones: {}", exception.getMessage());
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package dev.playerblair.manga_library.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import dev.playerblair.manga_library.event.LibraryImportedEvent;
+import dev.playerblair.manga_library.exception.TenantQuotaExceededException;
+import dev.playerblair.manga_library.model.Manga;
+import dev.playerblair.manga_library.repository.MangaRepository;
+import dev.playerblair.manga_library.response.LibraryImportResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+@Service
+public class LibraryTransferService {
+
+    private static final Logger log = LoggerFactory.getLogger(LibraryTransferService.class);
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final MangaRepository mangaRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TenantQuotaService tenantQuotaService;
+    private final ObjectWriter mangaWriter;
+    private final ObjectReader mangaReader;
+    private final int batchSize;
+
+    public LibraryTransferService(MangaRepository mangaRepository, ApplicationEventPublisher eventPublisher,
+                                  TenantQuotaService tenantQuotaService, ObjectMapper objectMapper,
+                                  @Value("${manga.transfer.batch-size}") int batchSize) {
+        this.mangaRepository = mangaRepository;
+        this.eventPublisher = eventPublisher;
+        this.tenantQuotaService = tenantQuotaService;
+        this.mangaWriter = objectMapper.writerFor(Manga.class);
+        this.mangaReader = objectMapper.readerFor(Manga.class);
+        this.batchSize = batchSize;
+    }
+
+    public void exportLibrary(OutputStream outputStream) throws IOException {
+        OutputStream buffered = new BufferedOutputStream(outputStream, BUFFER_SIZE);
+        try (Stream<Manga> library = mangaRepository.streamAll()) {
+            Iterator<Manga> iterator = library.iterator();
+            while (iterator.hasNext()) {
+                buffered.write(mangaWriter.writeValueAsBytes(iterator.next()));
+                buffered.write('\n');
+            }
+        }
+        buffered.flush();
+    }
+
+    public LibraryImportResult importLibrary(InputStream inputStream) {
+        List<Manga> batch = new ArrayList<>(batchSize);
+        long capacity = tenantQuotaService.remainingCapacity();
+        int parsed = 0;
+        int imported = 0;
+        int invalid = 0;
+        int overQuota = 0;
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8), BUFFER_SIZE)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                Manga manga = parseLine(line);
+                if (manga == null) {
+                    invalid++;
+                    continue;
+                }
+
+                parsed++;
+                if (imported + batch.size() >= capacity) {
+                    overQuota++;
+                    continue;
+                }
+
+                batch.add(manga);
+                if (batch.size() == batchSize) {
+                    BatchResult result = insertBatch(batch);
+                    imported += result.inserted();
+                    overQuota += result.overQuota();
+                }
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Failed to read library import", exception);
+        }
+
+        BatchResult last = insertBatch(batch);
+        imported += last.inserted();
+        overQuota += last.overQuota();
+        return new LibraryImportResult(imported, parsed - imported - overQuota, invalid, overQuota);
+    }
+
+    private Manga parseLine(String line) {
+        try {
+            Manga manga = mangaReader.readValue(line);
+            return manga.malId() == null ? null : manga;
+        } catch (JsonProcessingException exception) {
+            log.debug("Skipping unreadable library import line: {}", exception.getMessage());
+            return null;
+        }
+    }
+
+    private BatchResult insertBatch(List<Manga> batch) {
+        if (batch.isEmpty()) {
+            return new BatchResult(0, 0);
+        }
+
+        int size = batch.size();
+        try {
+            tenantQuotaService.reserveCapacity(size);
+        } catch (TenantQuotaExceededException exception) {
+            // a concurrent add used up the capacity measured when the import started
+            batch.clear();
+            return new BatchResult(0, size);
+        }
+
+        List<Manga> inserted = mangaRepository.insertUnordered(batch);
+        batch.clear();
+        tenantQuotaService.releaseCapacity(size - inserted.size());
+
+        if (!inserted.isEmpty()) {
+            eventPublisher.publishEvent(new LibraryImportedEvent(inserted));
+        }
+        return new BatchResult(inserted.size(), 0);
+    }
+
+    private record BatchResult(int inserted, int overQuota) {
+    }
+}
@@ -1,37 +1,86 @@
 package dev.playerblair.manga_library.service;
 
 import dev.playerblair.manga_library.client.JikanClient;
+import dev.playerblair.manga_library.config.EnumLabelProperties;
+import dev.playerblair.manga_library.config.TenantProperties;
+import dev.playerblair.manga_library.event.MangaChangedEvent;
+import dev.playerblair.manga_library.event.SearchResultsCachedEvent;
 import dev.playerblair.manga_library.exception.*;
+import dev.playerblair.manga_library.model.LibraryEntry;
+import dev.playerblair.manga_library.model.LibraryState;
 import dev.playerblair.manga_library.model.Manga;
 import dev.playerblair.manga_library.model.ProgressType;
 import dev.playerblair.manga_library.model.Status;
 import dev.playerblair.manga_library.model.UserProgress;
+import dev.playerblair.manga_library.monitoring.FilterMangaEvent;
+import dev.playerblair.manga_library.monitoring.ProgressUpdateEvent;
+import dev.playerblair.manga_library.monitoring.RefreshMangaEvent;
 import dev.playerblair.manga_library.repository.MangaRepository;
 import dev.playerblair.manga_library.request.FilterParams;
+import dev.playerblair.manga_library.request.SearchContinuation;
 import dev.playerblair.manga_library.response.JikanSearchResponse;
 import dev.playerblair.manga_library.response.MangaResponse;
 import dev.playerblair.manga_library.response.Pagination;
+import dev.playerblair.manga_library.response.SearchPage;
+import dev.playerblair.manga_library.tenant.TenantContext;
+import dev.playerblair.manga_library.tenant.TenantStateMap;
+import dev.playerblair.manga_library.util.ContinuationTokenCodec;
 import dev.playerblair.manga_library.util.MangaMapper;
+import dev.playerblair.manga_library.util.UnknownLabelPolicy;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClientException;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
 
 @Service
+@Timed("manga.service")
 public class MangaService {
 
+    private static final Logger log = LoggerFactory.getLogger(MangaService.class);
+
     private final MangaRepository mangaRepository;
     private final JikanClient jikanClient;
+    private final ContinuationTokenCodec continuationTokenCodec;
+    private final CatalogService catalogService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TenantQuotaService tenantQuotaService;
+    private final MeterRegistry meterRegistry;
+    private final UnknownLabelPolicy unknownLabelPolicy;
+    private final Counter sessionHits;
+    private final Counter sessionMisses;
+    private final Counter continuationHits;
+    private final Counter continuationMisses;
 
-    private String lastSearchQuery;
-    private Pagination lastSearchPagination;
-    private Map<Long, MangaResponse> lastSearchResults;
+    private final TenantStateMap<LastSearch> lastSearches;
 
-    public MangaService(MangaRepository mangaRepository, JikanClient jikanClient) {
+    public MangaService(MangaRepository mangaRepository, JikanClient jikanClient,
+                        ContinuationTokenCodec continuationTokenCodec, CatalogService catalogService,
+                        ApplicationEventPublisher eventPublisher, TenantQuotaService tenantQuotaService,
+                        TenantProperties tenantProperties, EnumLabelProperties enumLabelProperties,
+                        MeterRegistry meterRegistry) {
         this.mangaRepository = mangaRepository;
         this.jikanClient = jikanClient;
-        this.lastSearchResults = new HashMap<>();
+        this.continuationTokenCodec = continuationTokenCodec;
+        this.catalogService = catalogService;
+        this.eventPublisher = eventPublisher;
+        this.tenantQuotaService = tenantQuotaService;
+        this.meterRegistry = meterRegistry;
+        this.unknownLabelPolicy = enumLabelProperties.unknownPolicy();
+        this.sessionHits = searchSessionCounter("server", "hit");
+        this.sessionMisses = searchSessionCounter("server", "miss");
+        this.continuationHits = searchSessionCounter("token", "hit");
+        this.continuationMisses = searchSessionCounter("token", "miss");
+        this.lastSearches = new TenantStateMap<>(tenantProperties.idleTimeout());
     }
 
     public List<Manga> getAllManga() {
@@ -43,51 +92,150 @@ public class MangaService {
                 .orElseThrow(() -> new MangaNotFoundException(malId));
     }
 
-    public JikanSearchResponse searchManga(String query) {
-        return processSearchResponse(jikanClient.searchManga(query), query);
+    public Optional<LibraryEntry> findEntry(Long malId) {
+        return mangaRepository.findEntry(malId);
+    }
+
+    public LibraryState getLibraryState() {
+        return mangaRepository.findState();
     }
 
-    public JikanSearchResponse searchManga(String query, int page) {
-        return processSearchResponse(jikanClient.searchManga(query, page), query);
+    public SearchPage searchManga(String query) {
+        SearchPage searchPage = catalogService.searchManga(query, 1)
+                .map(response -> new SearchPage(response, SearchContinuation.Source.CATALOG))
+                .orElseGet(() -> new SearchPage(jikanClient.searchManga(query), SearchContinuation.Source.JIKAN));
+        processSearchResponse(searchPage, query);
+        return searchPage;
     }
 
     public JikanSearchResponse searchMangaNext() {
-        if (lastSearchQuery == null) {
+        LastSearch lastSearch = lastSearches.get(TenantContext.current());
+        if (lastSearch == null) {
             throw new NoInitialSearchException();
         }
 
-        if (!lastSearchPagination.hasNext()) {
+        if (!lastSearch.pagination().hasNext()) {
+            throw new PaginationLimitReachedException();
+        }
+
+        SearchPage searchPage = new SearchPage(
+                searchPage(lastSearch.query(), lastSearch.pagination().currentPage() + 1, lastSearch.source()),
+                lastSearch.source()
+        );
+        processSearchResponse(searchPage, lastSearch.query());
+        return searchPage.response();
+    }
+
+    public SearchPage searchMangaNext(SearchContinuation continuation) {
+        if (!continuation.hasNext()) {
             throw new PaginationLimitReachedException();
         }
 
-        return searchManga(lastSearchQuery, lastSearchPagination.currentPage() + 1);
+        return new SearchPage(
+                searchPage(continuation.query(), continuation.page() + 1, continuation.source()),
+                continuation.source()
+        );
+    }
+
+    public String createContinuationToken(String query, SearchPage searchPage) {
+        JikanSearchResponse searchResponse = searchPage.response();
+        return continuationTokenCodec.encode(new SearchContinuation(
+                query,
+                searchResponse.pagination().currentPage(),
+                searchResponse.pagination().hasNext(),
+                searchResponse.data().stream().map(MangaResponse::malId).toList(),
+                searchPage.source()
+        ), TenantContext.current());
+    }
+
+    public SearchContinuation decodeContinuationToken(String token) {
+        return continuationTokenCodec.decode(token, TenantContext.current());
     }
 
     public Manga addManga(Long malId) {
-        MangaResponse mangaResponse = lastSearchResults.get(malId);
+        LastSearch lastSearch = lastSearches.get(TenantContext.current());
+        MangaResponse mangaResponse = lastSearch == null ? null : lastSearch.results().get(malId);
         if (mangaResponse == null) {
+            sessionMisses.increment();
             throw new MangaNotFoundInSearchResultsException(malId);
         }
 
-        return mangaRepository.findById(malId)
-                .map(manga -> mangaRepository.save(MangaMapper.updateManga(mangaResponse, manga)))
-                .orElseGet(() -> mangaRepository.save(MangaMapper.toManga(mangaResponse)));
+        sessionHits.increment();
+        return saveSearchResult(mangaResponse);
+    }
+
+    public Manga addManga(Long malId, SearchContinuation continuation) {
+        if (!continuation.malIds().contains(malId)) {
+            continuationMisses.increment();
+            throw new MangaNotFoundInSearchResultsException(malId);
+        }
+
+        continuationHits.increment();
+
+        MangaResponse mangaResponse = catalogService.getManga(malId)
+                .orElseGet(() -> jikanClient.getManga(malId).data());
+        return saveSearchResult(mangaResponse);
+    }
+
+    private JikanSearchResponse searchPage(String query, int page, SearchContinuation.Source source) {
+        if (source == SearchContinuation.Source.JIKAN) {
+            return jikanClient.searchManga(query, page);
+        }
+        // the catalog ran out of matches, or stopped answering, after the first page
+        return catalogService.searchManga(query, page)
+                .orElseGet(() -> new JikanSearchResponse(new Pagination(page, false), List.of()));
+    }
+
+    private Manga saveSearchResult(MangaResponse mangaResponse) {
+        return mangaRepository.findById(mangaResponse.malId())
+                .map(manga -> save(manga, MangaMapper.updateManga(mangaResponse, manga, unknownLabelPolicy), mangaRepository::save))
+                .orElseGet(() -> {
+                    tenantQuotaService.reserveCapacity(1);
+                    return save(null, MangaMapper.toManga(mangaResponse, unknownLabelPolicy), this::insertReserved);
+                });
+    }
+
+    private Manga insertReserved(Manga manga) {
+        // the insert keeps metadata other tenants already share, so the fresh search result refreshes it first
+        mangaRepository.saveMetadata(manga);
+        if (mangaRepository.insertUnordered(List.of(manga)).isEmpty()) {
+            // added by a concurrent request, which holds its own reservation
+            tenantQuotaService.releaseCapacity(1);
+            return mangaRepository.save(manga);
+        }
+        return manga;
+    }
+
+    private Manga save(Manga previous, Manga manga, UnaryOperator<Manga> write) {
+        Manga saved = write.apply(manga);
+        eventPublisher.publishEvent(MangaChangedEvent.saved(previous, manga));
+        return saved;
     }
 
     public void refreshAllManga() {
         mangaRepository.findAll()
                 .forEach(manga -> {
-                    MangaResponse mangaResponse = jikanClient.getManga(manga.malId()).data();
-                    mangaRepository.save(MangaMapper.updateManga(mangaResponse, manga));
+                    RefreshMangaEvent event = RefreshMangaEvent.start();
+                    try {
+                        Manga refreshed = refreshOrKeepStored(manga);
+                        event.complete(manga.malId(), refreshOutcome(manga, refreshed));
+                    } catch (RestClientException exception) {
+                        event.complete(manga.malId(), "skipped");
+                        log.warn("Skipping refresh of manga {}: {}", manga.malId(), exception.getMessage());
+                    }
                 });
     }
 
+    private static String refreshOutcome(Manga stored, Manga refreshed) {
+        if (refreshed == stored) {
+            return "kept_stored";
+        }
+        return stored.equals(refreshed) ? "unchanged" : "refreshed";
+    }
+
     public Manga refreshManga(Long malId) {
         return mangaRepository.findById(malId)
-                .map(manga -> {
-                    MangaResponse mangaResponse = jikanClient.getManga(manga.malId()).data();
-                    return mangaRepository.save(MangaMapper.updateManga(mangaResponse, manga));
-                })
+                .map(this::refreshOrKeepStored)
                 .orElseThrow(() -> new MangaNotFoundException(malId));
     }
 
@@ -98,42 +246,73 @@ public class MangaService {
     }
 
     public Manga updateProgress(Long malId, UserProgress progressUpdate) {
-        return mangaRepository.findById(malId)
-                .map(manga -> mangaRepository.save(MangaMapper.updateProgress(validateProgressUpdate(progressUpdate, manga), manga)))
-                .orElseThrow(() -> new MangaNotFoundException(malId));
+        ProgressUpdateEvent event = ProgressUpdateEvent.start();
+        try {
+            Manga updated = mangaRepository.findById(malId)
+                    .map(manga -> save(
+                            manga,
+                            MangaMapper.updateProgress(validateProgressUpdate(progressUpdate, manga), manga),
+                            mangaRepository::saveProgress
+                    ))
+                    .orElseThrow(() -> new MangaNotFoundException(malId));
+            event.complete(malId, progressUpdate, "updated");
+            return updated;
+        } catch (RuntimeException exception) {
+            event.complete(malId, progressUpdate, exception.getClass().getSimpleName());
+            throw exception;
+        }
     }
 
     public Manga deleteManga(Long malId) {
         return mangaRepository.findById(malId)
                 .map(manga -> {
                     mangaRepository.delete(manga);
+                    eventPublisher.publishEvent(MangaChangedEvent.deleted(manga));
                     return manga;
                 })
                 .orElseThrow(() -> new MangaNotFoundException(malId));
     }
 
     public List<Manga> filterManga(FilterParams filter) {
-        return mangaRepository.findByDynamicCriteria(filter);
+        FilterMangaEvent event = FilterMangaEvent.start();
+        List<Manga> results = mangaRepository.findByDynamicCriteria(filter);
+        event.complete(filter, results.size());
+        return results;
     }
 
-    private JikanSearchResponse processSearchResponse(JikanSearchResponse searchResponse, String query) {
-        lastSearchQuery = query;
-        lastSearchPagination = searchResponse.pagination();
-        lastSearchResults.clear();
-        searchResponse.data().forEach(manga -> lastSearchResults.put(manga.malId(), manga));
+    private Manga refreshOrKeepStored(Manga manga) {
+        try {
+            MangaResponse mangaResponse = jikanClient.getManga(manga.malId()).data();
+            Manga refreshed = MangaMapper.updateManga(mangaResponse, manga, unknownLabelPolicy);
+            if (refreshed.equals(manga)) {
+                return refreshed;
+            }
+            return save(manga, refreshed, mangaRepository::saveMetadata);
+        } catch (JikanUnavailableException exception) {
+            return manga;
+        }
+    }
 
-        return searchResponse;
+    private void processSearchResponse(SearchPage searchPage, String query) {
+        JikanSearchResponse searchResponse = searchPage.response();
+        Map<Long, MangaResponse> results = new HashMap<>();
+        searchResponse.data().forEach(manga -> results.put(manga.malId(), manga));
+        lastSearches.put(TenantContext.current(),
+                new LastSearch(query, searchPage.source(), searchResponse.pagination(), results));
+        eventPublisher.publishEvent(new SearchResultsCachedEvent(query, searchResponse.data()));
     }
 
     private UserProgress validateProgressUpdate(UserProgress progressUpdate, Manga manga) {
-        boolean isOngoing = manga.status() != Status.FINISHED && manga.status() != Status.DISCONTINUED;
+        // a status that could not be read (unknown or skipped) does not restrict the update
+        boolean isOngoing = manga.status() == Status.PUBLISHING || manga.status() == Status.HIATUS
+                || manga.status() == Status.UPCOMING;
         if (progressUpdate.progress() == ProgressType.FINISHED && isOngoing) {
             String message = String.format(
                     "Cannot set progress to 'Finished' as the status of '%s' is '%s'",
                     manga.title(),
                     manga.status().getLabel()
             );
-            throw new InvalidProgressUpdateException(message);
+            throw rejectProgressUpdate("finished_while_ongoing", message);
         }
 
         if (progressUpdate.progress() == ProgressType.FINISHED) {
@@ -146,7 +325,7 @@ public class MangaService {
         }
 
         if (progressUpdate.chaptersRead() < 0) {
-            throw new InvalidProgressUpdateException("Cannot set chaptersRead to a negative number.");
+            throw rejectProgressUpdate("negative_chapters", "Cannot set chaptersRead to a negative number.");
         }
 
         if (progressUpdate.chaptersRead() > manga.chapters()) {
@@ -156,11 +335,11 @@ public class MangaService {
                     manga.title(),
                     manga.chapters()
             );
-            throw new InvalidProgressUpdateException(message);
+            throw rejectProgressUpdate("too_many_chapters", message);
         }
 
         if (progressUpdate.volumesRead() < 0) {
-            throw new InvalidProgressUpdateException("Cannot set volumesRead to a negative number.");
+            throw rejectProgressUpdate("negative_volumes", "Cannot set volumesRead to a negative number.");
         }
 
         if (progressUpdate.volumesRead() > manga.volumes()) {
@@ -170,9 +349,26 @@ public class MangaService {
                     manga.title(),
                     manga.volumes()
             );
-            throw new InvalidProgressUpdateException(message);
+            throw rejectProgressUpdate("too_many_volumes", message);
         }
 
         return progressUpdate;
     }
+
+    private InvalidProgressUpdateException rejectProgressUpdate(String reason, String message) {
+        meterRegistry.counter("manga.progress.rejections", "reason", reason).increment();
+        return new InvalidProgressUpdateException(message);
+    }
+
+    private Counter searchSessionCounter(String session, String result) {
+        return Counter.builder("manga.search.session")
+                .description("Manga added from the last search results")
+                .tag("session", session)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record LastSearch(String query, SearchContinuation.Source source, Pagination pagination,
+                              Map<Long, MangaResponse> results) {
+    }
 }
@@ -0,0 +1,95 @@
+package dev.playerblair.manga_library.service;
+
+import dev.playerblair.manga_library.event.MangaChangedEvent;
+import dev.playerblair.manga_library.exception.InvalidHistoryRangeException;
+import dev.playerblair.manga_library.model.ProgressEvent;
+import dev.playerblair.manga_library.model.UserProgress;
+import dev.playerblair.manga_library.repository.ProgressHistoryRepository;
+import dev.playerblair.manga_library.request.HistoryInterval;
+import dev.playerblair.manga_library.response.ReadingActivity;
+import dev.playerblair.manga_library.tenant.TenantContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Objects;
+
+@Service
+public class ReadingHistoryService {
+
+    private static final Logger log = LoggerFactory.getLogger(ReadingHistoryService.class);
+    private static final UserProgress NO_PROGRESS = new UserProgress(null, 0, 0, 0);
+
+    private final ProgressHistoryRepository progressHistoryRepository;
+    private final Clock clock;
+
+    @Autowired
+    public ReadingHistoryService(ProgressHistoryRepository progressHistoryRepository) {
+        this(progressHistoryRepository, Clock.systemUTC());
+    }
+
+    ReadingHistoryService(ProgressHistoryRepository progressHistoryRepository, Clock clock) {
+        this.progressHistoryRepository = progressHistoryRepository;
+        this.clock = clock;
+    }
+
+    public List<ReadingActivity> getActivity(Long malId, LocalDate from, LocalDate to, HistoryInterval interval) {
+        LocalDate end = to == null ? LocalDate.now(clock) : to;
+        LocalDate start = from == null ? end.minusYears(1).plusDays(1) : from;
+        if (start.isAfter(end)) {
+            throw new InvalidHistoryRangeException(String.format(
+                    "Cannot report reading activity from %s to %s: 'from' is after 'to'.", start, end));
+        }
+
+        return progressHistoryRepository.findActivity(
+                malId,
+                start.atStartOfDay(ZoneOffset.UTC).toInstant(),
+                end.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant(),
+                interval
+        );
+    }
+
+    @EventListener
+    public void onMangaChanged(MangaChangedEvent event) {
+        if (event.type() != MangaChangedEvent.ChangeType.UPDATED) {
+            return;
+        }
+
+        UserProgress previous = Objects.requireNonNullElse(event.previous().progress(), NO_PROGRESS);
+        UserProgress current = Objects.requireNonNullElse(event.current().progress(), NO_PROGRESS);
+        if (previous.equals(current)) {
+            return;
+        }
+
+        try {
+            progressHistoryRepository.insert(new ProgressEvent(
+                    clock.instant(),
+                    new ProgressEvent.Subject(TenantContext.current(), event.malId()),
+                    previous.progress(),
+                    current.progress(),
+                    current.chaptersRead() - previous.chaptersRead(),
+                    current.volumesRead() - previous.volumesRead(),
+                    current.rating() - previous.rating()
+            ));
+        } catch (DataAccessException exception) {
+            log.warn("Could not record progress history of manga {}: {}", event.malId(), exception.getMessage());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureCollection() {
+        try {
+            progressHistoryRepository.ensureCollection();
+        } catch (DataAccessException exception) {
+            log.warn("Could not create the progress history collection: {}", exception.getMessage());
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package dev.playerblair.manga_library.service;
+
+import dev.playerblair.manga_library.config.TenantProperties;
+import dev.playerblair.manga_library.exception.TenantQuotaExceededException;
+import dev.playerblair.manga_library.repository.MangaRepository;
+import dev.playerblair.manga_library.tenant.TenantContext;
+import org.springframework.stereotype.Service;
+
+@Service
+public class TenantQuotaService {
+
+    private final MangaRepository mangaRepository;
+    private final TenantProperties properties;
+
+    public TenantQuotaService(MangaRepository mangaRepository, TenantProperties properties) {
+        this.mangaRepository = mangaRepository;
+        this.properties = properties;
+    }
+
+    public long remainingCapacity() {
+        return Math.max(0, properties.maxLibrarySize() - mangaRepository.countReservedEntries());
+    }
+
+    /**
+     * Reserves room for new library entries in one conditional write, so concurrent adds cannot overshoot the
+     * limit. Callers release whatever part of the reservation they did not end up inserting.
+     */
+    public void reserveCapacity(int additional) {
+        if (!mangaRepository.reserveEntries(additional, properties.maxLibrarySize())) {
+            throw new TenantQuotaExceededException(TenantContext.current(), properties.maxLibrarySize());
+        }
+    }
+
+    public void releaseCapacity(int unused) {
+        mangaRepository.releaseEntries(unused);
+    }
+}
@@ -0,0 +1,76 @@
+package dev.playerblair.manga_library.tenant;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.playerblair.manga_library.response.ErrorResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+public class TenantFilter extends OncePerRequestFilter {
+
+    private static final Pattern TENANT_ID = Pattern.compile("[A-Za-z0-9][A-Za-z0-9_-]{0,63}");
+
+    private final String header;
+    private final Set<String> allowedTenants;
+    private final TenantRateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+
+    public TenantFilter(String header, Set<String> allowedTenants, TenantRateLimiter rateLimiter,
+                        ObjectMapper objectMapper) {
+        this.header = header;
+        this.allowedTenants = Set.copyOf(allowedTenants);
+        this.rateLimiter = rateLimiter;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String value = request.getHeader(header);
+        String tenant = value == null || value.isBlank() ? TenantContext.DEFAULT_TENANT : value.trim();
+
+        if (!TENANT_ID.matcher(tenant).matches()) {
+            writeError(response, HttpStatus.BAD_REQUEST, String.format(
+                    "Invalid %s '%s': use 1-64 letters, digits, '-' or '_'.", header, tenant));
+            return;
+        }
+
+        if (!allowedTenants.contains(tenant)) {
+            writeError(response, HttpStatus.FORBIDDEN, String.format("Unknown tenant '%s'.", tenant));
+            return;
+        }
+
+        if (!rateLimiter.tryAcquire(tenant)) {
+            long retryAfter = Math.max(1, rateLimiter.retryAfter(tenant).toSeconds());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter));
+            writeError(response, HttpStatus.TOO_MANY_REQUESTS, String.format(
+                    "Too many requests for tenant '%s', retry in %d second(s).", tenant, retryAfter));
+            return;
+        }
+
+        response.addHeader(HttpHeaders.VARY, header);
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        TenantContext.set(tenant);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            TenantContext.clear();
+        }
+    }
+
+    private void writeError(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), new ErrorResponse(status.value(), message, LocalDateTime.now()));
+    }
+}
@@ -0,0 +1,56 @@
+package dev.playerblair.manga_library.tenant;
+
+import dev.playerblair.manga_library.config.TenantProperties;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Throttles bursts of requests per tenant with a fixed window counted in memory. Every instance counts only the
+ * requests it serves and forgets them once the window has passed, so this protects an instance from one noisy tenant
+ * but is not a quota: the library size limit in {@code TenantQuotaService} is the only limit enforced across
+ * instances.
+ */
+public class TenantRateLimiter {
+
+    private final TenantProperties.RateLimit rateLimit;
+    private final Clock clock;
+    private final TenantStateMap<RequestWindow> requestWindows;
+
+    public TenantRateLimiter(TenantProperties.RateLimit rateLimit) {
+        this(rateLimit, Clock.systemUTC());
+    }
+
+    TenantRateLimiter(TenantProperties.RateLimit rateLimit, Clock clock) {
+        this.rateLimit = rateLimit;
+        this.clock = clock;
+        this.requestWindows = new TenantStateMap<>(rateLimit.window());
+    }
+
+    public boolean tryAcquire(String tenant) {
+        return currentWindow(tenant, clock.millis()).count.incrementAndGet() <= rateLimit.limit();
+    }
+
+    public Duration retryAfter(String tenant) {
+        long now = clock.millis();
+        RequestWindow window = currentWindow(tenant, now);
+        return Duration.ofMillis(Math.max(0, window.start + rateLimit.window().toMillis() - now));
+    }
+
+    private RequestWindow currentWindow(String tenant, long now) {
+        long length = rateLimit.window().toMillis();
+        return requestWindows.compute(tenant, (key, window) ->
+                window == null || now - window.start >= length ? new RequestWindow(now) : window);
+    }
+
+    private static final class RequestWindow {
+
+        private final long start;
+        private final AtomicInteger count = new AtomicInteger();
+
+        private RequestWindow(long start) {
+            this.start = start;
+        }
+    }
+}
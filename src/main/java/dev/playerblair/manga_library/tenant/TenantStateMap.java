@@ -0,0 +1,106 @@
+package dev.playerblair.manga_library.tenant;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * In-memory state kept per tenant. Tenants are named by a request header, so an entry that has not been used for the
+ * idle timeout is dropped instead of living as long as the application, unless {@code evictable} says it is still
+ * needed. Idle entries are swept on writes, at most once per idle timeout.
+ */
+public class TenantStateMap<V> {
+
+    private final Map<String, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final long idleMillis;
+    private final Predicate<V> evictable;
+    private final Clock clock;
+    private final AtomicLong nextSweep;
+
+    public TenantStateMap(Duration idleTimeout) {
+        this(idleTimeout, value -> true);
+    }
+
+    public TenantStateMap(Duration idleTimeout, Predicate<V> evictable) {
+        this(idleTimeout, evictable, Clock.systemUTC());
+    }
+
+    TenantStateMap(Duration idleTimeout, Predicate<V> evictable, Clock clock) {
+        this.idleMillis = idleTimeout.toMillis();
+        this.evictable = evictable;
+        this.clock = clock;
+        this.nextSweep = new AtomicLong(clock.millis() + idleMillis);
+    }
+
+    public V get(String tenant) {
+        long now = clock.millis();
+        Entry<V> entry = entries.computeIfPresent(tenant, (key, existing) -> existing.touch(now));
+        return entry == null ? null : entry.value;
+    }
+
+    public V computeIfAbsent(String tenant, Function<String, V> factory) {
+        return compute(tenant, (key, value) -> value == null ? factory.apply(key) : value);
+    }
+
+    public V compute(String tenant, BiFunction<String, V, V> remapping) {
+        long now = clock.millis();
+        sweepIfDue(now);
+        Entry<V> updated = entries.compute(tenant, (key, existing) -> {
+            V value = remapping.apply(key, existing == null ? null : existing.value);
+            if (value == null) {
+                return null;
+            }
+            return existing != null && existing.value == value ? existing.touch(now) : new Entry<>(value, now);
+        });
+        return updated == null ? null : updated.value;
+    }
+
+    public void put(String tenant, V value) {
+        compute(tenant, (key, existing) -> value);
+    }
+
+    public Collection<V> values() {
+        return entries.values().stream().map(entry -> entry.value).toList();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    void evictIdle(long now) {
+        for (String tenant : List.copyOf(entries.keySet())) {
+            entries.computeIfPresent(tenant, (key, entry) ->
+                    now - entry.lastAccess >= idleMillis && evictable.test(entry.value) ? null : entry);
+        }
+    }
+
+    private void sweepIfDue(long now) {
+        long due = nextSweep.get();
+        if (now >= due && nextSweep.compareAndSet(due, now + idleMillis)) {
+            evictIdle(now);
+        }
+    }
+
+    private static final class Entry<V> {
+
+        private final V value;
+        private volatile long lastAccess;
+
+        private Entry(V value, long lastAccess) {
+            this.value = value;
+            this.lastAccess = lastAccess;
+        }
+
+        private Entry<V> touch(long now) {
+            lastAccess = now;
+            return this;
+        }
+    }
+}
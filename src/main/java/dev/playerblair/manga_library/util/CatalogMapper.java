@@ -0,0 +1,44 @@
+package dev.playerblair.manga_library.util;
+
+import dev.playerblair.manga_library.model.CatalogEntry;
+import dev.playerblair.manga_library.response.MangaResponse;
+
+import java.time.Instant;
+
+public class CatalogMapper {
+
+    public static CatalogEntry toCatalogEntry(MangaResponse mangaResponse, Instant importedAt) {
+        return new CatalogEntry(
+                mangaResponse.malId(),
+                mangaResponse.title(),
+                mangaResponse.type(),
+                mangaResponse.chapters(),
+                mangaResponse.volumes(),
+                mangaResponse.status(),
+                mangaResponse.synopsis(),
+                mangaResponse.authors(),
+                mangaResponse.genres().stream()
+                        .map(MangaResponse.GenreWrapper::name)
+                        .toList(),
+                mangaResponse.url(),
+                importedAt
+        );
+    }
+
+    public static MangaResponse toMangaResponse(CatalogEntry catalogEntry) {
+        return new MangaResponse(
+                catalogEntry.malId(),
+                catalogEntry.title(),
+                catalogEntry.type(),
+                catalogEntry.chapters(),
+                catalogEntry.volumes(),
+                catalogEntry.status(),
+                catalogEntry.synopsis(),
+                catalogEntry.authors(),
+                catalogEntry.genres().stream()
+                        .map(MangaResponse.GenreWrapper::new)
+                        .toList(),
+                catalogEntry.url()
+        );
+    }
+}
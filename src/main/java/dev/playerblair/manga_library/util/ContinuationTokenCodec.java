@@ -0,0 +1,104 @@
+package dev.playerblair.manga_library.util;
+
+import dev.playerblair.manga_library.config.ContinuationTokenProperties;
+import dev.playerblair.manga_library.exception.InvalidContinuationTokenException;
+import dev.playerblair.manga_library.request.SearchContinuation;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Signs search continuations so any instance can serve the next page. The signature also covers the tenant the token
+ * was issued to, so it cannot be replayed against another library, and the payload carries an expiry after which the
+ * token is rejected.
+ */
+@Component
+public class ContinuationTokenCodec {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final String SEPARATOR = ":";
+
+    private final SecretKeySpec key;
+    private final Duration ttl;
+    private final Clock clock;
+
+    @Autowired
+    public ContinuationTokenCodec(ContinuationTokenProperties properties) {
+        this(properties, Clock.systemUTC());
+    }
+
+    ContinuationTokenCodec(ContinuationTokenProperties properties, Clock clock) {
+        this.key = new SecretKeySpec(properties.secret().getBytes(StandardCharsets.UTF_8), HMAC_ALGORITHM);
+        this.ttl = properties.ttl();
+        this.clock = clock;
+    }
+
+    public String encode(SearchContinuation continuation, String tenant) {
+        String payload = String.join(SEPARATOR,
+                Long.toString(clock.instant().plus(ttl).getEpochSecond()),
+                Integer.toString(continuation.page()),
+                continuation.hasNext() ? "1" : "0",
+                continuation.source().name(),
+                continuation.malIds().stream().map(String::valueOf).collect(Collectors.joining(",")),
+                continuation.query()
+        );
+        byte[] payloadBytes = payload.getBytes(StandardCharsets.UTF_8);
+
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return encoder.encodeToString(payloadBytes) + "." + encoder.encodeToString(sign(tenant, payloadBytes));
+    }
+
+    public SearchContinuation decode(String token, String tenant) {
+        try {
+            String[] parts = token.split("\\.", 2);
+            if (parts.length != 2) {
+                throw new InvalidContinuationTokenException();
+            }
+
+            Base64.Decoder decoder = Base64.getUrlDecoder();
+            byte[] payloadBytes = decoder.decode(parts[0]);
+            if (!MessageDigest.isEqual(sign(tenant, payloadBytes), decoder.decode(parts[1]))) {
+                throw new InvalidContinuationTokenException();
+            }
+
+            String[] fields = new String(payloadBytes, StandardCharsets.UTF_8).split(SEPARATOR, 6);
+            if (fields.length != 6 || clock.instant().getEpochSecond() >= Long.parseLong(fields[0])) {
+                throw new InvalidContinuationTokenException();
+            }
+
+            List<Long> malIds = fields[4].isEmpty()
+                    ? List.of()
+                    : Arrays.stream(fields[4].split(",")).map(Long::valueOf).toList();
+
+            return new SearchContinuation(fields[5], Integer.parseInt(fields[1]), "1".equals(fields[2]), malIds,
+                    SearchContinuation.Source.valueOf(fields[3]));
+        } catch (IllegalArgumentException exception) {
+            throw new InvalidContinuationTokenException();
+        }
+    }
+
+    // the tenant is signed, not stored: it is length-prefixed so no tenant and payload pair can collide with another
+    private byte[] sign(String tenant, byte[] payload) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(key);
+            byte[] tenantBytes = tenant.getBytes(StandardCharsets.UTF_8);
+            mac.update((tenantBytes.length + SEPARATOR).getBytes(StandardCharsets.UTF_8));
+            mac.update(tenantBytes);
+            return mac.doFinal(payload);
+        } catch (GeneralSecurityException exception) {
+            throw new IllegalStateException("Unable to sign continuation token", exception);
+        }
+    }
+}
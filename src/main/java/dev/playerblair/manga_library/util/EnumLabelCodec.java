@@ -0,0 +1,135 @@
+package dev.playerblair.manga_library.util;
+
+import dev.playerblair.manga_library.model.LabeledEnum;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.core.convert.converter.GenericConverter;
+import org.springframework.data.convert.ReadingConverter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public final class EnumLabelCodec<E extends Enum<E> & LabeledEnum> {
+
+    private static final String UNKNOWN = "UNKNOWN";
+
+    private final Class<E> type;
+    private final Object[] byCode;
+    private final Map<String, E> byLabel;
+    private final Map<String, E> byName;
+    private final E unknown;
+
+    private EnumLabelCodec(Class<E> type) {
+        E[] constants = type.getEnumConstants();
+        this.type = type;
+        this.byCode = new Object[Long.SIZE];
+        this.byLabel = new HashMap<>(constants.length * 2);
+        this.byName = new HashMap<>(constants.length * 2);
+        for (E constant : constants) {
+            int code = constant.getCode();
+            if (code < 0 || code >= Long.SIZE) {
+                throw new IllegalStateException(type.getSimpleName() + "." + constant.name()
+                        + " has code " + code + ", codes must be between 0 and " + (Long.SIZE - 1));
+            }
+            if (byCode[code] != null) {
+                throw new IllegalStateException(type.getSimpleName() + "." + constant.name()
+                        + " reuses code " + code + " of " + byCode[code]);
+            }
+            byCode[code] = constant;
+            byLabel.put(constant.getLabel(), constant);
+            byName.put(constant.name(), constant);
+        }
+        this.unknown = byName.get(UNKNOWN);
+    }
+
+    public static <E extends Enum<E> & LabeledEnum> EnumLabelCodec<E> of(Class<E> type) {
+        return new EnumLabelCodec<>(type);
+    }
+
+    public Class<E> type() {
+        return type;
+    }
+
+    public E fromLabel(String label) {
+        return decodeLabel(label, UnknownLabelPolicy.FAIL);
+    }
+
+    public E decodeLabel(String label, UnknownLabelPolicy policy) {
+        E constant = label == null ? null : byLabel.get(label);
+        return constant != null ? constant : onUnknown("label", label, policy);
+    }
+
+    public E decodeName(String name, UnknownLabelPolicy policy) {
+        E constant = name == null ? null : byName.get(name);
+        return constant != null ? constant : onUnknown("name", name, policy);
+    }
+
+    public int code(E constant) {
+        return constant.getCode();
+    }
+
+    public E decodeCode(int code, UnknownLabelPolicy policy) {
+        E constant = code >= 0 && code < byCode.length ? type.cast(byCode[code]) : null;
+        return constant != null ? constant : onUnknown("code", Integer.toString(code), policy);
+    }
+
+    public E decodeStored(Object value, UnknownLabelPolicy policy) {
+        return switch (value) {
+            case null -> null;
+            case Number code -> decodeCode(code.intValue(), policy);
+            default -> decodeName(value.toString(), policy);
+        };
+    }
+
+    public long mask(Collection<E> values) {
+        long mask = 0;
+        for (E value : values) {
+            mask |= 1L << value.getCode();
+        }
+        return mask;
+    }
+
+    public List<E> decodeMask(long mask, UnknownLabelPolicy policy) {
+        List<E> values = new ArrayList<>(Long.bitCount(mask));
+        for (long remaining = mask; remaining != 0; remaining &= remaining - 1) {
+            E value = decodeCode(Long.numberOfTrailingZeros(remaining), policy);
+            if (value != null) {
+                values.add(value);
+            }
+        }
+        return values;
+    }
+
+    public GenericConverter mongoReader(UnknownLabelPolicy policy) {
+        return new NameReadingConverter<>(this, policy);
+    }
+
+    private E onUnknown(String kind, String value, UnknownLabelPolicy policy) {
+        if (policy == UnknownLabelPolicy.SKIP) {
+            return null;
+        }
+        if (policy == UnknownLabelPolicy.UNKNOWN && unknown != null) {
+            return unknown;
+        }
+        throw new IllegalArgumentException("Unknown " + kind + ": " + value);
+    }
+
+    @ReadingConverter
+    private record NameReadingConverter<E extends Enum<E> & LabeledEnum>(EnumLabelCodec<E> codec,
+                                                                          UnknownLabelPolicy policy)
+            implements GenericConverter {
+
+        @Override
+        public Set<ConvertiblePair> getConvertibleTypes() {
+            return Set.of(new ConvertiblePair(String.class, codec.type));
+        }
+
+        @Override
+        public Object convert(Object source, TypeDescriptor sourceType, TypeDescriptor targetType) {
+            return source == null ? null : codec.decodeName((String) source, policy);
+        }
+    }
+}
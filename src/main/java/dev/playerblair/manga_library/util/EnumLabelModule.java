@@ -0,0 +1,73 @@
+package dev.playerblair.manga_library.util;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import dev.playerblair.manga_library.model.Genre;
+import dev.playerblair.manga_library.model.LabeledEnum;
+import dev.playerblair.manga_library.model.Status;
+import dev.playerblair.manga_library.model.Type;
+import dev.playerblair.manga_library.response.MangaResponse;
+
+import java.io.IOException;
+
+public class EnumLabelModule extends SimpleModule {
+
+    public EnumLabelModule(UnknownLabelPolicy policy) {
+        super("EnumLabelModule");
+        addLabelDeserializer(Genre.labels(), policy);
+        addLabelDeserializer(Status.labels(), policy);
+        addLabelDeserializer(Type.labels(), policy);
+        addDeserializer(MangaResponse.GenreWrapper.class, new GenreWrapperDeserializer(policy));
+    }
+
+    private <E extends Enum<E> & LabeledEnum> void addLabelDeserializer(EnumLabelCodec<E> codec, UnknownLabelPolicy policy) {
+        addDeserializer(codec.type(), new LabelDeserializer<>(codec, policy));
+    }
+
+    private static final class LabelDeserializer<E extends Enum<E> & LabeledEnum> extends StdDeserializer<E> {
+
+        private final EnumLabelCodec<E> codec;
+        private final UnknownLabelPolicy policy;
+
+        private LabelDeserializer(EnumLabelCodec<E> codec, UnknownLabelPolicy policy) {
+            super(codec.type());
+            this.codec = codec;
+            this.policy = policy;
+        }
+
+        @Override
+        public E deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            String label = parser.getValueAsString();
+            try {
+                return codec.decodeLabel(label, policy);
+            } catch (IllegalArgumentException exception) {
+                throw context.weirdStringException(label, codec.type(), exception.getMessage());
+            }
+        }
+    }
+
+    private static final class GenreWrapperDeserializer extends StdDeserializer<MangaResponse.GenreWrapper> {
+
+        private final UnknownLabelPolicy policy;
+
+        private GenreWrapperDeserializer(UnknownLabelPolicy policy) {
+            super(MangaResponse.GenreWrapper.class);
+            this.policy = policy;
+        }
+
+        @Override
+        public MangaResponse.GenreWrapper deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            JsonNode name = context.readTree(parser).get("name");
+            String label = name == null ? null : name.asText();
+            try {
+                Genre genre = Genre.labels().decodeLabel(label, policy);
+                return genre == null ? null : new MangaResponse.GenreWrapper(genre.getLabel());
+            } catch (IllegalArgumentException exception) {
+                throw context.weirdStringException(label, Genre.class, exception.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package dev.playerblair.manga_library.util;
+
+public enum EnumStorageFormat {
+    NAMES,
+    CODES
+}
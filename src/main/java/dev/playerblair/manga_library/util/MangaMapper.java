@@ -4,9 +4,13 @@ import dev.playerblair.manga_library.exception.InvalidProgressUpdateException;
 import dev.playerblair.manga_library.model.*;
 import dev.playerblair.manga_library.response.MangaResponse;
 
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+
 public class MangaMapper {
 
-    public static Manga toManga(MangaResponse mangaResponse) {
+    public static Manga toManga(MangaResponse mangaResponse, UnknownLabelPolicy policy) {
         return new Manga(
                 mangaResponse.malId(),
                 mangaResponse.title(),
@@ -16,9 +20,7 @@ public class MangaMapper {
                 mangaResponse.status(),
                 mangaResponse.synopsis(),
                 mangaResponse.authors(),
-                mangaResponse.genres().stream()
-                        .map(genreWrapper -> Genre.fromLabel(genreWrapper.name()))
-                        .toList(),
+                toGenres(mangaResponse.genres(), policy),
                 mangaResponse.url(),
                 new UserProgress(
                         ProgressType.PLANNING,
@@ -29,7 +31,7 @@ public class MangaMapper {
         );
     }
 
-    public static Manga updateManga(MangaResponse mangaResponse, Manga manga) {
+    public static Manga updateManga(MangaResponse mangaResponse, Manga manga, UnknownLabelPolicy policy) {
         if (!mangaResponse.malId().equals(manga.malId())) {
             throw new IllegalArgumentException("Cannot update manga with mismatched information.");
         }
@@ -42,14 +44,21 @@ public class MangaMapper {
                 mangaResponse.status(),
                 mangaResponse.synopsis(),
                 mangaResponse.authors(),
-                mangaResponse.genres().stream()
-                        .map(genreWrapper -> Genre.fromLabel(genreWrapper.name()))
-                        .toList(),
+                toGenres(mangaResponse.genres(), policy),
                 mangaResponse.url(),
                 manga.progress()
         );
     }
 
+    // skipped labels are dropped, and several unknown ones collapse into a single UNKNOWN
+    private static List<Genre> toGenres(List<MangaResponse.GenreWrapper> genres, UnknownLabelPolicy policy) {
+        return genres.stream()
+                .map(genreWrapper -> Genre.labels().decodeLabel(genreWrapper.name(), policy))
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+    }
+
     public static Manga updateProgress(UserProgress progressUpdate, Manga manga) {
         return new Manga(
                 manga.malId(),
@@ -65,4 +74,53 @@ public class MangaMapper {
                 progressUpdate
         );
     }
+
+    public static MangaMetadata toMetadata(Manga manga) {
+        return new MangaMetadata(
+                manga.malId(),
+                manga.title(),
+                manga.type(),
+                manga.chapters(),
+                manga.volumes(),
+                manga.status(),
+                manga.synopsis(),
+                manga.authors(),
+                manga.genres(),
+                manga.url()
+        );
+    }
+
+    public static LibraryEntry toLibraryEntry(String tenant, Manga manga, long version, Instant modifiedAt) {
+        return new LibraryEntry(
+                LibraryEntry.idOf(tenant, manga.malId()),
+                tenant,
+                manga.malId(),
+                manga.type(),
+                manga.status(),
+                manga.genres(),
+                manga.progress(),
+                version,
+                modifiedAt
+        );
+    }
+
+    public static Manga toManga(MangaMetadata metadata, LibraryEntry entry) {
+        return toManga(metadata, entry.progress());
+    }
+
+    public static Manga toManga(MangaMetadata metadata, UserProgress progress) {
+        return new Manga(
+                metadata.malId(),
+                metadata.title(),
+                metadata.type(),
+                metadata.chapters(),
+                metadata.volumes(),
+                metadata.status(),
+                metadata.synopsis(),
+                metadata.authors(),
+                metadata.genres(),
+                metadata.url(),
+                progress
+        );
+    }
 }
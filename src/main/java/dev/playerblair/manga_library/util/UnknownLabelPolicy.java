@@ -0,0 +1,7 @@
+package dev.playerblair.manga_library.util;
+
+public enum UnknownLabelPolicy {
+    SKIP,
+    UNKNOWN,
+    FAIL
+}
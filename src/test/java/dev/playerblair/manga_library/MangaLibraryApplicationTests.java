@@ -4,7 +4,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
 
-@SpringBootTest
+@SpringBootTest(properties = "manga.search.continuation-token.secret=test-secret-of-at-least-32-bytes")
 class MangaLibraryApplicationTests {
 
 	@Test
@@ -0,0 +1,83 @@
+package dev.playerblair.manga_library.client;
+
+import dev.playerblair.manga_library.exception.JikanUnavailableException;
+import dev.playerblair.manga_library.response.JikanSearchResponse;
+import dev.playerblair.manga_library.response.Pagination;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+public class InstrumentedJikanClientTest {
+
+    @Mock
+    private JikanClient delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private InstrumentedJikanClient jikanClient;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        jikanClient = new InstrumentedJikanClient(delegate, meterRegistry);
+    }
+
+    @Test
+    public void whenSearchMangaSucceeds_shouldRecordSuccess() {
+        // setup test data
+        JikanSearchResponse expectedResponse = new JikanSearchResponse(new Pagination(1, false), List.of());
+
+        // mock delegate behaviour
+        given(delegate.searchManga("Test Manga", 2)).willReturn(expectedResponse);
+
+        // execute the method under test
+        JikanSearchResponse response = jikanClient.searchManga("Test Manga", 2);
+
+        // assertions
+        assertThat(response).isEqualTo(expectedResponse);
+        assertThat(requests("search", "success", "200")).isEqualTo(1);
+    }
+
+    @Test
+    public void whenGetMangaFailsWithStatus_shouldRecordStatusCode() {
+        // mock delegate behaviour
+        given(delegate.getManga(1L)).willThrow(HttpClientErrorException.create(
+                HttpStatus.NOT_FOUND, "Not Found", null, null, null));
+
+        // assert HttpClientErrorException rethrown
+        assertThatThrownBy(() -> jikanClient.getManga(1L))
+                .isInstanceOf(HttpClientErrorException.class);
+        assertThat(requests("detail", "client_error", "404")).isEqualTo(1);
+    }
+
+    @Test
+    public void whenGetMangaIsRejected_shouldRecordUnavailable() {
+        // mock delegate behaviour
+        given(delegate.getManga(1L)).willThrow(new JikanUnavailableException(new RuntimeException("open")));
+
+        // assert JikanUnavailableException rethrown
+        assertThatThrownBy(() -> jikanClient.getManga(1L))
+                .isInstanceOf(JikanUnavailableException.class);
+        assertThat(requests("detail", "unavailable", "none")).isEqualTo(1);
+    }
+
+    private long requests(String operation, String outcome, String status) {
+        return meterRegistry.get("jikan.client.requests")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .tag("status", status)
+                .timer()
+                .count();
+    }
+}
@@ -0,0 +1,83 @@
+package dev.playerblair.manga_library.client;
+
+import dev.playerblair.manga_library.exception.JikanUnavailableException;
+import dev.playerblair.manga_library.response.JikanSearchResponse;
+import dev.playerblair.manga_library.response.Pagination;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+public class ResilientJikanClientTest {
+
+    @Mock
+    private JikanClient delegate;
+
+    private CircuitBreaker circuitBreaker;
+    private Bulkhead bulkhead;
+    private SimpleMeterRegistry meterRegistry;
+    private ResilientJikanClient jikanClient;
+
+    @BeforeEach
+    public void setUp() {
+        circuitBreaker = CircuitBreaker.ofDefaults("jikan");
+        bulkhead = Bulkhead.of("jikan", BulkheadConfig.custom()
+                .maxConcurrentCalls(1)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+        meterRegistry = new SimpleMeterRegistry();
+        jikanClient = new ResilientJikanClient(delegate, circuitBreaker, bulkhead, meterRegistry);
+    }
+
+    @Test
+    public void whenSearchMangaIsCalled_givenClosedCircuit_shouldDelegate() {
+        // setup test data
+        JikanSearchResponse expectedResponse = new JikanSearchResponse(new Pagination(1, false), List.of());
+
+        // mock delegate behaviour
+        given(delegate.searchManga("Test Manga")).willReturn(expectedResponse);
+
+        // execute the method under test + assertions
+        assertThat(jikanClient.searchManga("Test Manga")).isEqualTo(expectedResponse);
+    }
+
+    @Test
+    public void whenGetMangaIsCalled_givenOpenCircuit_shouldFailFastAndCountRejection() {
+        // open the circuit
+        circuitBreaker.transitionToOpenState();
+
+        // assert JikanUnavailableException thrown without calling the delegate
+        assertThatThrownBy(() -> jikanClient.getManga(1L))
+                .isInstanceOf(JikanUnavailableException.class);
+        verifyNoInteractions(delegate);
+        assertThat(meterRegistry.get("jikan.client.rejections").tag("reason", "circuit_open").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    public void whenGetMangaIsCalled_givenBulkheadFull_shouldFailFastAndCountRejection() {
+        // occupy the only permit
+        bulkhead.acquirePermission();
+
+        // assert JikanUnavailableException thrown without calling the delegate
+        assertThatThrownBy(() -> jikanClient.getManga(1L))
+                .isInstanceOf(JikanUnavailableException.class);
+        verifyNoInteractions(delegate);
+        assertThat(meterRegistry.get("jikan.client.rejections").tag("reason", "bulkhead_full").counter().count())
+                .isEqualTo(1);
+    }
+}
@@ -0,0 +1,141 @@
+package dev.playerblair.manga_library.client;
+
+import dev.playerblair.manga_library.response.JikanResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class RetryingJikanClientTest {
+
+    @Mock
+    private JikanClient delegate;
+
+    private final List<Duration> sleeps = new ArrayList<>();
+    private final JikanResponse jikanResponse = new JikanResponse(null);
+
+    private SimpleMeterRegistry meterRegistry;
+    private RetryPolicy policy;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        policy = new RetryPolicy(3, Duration.ofMillis(100), Duration.ofSeconds(1), 2.0, Duration.ofSeconds(5));
+    }
+
+    @Test
+    public void whenGetMangaIsCalled_givenTooManyRequestsWithRetryAfter_shouldWaitAndRetry() {
+        // mock delegate behaviour
+        given(delegate.getManga(1L))
+                .willThrow(tooManyRequests("2"))
+                .willReturn(jikanResponse);
+
+        // execute the method under test
+        JikanResponse response = client(new RetryBudget(0.1, 10)).getManga(1L);
+
+        // verify interactions + assertions
+        assertThat(response).isEqualTo(jikanResponse);
+        assertThat(sleeps).containsExactly(Duration.ofSeconds(2));
+        assertThat(retries("detail", "too_many_requests")).isEqualTo(1);
+    }
+
+    @Test
+    public void whenGetMangaIsCalled_givenServerErrors_shouldBackOffWithJitterUntilMaxAttempts() {
+        // mock delegate behaviour
+        given(delegate.getManga(1L)).willThrow(serverError());
+
+        // assert the last failure is rethrown
+        assertThatThrownBy(() -> client(new RetryBudget(0.1, 10)).getManga(1L))
+                .isInstanceOf(HttpServerErrorException.class);
+
+        // verify interactions + assertions
+        verify(delegate, times(3)).getManga(1L);
+        assertThat(sleeps).hasSize(2);
+        assertThat(sleeps.get(0)).isBetween(Duration.ofMillis(50), Duration.ofMillis(100));
+        assertThat(sleeps.get(1)).isBetween(Duration.ofMillis(100), Duration.ofMillis(200));
+        assertThat(retries("detail", "server_error")).isEqualTo(2);
+    }
+
+    @Test
+    public void whenSearchMangaIsCalled_givenClientError_shouldNotRetry() {
+        // mock delegate behaviour
+        given(delegate.searchManga("Test Manga"))
+                .willThrow(HttpClientErrorException.create(HttpStatus.NOT_FOUND, "Not Found", null, null, null));
+
+        // assert the failure is rethrown immediately
+        assertThatThrownBy(() -> client(new RetryBudget(0.1, 10)).searchManga("Test Manga"))
+                .isInstanceOf(HttpClientErrorException.NotFound.class);
+        verify(delegate, times(1)).searchManga("Test Manga");
+        assertThat(sleeps).isEmpty();
+    }
+
+    @Test
+    public void whenGetMangaIsCalled_givenRetryAfterBeyondLimit_shouldNotRetry() {
+        // mock delegate behaviour
+        given(delegate.getManga(1L)).willThrow(tooManyRequests("60"));
+
+        // assert the failure is rethrown without waiting
+        assertThatThrownBy(() -> client(new RetryBudget(0.1, 10)).getManga(1L))
+                .isInstanceOf(HttpClientErrorException.TooManyRequests.class);
+        assertThat(sleeps).isEmpty();
+        assertThat(retries("detail", "retry_after_too_long")).isEqualTo(1);
+    }
+
+    @Test
+    public void whenGetMangaIsCalled_givenExhaustedBudget_shouldStopRetrying() {
+        // setup test data
+        RetryingJikanClient client = client(new RetryBudget(0.5, 1));
+
+        // mock delegate behaviour
+        given(delegate.getManga(1L)).willThrow(serverError());
+
+        // first call spends the only retry token, second call is refused a retry
+        assertThatThrownBy(() -> client.getManga(1L)).isInstanceOf(HttpServerErrorException.class);
+        assertThatThrownBy(() -> client.getManga(1L)).isInstanceOf(HttpServerErrorException.class);
+
+        // verify interactions + assertions
+        verify(delegate, times(3)).getManga(1L);
+        assertThat(retries("detail", "server_error")).isEqualTo(1);
+        assertThat(retries("detail", "budget_exhausted")).isEqualTo(2);
+    }
+
+    private RetryingJikanClient client(RetryBudget budget) {
+        return new RetryingJikanClient(delegate, policy, budget, meterRegistry, Clock.systemUTC(), sleeps::add);
+    }
+
+    private double retries(String operation, String outcome) {
+        return meterRegistry.get("jikan.client.retries")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .counter()
+                .count();
+    }
+
+    private static HttpClientErrorException tooManyRequests(String retryAfter) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, retryAfter);
+        return HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", headers, null, null);
+    }
+
+    private static HttpServerErrorException serverError() {
+        return HttpServerErrorException.create(HttpStatus.SERVICE_UNAVAILABLE, "Service Unavailable", null, null, null);
+    }
+}
@@ -0,0 +1,136 @@
+package dev.playerblair.manga_library.config;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import dev.playerblair.manga_library.client.JikanClient;
+import dev.playerblair.manga_library.response.JikanSearchResponse;
+import dev.playerblair.manga_library.util.EnumStorageFormat;
+import dev.playerblair.manga_library.util.UnknownLabelPolicy;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ClientConfigTest {
+
+    private HttpServer server;
+    private ConnectionProvider connectionProvider;
+    private JikanClient jikanClient;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/v4/manga", exchange -> {
+            if (exchange.getRequestURI().getPath().equals("/v4/manga/1")) {
+                sleep(Duration.ofSeconds(2));
+            }
+            if (exchange.getRequestURI().getPath().equals("/v4/manga/2")) {
+                trickle(exchange);
+                return;
+            }
+            byte[] body = "{\"pagination\":{\"current_page\":1,\"has_next\":false},\"data\":[]}"
+                    .getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        });
+        server.start();
+
+        JikanClientProperties properties = new JikanClientProperties(
+                "http://localhost:" + server.getAddress().getPort(),
+                true,
+                new JikanClientProperties.Pool(4, 10, Duration.ofSeconds(1), Duration.ofSeconds(30), Duration.ofMinutes(5)),
+                new JikanClientProperties.Timeouts(Duration.ofSeconds(1), Duration.ofSeconds(1), Duration.ofSeconds(1)),
+                new JikanClientProperties.Timeouts(Duration.ofSeconds(1), Duration.ofSeconds(1), Duration.ofMillis(300)),
+                new JikanClientProperties.Retry(1, Duration.ofMillis(10), Duration.ofMillis(100), 2.0, Duration.ofSeconds(1), 0.1, 10)
+        );
+
+        ClientConfig clientConfig = new ClientConfig();
+        connectionProvider = clientConfig.jikanConnectionProvider(properties);
+        jikanClient = clientConfig.jikanClient(
+                RestClient.builder(),
+                connectionProvider,
+                properties,
+                CircuitBreakerRegistry.ofDefaults(),
+                BulkheadRegistry.ofDefaults(),
+                new SimpleMeterRegistry(),
+                clientConfig.jikanObjectMapper(Jackson2ObjectMapperBuilder.json().build(),
+                        new EnumLabelProperties(UnknownLabelPolicy.UNKNOWN, EnumStorageFormat.NAMES))
+        );
+    }
+
+    @AfterEach
+    public void tearDown() {
+        connectionProvider.dispose();
+        server.stop(0);
+    }
+
+    @Test
+    public void whenSearchMangaIsCalled_shouldUseSearchClient() {
+        // execute the method under test
+        JikanSearchResponse response = jikanClient.searchManga("Test Manga");
+
+        // assertions
+        assertThat(response.pagination().currentPage()).isEqualTo(1);
+        assertThat(response.data()).isEmpty();
+    }
+
+    @Test
+    public void whenGetMangaIsCalled_givenSlowUpstream_shouldTimeOut() {
+        // assert ResourceAccessException thrown once the detail deadline passes
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> jikanClient.getManga(1L))
+                .isInstanceOf(ResourceAccessException.class);
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(2));
+    }
+
+    @Test
+    public void whenGetMangaIsCalled_givenTricklingUpstream_shouldTimeOutAtTotalDeadline() {
+        // assert ResourceAccessException thrown although every read arrives within the read timeout
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> jikanClient.getManga(2L))
+                .isInstanceOf(ResourceAccessException.class);
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+    }
+
+    private static void trickle(HttpExchange exchange) throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, 0);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write("{\"data\":".getBytes(StandardCharsets.UTF_8));
+            for (int i = 0; i < 40; i++) {
+                outputStream.write(' ');
+                outputStream.flush();
+                sleep(Duration.ofMillis(50));
+            }
+            outputStream.write("null}".getBytes(StandardCharsets.UTF_8));
+        } catch (IOException exception) {
+            // the client gave up on the response
+        }
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package dev.playerblair.manga_library.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ContinuationTokenPropertiesTest {
+
+    @Test
+    public void whenSecretIsMissingOrShort_shouldRejectConfiguration() {
+        // assert IllegalArgumentException thrown
+        assertThatThrownBy(() -> new ContinuationTokenProperties(null, Duration.ofHours(1)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("manga.search.continuation-token.secret");
+        assertThatThrownBy(() -> new ContinuationTokenProperties("manga-library-dev-secret", Duration.ofHours(1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void whenTtlIsNotPositive_shouldRejectConfiguration() {
+        // assert IllegalArgumentException thrown
+        assertThatThrownBy(() -> new ContinuationTokenProperties("test-secret-of-at-least-32-bytes", Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("manga.search.continuation-token.ttl");
+    }
+}
@@ -0,0 +1,27 @@
+package dev.playerblair.manga_library.config;
+
+import dev.playerblair.manga_library.client.JikanClient;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.SpringProxy;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.core.DecoratingProxy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MangaRuntimeHintsTest {
+
+    @Test
+    public void whenRegisterHintsIsCalled_shouldRegisterJikanClientProxyAndReflection() {
+        // execute the method under test
+        RuntimeHints hints = new RuntimeHints();
+        new MangaRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        // assertions
+        assertThat(RuntimeHintsPredicates.proxies()
+                .forInterfaces(JikanClient.class, SpringProxy.class, Advised.class, DecoratingProxy.class))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(JikanClient.class)).accepts(hints);
+    }
+}
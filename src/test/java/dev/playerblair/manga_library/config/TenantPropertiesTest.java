@@ -0,0 +1,23 @@
+package dev.playerblair.manga_library.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TenantPropertiesTest {
+
+    @Test
+    public void whenNoTenantIsAllowed_shouldRejectConfiguration() {
+        TenantProperties.RateLimit rateLimit = new TenantProperties.RateLimit(2, Duration.ofMinutes(1));
+
+        // assert IllegalArgumentException thrown
+        assertThatThrownBy(() -> new TenantProperties("X-Tenant-Id", Set.of(), Duration.ofMinutes(30), 10, rateLimit))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("manga.tenant.allowed");
+        assertThatThrownBy(() -> new TenantProperties("X-Tenant-Id", null, Duration.ofMinutes(30), 10, rateLimit))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
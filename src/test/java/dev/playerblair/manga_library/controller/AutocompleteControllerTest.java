@@ -0,0 +1,41 @@
+package dev.playerblair.manga_library.controller;
+
+import dev.playerblair.manga_library.response.AutocompleteSuggestion;
+import dev.playerblair.manga_library.service.AutocompleteService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(AutocompleteController.class)
+public class AutocompleteControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private AutocompleteService autocompleteService;
+
+    @Test
+    public void whenAutocompleteIsCalled_shouldReturnSuggestions() throws Exception {
+        // mock service behaviour
+        given(autocompleteService.suggest("ber", 5)).willReturn(List.of(
+                new AutocompleteSuggestion("Berserk", AutocompleteSuggestion.Kind.TITLE, 2L, 1060)
+        ));
+
+        // perform request + assertions
+        mockMvc.perform(get("/api/library/autocomplete").param("prefix", "ber").param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].text").value("Berserk"))
+                .andExpect(jsonPath("$[0].kind").value("TITLE"))
+                .andExpect(jsonPath("$[0].malId").value(2));
+    }
+}
@@ -0,0 +1,81 @@
+package dev.playerblair.manga_library.controller;
+
+import dev.playerblair.manga_library.exception.InvalidCrawlRequestException;
+import dev.playerblair.manga_library.response.CatalogCrawlResult;
+import dev.playerblair.manga_library.response.CatalogImportResult;
+import dev.playerblair.manga_library.response.CatalogStatus;
+import dev.playerblair.manga_library.service.CatalogService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.InputStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(CatalogController.class)
+public class CatalogControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private CatalogService catalogService;
+
+    @Test
+    public void whenGetStatusIsCalled_shouldReturnCatalogStatus() throws Exception {
+        // mock service behaviour
+        given(catalogService.getStatus()).willReturn(new CatalogStatus(42, 3, null));
+
+        // perform request + assertions
+        mockMvc.perform(get("/api/catalog"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.entries").value(42))
+                .andExpect(jsonPath("$.nextCrawlPage").value(3));
+    }
+
+    @Test
+    public void whenImportDumpIsCalled_shouldReturnImportResult() throws Exception {
+        // mock service behaviour
+        given(catalogService.importDump(any(InputStream.class))).willReturn(new CatalogImportResult(1, 0));
+
+        // perform request + assertions
+        mockMvc.perform(post("/api/catalog/import")
+                        .contentType("application/x-ndjson")
+                        .content("{\"mal_id\": 1, \"title\": \"Test Manga 1\"}\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.skipped").value(0));
+    }
+
+    @Test
+    public void whenCrawlIsCalled_shouldReturnCrawlResult() throws Exception {
+        // mock service behaviour
+        given(catalogService.crawl(5)).willReturn(new CatalogCrawlResult(5, 125, 6));
+
+        // perform request + assertions
+        mockMvc.perform(post("/api/catalog/crawl").param("pages", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(125))
+                .andExpect(jsonPath("$.nextPage").value(6));
+    }
+
+    @Test
+    public void whenCrawlIsCalled_givenTooManyPages_shouldReturnBadRequest() throws Exception {
+        // mock service behaviour
+        given(catalogService.crawl(500))
+                .willThrow(new InvalidCrawlRequestException("Cannot crawl 500 page(s): pages must be between 1 and 50."));
+
+        // perform request + assertions
+        mockMvc.perform(post("/api/catalog/crawl").param("pages", "500"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Cannot crawl 500 page(s): pages must be between 1 and 50."));
+    }
+}
@@ -0,0 +1,52 @@
+package dev.playerblair.manga_library.controller;
+
+import dev.playerblair.manga_library.response.LibrarySearchHit;
+import dev.playerblair.manga_library.service.LibrarySearchService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(LibrarySearchController.class)
+public class LibrarySearchControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private LibrarySearchService librarySearchService;
+
+    @Test
+    public void whenSearchIsCalled_shouldReturnRankedHits() throws Exception {
+        // mock service behaviour
+        given(librarySearchService.search("berserk", 20)).willReturn(List.of(
+                new LibrarySearchHit(2L, "Berserk", 3.2f, Map.of("title", "<em>Berserk</em>"))
+        ));
+
+        // perform request + assertions
+        mockMvc.perform(get("/api/library/search").param("query", "berserk"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].malId").value(2))
+                .andExpect(jsonPath("$[0].highlights.title").value("<em>Berserk</em>"));
+    }
+
+    @Test
+    public void whenSearchIsCalled_givenLimitAboveMaximum_shouldClampLimit() throws Exception {
+        // mock service behaviour
+        given(librarySearchService.search("berserk", 100)).willReturn(List.of());
+
+        // perform request + assertions
+        mockMvc.perform(get("/api/library/search").param("query", "berserk").param("limit", "500"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").isEmpty());
+    }
+}
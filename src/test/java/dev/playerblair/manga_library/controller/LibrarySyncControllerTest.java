@@ -0,0 +1,52 @@
+package dev.playerblair.manga_library.controller;
+
+import dev.playerblair.manga_library.response.LibraryChanges;
+import dev.playerblair.manga_library.service.LibrarySyncService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(LibrarySyncController.class)
+public class LibrarySyncControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private LibrarySyncService librarySyncService;
+
+    @Test
+    public void whenGetChangesIsCalled_shouldReturnChangesSinceVersion() throws Exception {
+        // mock service behaviour
+        given(librarySyncService.getChangesSince(5, 100))
+                .willReturn(new LibraryChanges(9, false, true, List.of(), List.of(2L)));
+
+        // perform request + assertions
+        mockMvc.perform(get("/api/manga/changes").param("since", "5").param("limit", "100"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(9))
+                .andExpect(jsonPath("$.hasMore").value(true))
+                .andExpect(jsonPath("$.deleted[0]").value(2));
+    }
+
+    @Test
+    public void whenGetChangesIsCalled_givenNoVersion_shouldReturnFullResync() throws Exception {
+        // mock service behaviour
+        given(librarySyncService.getChangesSince(0, null)).willReturn(LibraryChanges.fullResync(12));
+
+        // perform request + assertions
+        mockMvc.perform(get("/api/manga/changes"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.fullResync").value(true))
+                .andExpect(jsonPath("$.version").value(12));
+    }
+}
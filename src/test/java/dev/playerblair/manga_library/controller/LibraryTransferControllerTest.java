@@ -0,0 +1,68 @@
+package dev.playerblair.manga_library.controller;
+
+import dev.playerblair.manga_library.response.LibraryImportResult;
+import dev.playerblair.manga_library.service.LibraryTransferService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(LibraryTransferController.class)
+public class LibraryTransferControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private LibraryTransferService libraryTransferService;
+
+    @Test
+    public void whenExportLibraryIsCalled_shouldStreamNdjson() throws Exception {
+        // mock service behaviour
+        willAnswer(invocation -> {
+            OutputStream outputStream = invocation.getArgument(0);
+            outputStream.write("{\"malId\":1}\n{\"malId\":2}\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).given(libraryTransferService).exportLibrary(any(OutputStream.class));
+
+        // perform request + assertions
+        MvcResult result = mockMvc.perform(get("/api/manga/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andExpect(content().string("{\"malId\":1}\n{\"malId\":2}\n"));
+    }
+
+    @Test
+    public void whenImportLibraryIsCalled_shouldReturnImportResult() throws Exception {
+        // mock service behaviour
+        given(libraryTransferService.importLibrary(any(InputStream.class))).willReturn(new LibraryImportResult(2, 1, 0, 0));
+
+        // perform request + assertions
+        mockMvc.perform(post("/api/manga/import")
+                        .contentType("application/x-ndjson")
+                        .content("{\"malId\":1}\n{\"malId\":2}\n{\"malId\":3}\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.duplicates").value(1))
+                .andExpect(jsonPath("$.invalid").value(0))
+                .andExpect(jsonPath("$.overQuota").value(0));
+    }
+}
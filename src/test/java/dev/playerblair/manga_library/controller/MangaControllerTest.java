@@ -1,29 +1,43 @@
 package dev.playerblair.manga_library.controller;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import dev.playerblair.manga_library.config.ContentNegotiationConfig;
 import dev.playerblair.manga_library.exception.*;
 import dev.playerblair.manga_library.model.*;
 import dev.playerblair.manga_library.request.FilterParams;
+import dev.playerblair.manga_library.request.SearchContinuation;
 import dev.playerblair.manga_library.response.JikanSearchResponse;
 import dev.playerblair.manga_library.response.MangaResponse;
 import dev.playerblair.manga_library.response.Pagination;
+import dev.playerblair.manga_library.response.SearchPage;
 import dev.playerblair.manga_library.service.MangaService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 
 @WebMvcTest(MangaController.class)
+@Import(ContentNegotiationConfig.class)
 public class MangaControllerTest {
 
     @Autowired
@@ -114,11 +128,13 @@ public class MangaControllerTest {
     @Test
     public void whenGetAllMangaIsCalled_shouldReturn200AndAllManga() throws Exception{
         // mock service behaviour
+        given(mangaService.getLibraryState()).willReturn(new LibraryState(2, 7));
         given(mangaService.getAllManga()).willReturn(List.of(manga1, manga2));
 
         // execute the method under test + assertions
         mockMvc.perform(get("/api/manga"))
                 .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"7-2\""))
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$.length()").value(2))
                 .andExpect(jsonPath("$[0].malId").value(1))
@@ -139,6 +155,145 @@ public class MangaControllerTest {
                 .andExpect(jsonPath("$.title").value("Test Manga 1"));
     }
 
+    @Test
+    public void whenGetAllMangaIsCalled_givenCborAccept_shouldReturnCborEncodedManga() throws Exception {
+        // mock service behaviour
+        given(mangaService.getLibraryState()).willReturn(new LibraryState(2, 7));
+        given(mangaService.getAllManga()).willReturn(List.of(manga1, manga2));
+
+        // execute the method under test
+        byte[] body = mockMvc.perform(get("/api/manga").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+
+        // assertions
+        assertThat(new CBORMapper().readValue(body, new TypeReference<List<Manga>>() {
+        })).containsExactly(manga1, manga2);
+    }
+
+    @Test
+    public void whenFilterMangaIsCalled_givenSmileAccept_shouldReturnSmileEncodedManga() throws Exception {
+        // setup test data
+        FilterParams filter = new FilterParams(null, null, null, null, null, null);
+
+        // mock service behaviour
+        given(mangaService.filterManga(filter)).willReturn(List.of(manga2));
+
+        // execute the method under test
+        byte[] body = mockMvc.perform(post("/api/manga/filter")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(filter))
+                        .accept("application/x-jackson-smile"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-jackson-smile"))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+
+        // assertions
+        assertThat(new SmileMapper().readValue(body, new TypeReference<List<Manga>>() {
+        })).containsExactly(manga2);
+    }
+
+    @Test
+    public void whenGetAllMangaIsCalled_givenMatchingETag_shouldReturn304WithoutLoadingManga() throws Exception {
+        // mock service behaviour
+        given(mangaService.getLibraryState()).willReturn(new LibraryState(2, 7));
+
+        // execute the method under test
+        mockMvc.perform(get("/api/manga").header(HttpHeaders.IF_NONE_MATCH, "\"7-2\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        // verify interactions
+        verify(mangaService, never()).getAllManga();
+    }
+
+    @Test
+    public void whenGetMangaIsCalled_givenStoredEntry_shouldReturnETagAndLastModified() throws Exception {
+        // mock service behaviour
+        given(mangaService.findEntry(1L)).willReturn(Optional.of(entry(1L, 12)));
+        given(mangaService.getManga(1L)).willReturn(manga1);
+
+        // execute the method under test + assertions
+        mockMvc.perform(get("/api/manga/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"12\""))
+                .andExpect(header().string(HttpHeaders.LAST_MODIFIED, "Mon, 31 Mar 2025 10:15:30 GMT"))
+                .andExpect(jsonPath("$.malId").value(1));
+    }
+
+    @Test
+    public void whenGetMangaIsCalled_givenMatchingETag_shouldReturn304WithoutLoadingManga() throws Exception {
+        // mock service behaviour
+        given(mangaService.findEntry(1L)).willReturn(Optional.of(entry(1L, 12)));
+
+        // execute the method under test
+        mockMvc.perform(get("/api/manga/1").header(HttpHeaders.IF_NONE_MATCH, "\"12\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"12\""));
+
+        // verify interactions
+        verify(mangaService, never()).getManga(1L);
+    }
+
+    @Test
+    public void whenGetMangaIsCalled_givenCborAccept_shouldReturnETagForTheEncoding() throws Exception {
+        // mock service behaviour
+        given(mangaService.findEntry(1L)).willReturn(Optional.of(entry(1L, 12)));
+        given(mangaService.getManga(1L)).willReturn(manga1);
+
+        // execute the method under test + assertions
+        mockMvc.perform(get("/api/manga/1").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"12-cbor\""));
+    }
+
+    @Test
+    public void whenGetMangaIsCalled_givenJsonETagWithSmileAccept_shouldReturn200AndSmile() throws Exception {
+        // mock service behaviour
+        given(mangaService.findEntry(1L)).willReturn(Optional.of(entry(1L, 12)));
+        given(mangaService.getManga(1L)).willReturn(manga1);
+
+        // execute the method under test + assertions
+        mockMvc.perform(get("/api/manga/1")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"12\"")
+                        .accept("application/x-jackson-smile"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-jackson-smile"))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"12-smile\""));
+    }
+
+    @Test
+    public void whenGetProgressIsCalled_givenUnmodifiedSince_shouldReturn304WithoutLoadingManga() throws Exception {
+        // mock service behaviour
+        given(mangaService.findEntry(2L)).willReturn(Optional.of(entry(2L, 12)));
+
+        // execute the method under test
+        mockMvc.perform(get("/api/manga/2/progress").header(HttpHeaders.IF_MODIFIED_SINCE, "Mon, 31 Mar 2025 10:15:30 GMT"))
+                .andExpect(status().isNotModified());
+
+        // verify interactions
+        verify(mangaService, never()).getProgress(2L);
+    }
+
+    @Test
+    public void whenGetProgressIsCalled_givenStaleETag_shouldReturn200AndProgress() throws Exception {
+        // mock service behaviour
+        given(mangaService.findEntry(2L)).willReturn(Optional.of(entry(2L, 13)));
+        given(mangaService.getProgress(2L)).willReturn(manga2.progress());
+
+        // execute the method under test + assertions
+        mockMvc.perform(get("/api/manga/2/progress").header(HttpHeaders.IF_NONE_MATCH, "\"12\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"13\""))
+                .andExpect(jsonPath("$.chaptersRead").value(4));
+    }
+
     @Test
     public void whenGetMangaIsCalled_givenInvalidId_shouldReturn404AndErrorResponse() throws Exception {
         // mock service behaviour
@@ -161,7 +316,7 @@ public class MangaControllerTest {
         String query = "Test Manga";
 
         // mock service behaviour
-        given(mangaService.searchManga(query)).willReturn(expectedResponse);
+        given(mangaService.searchManga(query)).willReturn(new SearchPage(expectedResponse, SearchContinuation.Source.JIKAN));
 
         // execute the method under test + assertions
         mockMvc.perform(get("/api/manga/search").param("query", query))
@@ -169,6 +324,19 @@ public class MangaControllerTest {
                 .andExpect(jsonPath("$.length()").value(2));
     }
 
+    @Test
+    public void whenSearchMangaIsCalled_givenJikanUnavailable_shouldReturn503AndErrorResponse() throws Exception {
+        // mock service behaviour
+        given(mangaService.searchManga("Test Manga"))
+                .willThrow(new JikanUnavailableException(new IllegalStateException("circuit open")));
+
+        // execute the method under test + assertions
+        mockMvc.perform(get("/api/manga/search").param("query", "Test Manga"))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(jsonPath("$.status").value(503))
+                .andExpect(jsonPath("$.message").value("Jikan is currently unavailable, please try again later."));
+    }
+
     @Test
     public void whenSearchMangaNextIsCalled_givenSearchHasNextPage_shouldReturn200AndSearchResults() throws Exception {
         // setup test data
@@ -234,6 +402,73 @@ public class MangaControllerTest {
                 .andExpect(jsonPath("$.message").value("Manga not found with malId: 3"));
     }
 
+    @Test
+    public void whenSearchMangaIsCalled_shouldReturnContinuationTokenHeader() throws Exception {
+        // setup test data
+        JikanSearchResponse expectedResponse = new JikanSearchResponse(
+                new Pagination(1, true),
+                List.of(mangaResponse1, mangaResponse2)
+        );
+        String query = "Test Manga";
+
+        // mock service behaviour
+        given(mangaService.searchManga(query)).willReturn(new SearchPage(expectedResponse, SearchContinuation.Source.JIKAN));
+        given(mangaService.createContinuationToken(query, new SearchPage(expectedResponse, SearchContinuation.Source.JIKAN))).willReturn("token-1");
+
+        // execute the method under test + assertions
+        mockMvc.perform(get("/api/manga/search").param("query", query))
+                .andExpect(status().isOk())
+                .andExpect(header().string(MangaController.CONTINUATION_TOKEN_HEADER, "token-1"));
+    }
+
+    @Test
+    public void whenSearchMangaNextIsCalled_givenContinuationToken_shouldReturn200AndNextToken() throws Exception {
+        // setup test data
+        JikanSearchResponse expectedResponse = new JikanSearchResponse(
+                new Pagination(2, false),
+                List.of(mangaResponse1, mangaResponse2)
+        );
+        SearchContinuation continuation = new SearchContinuation("Test Manga", 1, true, List.of(1L, 2L), SearchContinuation.Source.JIKAN);
+
+        // mock service behaviour
+        given(mangaService.decodeContinuationToken("token-1")).willReturn(continuation);
+        given(mangaService.searchMangaNext(continuation)).willReturn(new SearchPage(expectedResponse, SearchContinuation.Source.JIKAN));
+        given(mangaService.createContinuationToken("Test Manga", new SearchPage(expectedResponse, SearchContinuation.Source.JIKAN))).willReturn("token-2");
+
+        // execute the method under test + assertions
+        mockMvc.perform(get("/api/manga/search/next").param("token", "token-1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(MangaController.CONTINUATION_TOKEN_HEADER, "token-2"))
+                .andExpect(jsonPath("$.pagination.current_page").value(2));
+    }
+
+    @Test
+    public void whenSearchMangaNextIsCalled_givenInvalidContinuationToken_shouldReturn400AndErrorResponse() throws Exception {
+        // mock service behaviour
+        given(mangaService.decodeContinuationToken("bad-token")).willThrow(new InvalidContinuationTokenException());
+
+        // execute the method under test + assertions
+        mockMvc.perform(get("/api/manga/search/next").param("token", "bad-token"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(400))
+                .andExpect(jsonPath("$.message").value("Cannot continue search: continuation token is invalid, expired or has been tampered with."));
+    }
+
+    @Test
+    public void whenAddMangaIsCalled_givenContinuationToken_shouldReturn201AndManga() throws Exception {
+        // setup test data
+        SearchContinuation continuation = new SearchContinuation("Test Manga", 1, false, List.of(1L, 2L), SearchContinuation.Source.JIKAN);
+
+        // mock service behaviour
+        given(mangaService.decodeContinuationToken("token-1")).willReturn(continuation);
+        given(mangaService.addManga(1L, continuation)).willReturn(manga1);
+
+        // execute the method under test + assertions
+        mockMvc.perform(post("/api/manga").queryParam("malId", "1").queryParam("token", "token-1"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.malId").value(manga1.malId()));
+    }
+
     @Test
     public void whenRefreshAllMangaIsCalled_shouldReturn200() throws Exception {
         // execute the method under test + assertions
@@ -548,4 +783,18 @@ public class MangaControllerTest {
                 .andExpect(jsonPath("$[1].malId").value(manga2.malId()))
                 .andExpect(jsonPath("$[1].title").value(manga2.title()));
     }
+
+    private LibraryEntry entry(Long malId, long version) {
+        return new LibraryEntry(
+                LibraryEntry.idOf("default", malId),
+                "default",
+                malId,
+                null,
+                null,
+                null,
+                null,
+                version,
+                Instant.parse("2025-03-31T10:15:30Z")
+        );
+    }
 }
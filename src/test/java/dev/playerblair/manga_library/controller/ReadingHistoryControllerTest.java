@@ -0,0 +1,59 @@
+package dev.playerblair.manga_library.controller;
+
+import dev.playerblair.manga_library.exception.InvalidHistoryRangeException;
+import dev.playerblair.manga_library.request.HistoryInterval;
+import dev.playerblair.manga_library.response.ReadingActivity;
+import dev.playerblair.manga_library.service.ReadingHistoryService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(ReadingHistoryController.class)
+public class ReadingHistoryControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private ReadingHistoryService readingHistoryService;
+
+    @Test
+    public void whenGetActivityIsCalled_shouldReturnBuckets() throws Exception {
+        // mock service behaviour
+        given(readingHistoryService.getActivity(2L, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31), HistoryInterval.WEEK))
+                .willReturn(List.of(new ReadingActivity(Instant.parse("2024-12-30T00:00:00Z"), 3, 12, 1, 0)));
+
+        // perform request + assertions
+        mockMvc.perform(get("/api/library/history")
+                        .param("malId", "2")
+                        .param("from", "2025-01-01")
+                        .param("to", "2025-01-31")
+                        .param("interval", "WEEK"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].start").value("2024-12-30T00:00:00Z"))
+                .andExpect(jsonPath("$[0].chaptersRead").value(12));
+    }
+
+    @Test
+    public void whenGetActivityIsCalled_givenInvalidRange_shouldReturnBadRequest() throws Exception {
+        // mock service behaviour
+        given(readingHistoryService.getActivity(null, LocalDate.of(2025, 2, 1), LocalDate.of(2025, 1, 1), HistoryInterval.MONTH))
+                .willThrow(new InvalidHistoryRangeException("'from' is after 'to'."));
+
+        // perform request + assertions
+        mockMvc.perform(get("/api/library/history").param("from", "2025-02-01").param("to", "2025-01-01"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("'from' is after 'to'."));
+    }
+}
@@ -0,0 +1,87 @@
+package dev.playerblair.manga_library.monitoring;
+
+import dev.playerblair.manga_library.model.Genre;
+import dev.playerblair.manga_library.model.ProgressType;
+import dev.playerblair.manga_library.model.UserProgress;
+import dev.playerblair.manga_library.request.FilterParams;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class FlightEventsTest {
+
+    @TempDir
+    private Path tempDir;
+
+    private Recording recording;
+
+    @BeforeEach
+    public void setUp() {
+        recording = new Recording();
+        recording.enable(FilterMangaEvent.class);
+        recording.enable(ProgressUpdateEvent.class);
+        recording.enable(JikanCallEvent.class);
+        recording.start();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        recording.close();
+    }
+
+    @Test
+    public void whenFilterMangaEventCompletes_shouldRecordPredicateSet() throws Exception {
+        // execute the method under test
+        FilterMangaEvent.start().complete(
+                new FilterParams(null, null, null, "Oda", List.of(Genre.ACTION, Genre.DRAMA), ProgressType.READING), 3);
+
+        // assertions
+        RecordedEvent event = recordedEvents().getFirst();
+        assertThat(event.getEventType().getName()).isEqualTo("dev.playerblair.manga_library.FilterManga");
+        assertThat(event.getString("predicates")).isEqualTo("author,genres,progress");
+        assertThat(event.getInt("genres")).isEqualTo(2);
+        assertThat(event.getInt("results")).isEqualTo(3);
+    }
+
+    @Test
+    public void whenProgressUpdateEventCompletes_shouldRecordOutcome() throws Exception {
+        // execute the method under test
+        ProgressUpdateEvent.start().complete(1L, new UserProgress(ProgressType.READING, -1, 0, 0),
+                "InvalidProgressUpdateException");
+
+        // assertions
+        RecordedEvent event = recordedEvents().getFirst();
+        assertThat(event.getLong("malId")).isEqualTo(1L);
+        assertThat(event.getString("progress")).isEqualTo("READING");
+        assertThat(event.getString("outcome")).isEqualTo("InvalidProgressUpdateException");
+    }
+
+    @Test
+    public void whenJikanCallEventCompletes_shouldRecordQueryLengthOnly() throws Exception {
+        // execute the method under test
+        JikanCallEvent.start().complete("search", 0, "one piece".length(), "success", "200");
+
+        // assertions
+        RecordedEvent event = recordedEvents().getFirst();
+        assertThat(event.getString("operation")).isEqualTo("search");
+        assertThat(event.getInt("queryLength")).isEqualTo(9);
+        assertThat(event.getLong("malId")).isZero();
+        assertThat(event.getFields()).noneMatch(field -> field.getName().equals("target"));
+    }
+
+    private List<RecordedEvent> recordedEvents() throws Exception {
+        recording.stop();
+        Path file = tempDir.resolve("recording.jfr");
+        recording.dump(file);
+        return RecordingFile.readAllEvents(file);
+    }
+}
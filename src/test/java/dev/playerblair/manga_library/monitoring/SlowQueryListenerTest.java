@@ -0,0 +1,134 @@
+package dev.playerblair.manga_library.monitoring;
+
+import com.mongodb.ServerAddress;
+import com.mongodb.connection.ClusterId;
+import com.mongodb.connection.ConnectionDescription;
+import com.mongodb.connection.ServerId;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import dev.playerblair.manga_library.response.QueryExplainSummary;
+import dev.playerblair.manga_library.response.SlowQueryShape;
+import org.bson.BsonDocument;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SlowQueryListenerTest {
+
+    private static final ConnectionDescription CONNECTION =
+            new ConnectionDescription(new ServerId(new ClusterId(), new ServerAddress()));
+
+    private SlowQueryLog slowQueryLog;
+    private SlowQueryListener slowQueryListener;
+
+    @BeforeEach
+    public void setUp() {
+        slowQueryLog = new SlowQueryLog(2);
+        slowQueryListener = new SlowQueryListener(Duration.ofMillis(100), slowQueryLog, null);
+    }
+
+    @Test
+    public void whenCommandExceedsThreshold_shouldRecordNormalizedShape() {
+        // execute the method under test
+        run(1, "find", "{find: 'library', filter: {tenant: 'a', malId: {$in: [1, 2]}}, sort: {malId: 1}}", 150);
+        run(2, "find", "{find: 'library', filter: {tenant: 'b', malId: {$in: [3]}}, sort: {malId: 1}}", 250);
+
+        // assertions
+        List<SlowQueryShape> shapes = slowQueryLog.top();
+        assertThat(shapes).hasSize(1);
+        assertThat(shapes.getFirst().collection()).isEqualTo("library");
+        assertThat(shapes.getFirst().shape())
+                .isEqualTo("filter {\"tenant\": \"?\", \"malId\": {\"$in\": \"?\"}} sort {\"malId\": 1}");
+        assertThat(shapes.getFirst().count()).isEqualTo(2);
+        assertThat(shapes.getFirst().maxMillis()).isEqualTo(250.0);
+        assertThat(shapes.getFirst().meanMillis()).isEqualTo(200.0);
+    }
+
+    @Test
+    public void whenCommandIsFasterThanThreshold_shouldNotRecordIt() {
+        // execute the method under test
+        run(1, "find", "{find: 'library', filter: {tenant: 'a'}}", 20);
+
+        // assertions
+        assertThat(slowQueryLog.top()).isEmpty();
+    }
+
+    @Test
+    public void whenAggregateIsSlow_shouldDescribeStagesAndMatchFilters() {
+        // execute the method under test
+        run(1, "aggregate", """
+                {aggregate: 'library', pipeline: [
+                    {$match: {tenant: 'a', 'progress.progress': 'READING'}},
+                    {$lookup: {from: 'manga_metadata', localField: 'malId', foreignField: '_id', as: 'metadata'}},
+                    {$unwind: '$metadata'},
+                    {$match: {$and: [{'metadata.genres': 'Action'}, {'metadata.genres': 'Drama'}]}}
+                ], cursor: {}}""", 300);
+
+        // assertions
+        assertThat(slowQueryLog.top().getFirst().shape()).isEqualTo(
+                "$match {\"tenant\": \"?\", \"progress.progress\": \"?\"} | $lookup | $unwind"
+                        + " | $match {\"$and\": [{\"metadata.genres\": \"?\"}, {\"metadata.genres\": \"?\"}]}");
+    }
+
+    @Test
+    public void whenMoreShapesThanRetained_shouldKeepTheSlowest() {
+        // execute the method under test
+        run(1, "find", "{find: 'library', filter: {tenant: 'a'}}", 400);
+        run(2, "count", "{count: 'library', query: {tenant: 'a'}}", 120);
+        run(3, "delete", "{delete: 'library', deletes: [{q: {_id: 'a:1'}, limit: 1}]}", 200);
+
+        // assertions
+        assertThat(slowQueryLog.top())
+                .extracting(SlowQueryShape::command)
+                .containsExactly("find", "delete");
+    }
+
+    @Test
+    public void whenCommandIsReusedAfterStarting_shouldDescribeTheCommandAsSent() {
+        // setup test data
+        BsonDocument command = BsonDocument.parse("{find: 'library', filter: {tenant: 'a'}}");
+
+        // execute the method under test
+        slowQueryListener.commandStarted(new CommandStartedEvent(
+                null, 1, 1, CONNECTION, "manga_library", "find", command));
+        command.put("filter", BsonDocument.parse("{malId: 1}"));
+        slowQueryListener.commandSucceeded(new CommandSucceededEvent(
+                null, 1, 1, CONNECTION, "manga_library", "find", new BsonDocument(), TimeUnit.MILLISECONDS.toNanos(150)));
+
+        // assertions
+        assertThat(slowQueryLog.top()).extracting(SlowQueryShape::shape).containsExactly("filter {\"tenant\": \"?\"}");
+    }
+
+    @Test
+    public void whenExplainIsSummarized_shouldReportWinningPlanAndCounts() {
+        // setup test data
+        Document explain = Document.parse("""
+                {queryPlanner: {
+                    winningPlan: {stage: 'FETCH', inputStage: {stage: 'IXSCAN', indexName: 'tenant_1_progress.progress_1'}},
+                    rejectedPlans: [{stage: 'COLLSCAN'}]},
+                 executionStats: {nReturned: 12, totalKeysExamined: 12, totalDocsExamined: 12}}""");
+
+        // execute the method under test
+        QueryExplainSummary summary = SlowQueryExplainer.summarize(explain);
+
+        // assertions
+        assertThat(summary.stages()).containsExactly("FETCH", "IXSCAN tenant_1_progress.progress_1");
+        assertThat(summary.keysExamined()).isEqualTo(12);
+        assertThat(summary.docsExamined()).isEqualTo(12);
+        assertThat(summary.returned()).isEqualTo(12);
+    }
+
+    private void run(int requestId, String commandName, String command, long elapsedMillis) {
+        slowQueryListener.commandStarted(new CommandStartedEvent(
+                null, requestId, requestId, CONNECTION, "manga_library", commandName, BsonDocument.parse(command)));
+        slowQueryListener.commandSucceeded(new CommandSucceededEvent(
+                null, requestId, requestId, CONNECTION, "manga_library", commandName, new BsonDocument(),
+                TimeUnit.MILLISECONDS.toNanos(elapsedMillis)));
+    }
+}
@@ -0,0 +1,76 @@
+package dev.playerblair.manga_library.repository;
+
+import dev.playerblair.manga_library.model.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers
+@DataMongoTest
+public class CatalogRepositoryTest {
+
+    @Container
+    static MongoDBContainer mongoDBContainer = new MongoDBContainer("mongo:latest");
+
+    @Autowired
+    private CatalogRepository catalogRepository;
+
+    @DynamicPropertySource
+    public static void setProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.mongodb.uri", mongoDBContainer::getReplicaSetUrl);
+    }
+
+    @BeforeEach
+    public void setup() {
+        catalogRepository.ensureTitleIndex();
+        catalogRepository.saveAll(List.of(
+                entry(1L, "Berserk"),
+                entry(2L, "Berserk of Gluttony"),
+                entry(3L, "Vagabond")
+        ));
+    }
+
+    @AfterEach
+    public void cleanUp() {
+        catalogRepository.deleteAll();
+    }
+
+    @Test
+    public void whenSearchByTitleIsCalled_shouldReturnTextMatches() {
+        // execute the method under test
+        Slice<CatalogEntry> results = catalogRepository.searchByTitle("berserk", PageRequest.of(0, 25));
+
+        // assertions
+        assertThat(results.getContent()).extracting(CatalogEntry::malId).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(results.hasNext()).isFalse();
+    }
+
+    @Test
+    public void whenSearchByTitleIsCalled_givenMoreMatchesThanPageSize_shouldReportNextSlice() {
+        // execute the method under test
+        Slice<CatalogEntry> results = catalogRepository.searchByTitle("berserk", PageRequest.of(0, 1));
+
+        // assertions
+        assertThat(results.getContent()).hasSize(1);
+        assertThat(results.hasNext()).isTrue();
+    }
+
+    private CatalogEntry entry(Long malId, String title) {
+        return new CatalogEntry(malId, title, Type.MANGA, 0, 0, Status.PUBLISHING, "", List.of(), List.of("Action"),
+                "www.example.com/manga/" + malId, Instant.now());
+    }
+}
@@ -1,25 +1,46 @@
 package dev.playerblair.manga_library.repository;
 
+import dev.playerblair.manga_library.config.EnumLabelConfig;
 import dev.playerblair.manga_library.model.*;
+import dev.playerblair.manga_library.repository.codec.MangaCodecProvider;
 import dev.playerblair.manga_library.request.FilterParams;
+import dev.playerblair.manga_library.tenant.TenantContext;
+import dev.playerblair.manga_library.util.EnumStorageFormat;
+import dev.playerblair.manga_library.util.UnknownLabelPolicy;
+import org.bson.Document;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import dev.playerblair.manga_library.repository.impl.MangaRepositoryImpl;
 import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.testcontainers.containers.MongoDBContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 @Testcontainers
 @DataMongoTest
+@Import({MangaRepositoryImpl.class, EnumLabelConfig.class})
 public class MangaRepositoryTest {
 
     @Container
@@ -28,6 +49,9 @@ public class MangaRepositoryTest {
     @Autowired
     private MangaRepository mangaRepository;
 
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
     @DynamicPropertySource
     public static void setProperties(DynamicPropertyRegistry registry) {
         registry.add("spring.data.mongodb.uri",  mongoDBContainer::getReplicaSetUrl);
@@ -73,12 +97,13 @@ public class MangaRepositoryTest {
                 )
         );
 
-        mangaRepository.saveAll(List.of(manga1, manga2));
+        mangaRepository.save(manga1);
+        mangaRepository.save(manga2);
     }
 
     @AfterEach
     public void tearDown() {
-        mangaRepository.deleteAll();
+        mongoTemplate.getDb().drop();
     }
 
     @Test
@@ -215,4 +240,405 @@ public class MangaRepositoryTest {
 
         assertThat(mangaList).hasSize(2);
     }
+
+    @Test
+    public void whenStreamAllIsCalled_shouldStreamAllManga() {
+        try (Stream<Manga> library = mangaRepository.streamAll()) {
+            assertThat(library.map(Manga::malId)).containsExactlyInAnyOrder(1L, 2L);
+        }
+    }
+
+    @Test
+    public void whenInsertUnorderedIsCalled_givenExistingId_shouldInsertTheRest() {
+        Manga existing = mangaRepository.findById(1L).orElseThrow();
+        Manga manga3 = new Manga(
+                3L,
+                "Test Manga 3",
+                Type.ONESHOT,
+                1,
+                0,
+                Status.FINISHED,
+                "",
+                List.of(new Author("Test Author 3", "www.example.com/people/3")),
+                List.of(Genre.SLICE_OF_LIFE),
+                "www.example.com/manga/3",
+                new UserProgress(
+                        ProgressType.PLANNING,
+                        0,
+                        0,
+                        0
+                )
+        );
+
+        List<Manga> inserted = mangaRepository.insertUnordered(List.of(existing, manga3));
+
+        assertThat(inserted).containsExactly(manga3);
+        assertThat(mangaRepository.findAll()).hasSize(3);
+    }
+
+    @Test
+    public void whenInsertUnorderedIsCalled_givenStoredMetadata_shouldKeepIt() {
+        Manga manga1 = mangaRepository.findById(1L).orElseThrow();
+        Manga imported = new Manga(manga1.malId(), "Imported Title", Type.NOVEL, manga1.chapters(),
+                manga1.volumes(), Status.DISCONTINUED, manga1.synopsis(), manga1.authors(), List.of(Genre.HORROR),
+                manga1.url(), new UserProgress(ProgressType.PLANNING, 0, 0, 0));
+
+        List<Manga> inserted = new ArrayList<>();
+        TenantContext.runAs("tenant-b", () -> inserted.addAll(mangaRepository.insertUnordered(List.of(imported))));
+
+        assertThat(inserted).extracting(Manga::title).containsExactly(manga1.title());
+        assertThat(mangaRepository.findById(1L).orElseThrow().title()).isEqualTo(manga1.title());
+        TenantContext.runAs("tenant-b", () -> assertThat(
+                mangaRepository.findByDynamicCriteria(new FilterParams(null, Type.MANGA, null, null, null, null)))
+                .extracting(Manga::malId)
+                .containsExactly(1L));
+    }
+
+    @Test
+    public void whenSaveIsCalled_shouldUpdateOtherTenantsEntries() {
+        Manga manga1 = mangaRepository.findById(1L).orElseThrow();
+        TenantContext.runAs("tenant-b", () -> mangaRepository.save(manga1));
+        long since = mangaRepository.findVersion().version();
+
+        TenantContext.runAs("tenant-b", () -> mangaRepository.save(new Manga(manga1.malId(), manga1.title(),
+                Type.MANHWA, manga1.chapters(), manga1.volumes(), manga1.status(), manga1.synopsis(),
+                manga1.authors(), manga1.genres(), manga1.url(), manga1.progress())));
+
+        assertThat(mangaRepository.findChangesSince(since, 10)).extracting(LibraryChange::malId).containsExactly(1L);
+        assertThat(mangaRepository.findByDynamicCriteria(new FilterParams(null, Type.MANHWA, null, null, null, null)))
+                .extracting(Manga::malId)
+                .containsExactly(1L);
+    }
+
+    @Test
+    public void whenSaveMetadataIsCalled_shouldUpdateMetadataOnly() {
+        Manga manga1 = mangaRepository.findById(1L).orElseThrow();
+        Manga refreshed = new Manga(
+                1L,
+                "Test Manga 1 (Refreshed)",
+                manga1.type(),
+                120,
+                12,
+                manga1.status(),
+                manga1.synopsis(),
+                manga1.authors(),
+                manga1.genres(),
+                manga1.url(),
+                new UserProgress(ProgressType.PLANNING, 0, 0, 0)
+        );
+
+        mangaRepository.saveMetadata(refreshed);
+
+        Manga stored = mangaRepository.findById(1L).orElseThrow();
+        assertThat(stored.title()).isEqualTo("Test Manga 1 (Refreshed)");
+        assertThat(stored.chapters()).isEqualTo(120);
+        assertThat(stored.progress()).isEqualTo(manga1.progress());
+        assertThat(mongoTemplate.count(new Query(), MangaMetadata.class)).isEqualTo(2);
+    }
+
+    @Test
+    public void whenFindByDynamicCriteriaIsCalled_givenAuthor_shouldMatchAuthorName() {
+        FilterParams filter = new FilterParams(null, null, null, "author 2", null, null);
+
+        List<Manga> mangaList = mangaRepository.findByDynamicCriteria(filter);
+
+        assertThat(mangaList).extracting(Manga::malId).containsExactly(2L);
+    }
+
+    @Test
+    public void whenTenantsShareManga_shouldKeepLibrariesSeparate() {
+        Manga manga1 = mangaRepository.findById(1L).orElseThrow();
+        UserProgress otherProgress = new UserProgress(ProgressType.READING, 12, 1, 0);
+
+        TenantContext.runAs("tenant-b", () -> {
+            mangaRepository.save(new Manga(
+                    manga1.malId(),
+                    manga1.title(),
+                    manga1.type(),
+                    manga1.chapters(),
+                    manga1.volumes(),
+                    manga1.status(),
+                    manga1.synopsis(),
+                    manga1.authors(),
+                    manga1.genres(),
+                    manga1.url(),
+                    otherProgress
+            ));
+
+            assertThat(mangaRepository.findAll()).extracting(Manga::malId).containsExactly(1L);
+            assertThat(mangaRepository.findById(2L)).isEmpty();
+            assertThat(mangaRepository.findById(1L).orElseThrow().progress()).isEqualTo(otherProgress);
+            mangaRepository.deleteAll();
+        });
+
+        assertThat(mangaRepository.findAll()).hasSize(2);
+        assertThat(mangaRepository.findById(1L).orElseThrow().progress()).isEqualTo(manga1.progress());
+        assertThat(mongoTemplate.count(new Query(), MangaMetadata.class)).isEqualTo(2);
+    }
+
+    @Test
+    public void whenFindTenantsIsCalled_shouldReturnTenantsWithEntries() {
+        Manga manga2 = mangaRepository.findById(2L).orElseThrow();
+        TenantContext.runAs("tenant-b", () -> mangaRepository.save(manga2));
+
+        List<String> tenants = mangaRepository.findTenants();
+
+        assertThat(tenants).containsExactlyInAnyOrder(TenantContext.DEFAULT_TENANT, "tenant-b");
+    }
+
+    @Test
+    public void whenFindChangesSinceIsCalled_shouldReturnSavedAndDeletedMangaInVersionOrder() {
+        long since = mangaRepository.findVersion().version();
+        Manga manga1 = mangaRepository.findById(1L).orElseThrow();
+        Manga manga2 = mangaRepository.findById(2L).orElseThrow();
+        mangaRepository.delete(manga1);
+        mangaRepository.saveProgress(manga2);
+
+        List<LibraryChange> changes = mangaRepository.findChangesSince(since, 10);
+
+        assertThat(changes).extracting(LibraryChange::malId).containsExactly(1L, 2L);
+        assertThat(changes.get(0).deleted()).isTrue();
+        assertThat(changes.get(1).manga()).isEqualTo(manga2);
+        assertThat(changes.get(1).version()).isEqualTo(since + 2);
+    }
+
+    @Test
+    public void whenFindChangesSinceIsCalled_givenConcurrentWriters_shouldNotSkipAnyChange() throws Exception {
+        Manga template = mangaRepository.findById(2L).orElseThrow();
+        long since = mangaRepository.findVersion().version();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<?>> writers = new ArrayList<>();
+        for (int writer = 0; writer < 4; writer++) {
+            long firstMalId = 100L + writer * 25L;
+            writers.add(executor.submit(() -> {
+                for (long malId = firstMalId; malId < firstMalId + 25; malId++) {
+                    mangaRepository.save(new Manga(malId, template.title(), template.type(), template.chapters(),
+                            template.volumes(), template.status(), template.synopsis(), template.authors(),
+                            template.genres(), template.url(), template.progress()));
+                }
+            }));
+        }
+
+        Set<Long> seen = new HashSet<>();
+        long cursor = since;
+        while (writers.stream().anyMatch(writer -> !writer.isDone())) {
+            List<LibraryChange> changes = mangaRepository.findChangesSince(cursor, 1000);
+            changes.forEach(change -> seen.add(change.malId()));
+            cursor = changes.isEmpty() ? cursor : changes.getLast().version();
+        }
+        executor.shutdown();
+        for (Future<?> writer : writers) {
+            writer.get();
+        }
+        mangaRepository.findChangesSince(cursor, 1000).forEach(change -> seen.add(change.malId()));
+
+        assertThat(seen).hasSize(100).allMatch(malId -> malId >= 100 && malId < 200);
+    }
+
+    @Test
+    public void whenAnotherInstanceHasAWriteInFlight_shouldHoldBackLaterVersions() {
+        long since = mangaRepository.findVersion().version();
+        // another instance allocated the next version and has not committed it yet
+        mongoTemplate.upsert(Query.query(Criteria.where("_id").is(LibraryVersion.ID)),
+                new Update().inc("version", 1), LibraryVersion.class);
+        mangaRepository.saveProgress(mangaRepository.findById(2L).orElseThrow());
+
+        assertThat(mangaRepository.findVersion().version()).isEqualTo(since);
+        assertThat(mangaRepository.findChangesSince(since, 10)).isEmpty();
+
+        mongoTemplate.insert(new LibraryCommit(since + 1, since + 1, Instant.now()));
+
+        assertThat(mangaRepository.findVersion().version()).isEqualTo(since + 2);
+        assertThat(mangaRepository.findChangesSince(since, 10)).extracting(LibraryChange::malId).containsExactly(2L);
+    }
+
+    @Test
+    public void whenReserveEntriesIsCalled_givenConcurrentCallers_shouldNotExceedLimit() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<Boolean>> reservations = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            reservations.add(executor.submit(() -> mangaRepository.reserveEntries(1, 5)));
+        }
+
+        int granted = 0;
+        for (Future<Boolean> reservation : reservations) {
+            granted += reservation.get() ? 1 : 0;
+        }
+        executor.shutdown();
+
+        assertThat(granted).isEqualTo(3);
+        assertThat(mangaRepository.countReservedEntries()).isEqualTo(5);
+    }
+
+    @Test
+    public void whenDeleteIsCalled_shouldReleaseReservedEntry() {
+        assertThat(mangaRepository.countReservedEntries()).isEqualTo(2);
+
+        mangaRepository.delete(mangaRepository.findById(1L).orElseThrow());
+
+        assertThat(mangaRepository.countReservedEntries()).isEqualTo(1);
+    }
+
+    @Test
+    public void whenSaveMetadataIsCalled_shouldBumpVersionOfEveryTenantsEntry() {
+        Manga manga2 = mangaRepository.findById(2L).orElseThrow();
+        TenantContext.runAs("tenant-b", () -> mangaRepository.save(manga2));
+        long since = mangaRepository.findVersion().version();
+
+        mangaRepository.saveMetadata(new Manga(manga2.malId(), manga2.title(), manga2.type(), manga2.chapters() + 1,
+                manga2.volumes(), manga2.status(), manga2.synopsis(), manga2.authors(), manga2.genres(), manga2.url(),
+                manga2.progress()));
+
+        List<LibraryChange> tenantBChanges = new ArrayList<>();
+        TenantContext.runAs("tenant-b", () -> tenantBChanges.addAll(mangaRepository.findChangesSince(since, 10)));
+
+        assertThat(mangaRepository.findChangesSince(since, 10)).extracting(LibraryChange::malId).containsExactly(2L);
+        assertThat(tenantBChanges).extracting(LibraryChange::malId).containsExactly(2L);
+    }
+
+    @Test
+    public void whenSaveMetadataIsCalled_givenUnchangedMetadata_shouldNotBumpAnyVersion() {
+        Manga manga2 = mangaRepository.findById(2L).orElseThrow();
+        TenantContext.runAs("tenant-b", () -> mangaRepository.save(manga2));
+        long since = mangaRepository.findVersion().version();
+
+        mangaRepository.saveMetadata(manga2);
+
+        List<LibraryChange> tenantBChanges = new ArrayList<>();
+        TenantContext.runAs("tenant-b", () -> tenantBChanges.addAll(mangaRepository.findChangesSince(since, 10)));
+
+        assertThat(mangaRepository.findVersion().version()).isEqualTo(since);
+        assertThat(mangaRepository.findChangesSince(since, 10)).isEmpty();
+        assertThat(tenantBChanges).isEmpty();
+    }
+
+    @Test
+    public void whenFindStateIsCalled_shouldChangeOnEveryWrite() {
+        LibraryState saved = mangaRepository.findState();
+        mangaRepository.delete(mangaRepository.findById(1L).orElseThrow());
+        LibraryState deleted = mangaRepository.findState();
+
+        assertThat(saved).isEqualTo(new LibraryState(2, mangaRepository.findEntry(2L).orElseThrow().version()));
+        assertThat(deleted.size()).isEqualTo(1);
+        assertThat(deleted).isNotEqualTo(saved);
+    }
+
+    @Test
+    public void whenPurgeTombstonesIsCalled_shouldRaisePurgedVersion() {
+        Manga manga1 = mangaRepository.findById(1L).orElseThrow();
+        mangaRepository.delete(manga1);
+        long deletedVersion = mangaRepository.findVersion().version();
+
+        long purged = mangaRepository.purgeTombstones(Instant.now().plusSeconds(1));
+
+        assertThat(purged).isEqualTo(1);
+        assertThat(mangaRepository.findVersion().purgedVersion()).isEqualTo(deletedVersion);
+        assertThat(mangaRepository.findChangesSince(0, 10)).extracting(LibraryChange::malId).containsExactly(2L);
+    }
+
+    @Test
+    public void whenMigrateLegacyCollectionIsCalled_shouldSplitLegacyDocuments() {
+        mongoTemplate.getDb().drop();
+        Manga legacy = new Manga(
+                5L,
+                "Legacy Manga",
+                Type.MANGA,
+                10,
+                1,
+                Status.FINISHED,
+                "",
+                List.of(new Author("Legacy Author", "www.example.com/people/5")),
+                List.of(Genre.DRAMA),
+                "www.example.com/manga/5",
+                new UserProgress(ProgressType.FINISHED, 10, 1, 9)
+        );
+        mongoTemplate.insert(legacy, "manga");
+
+        int migrated = mangaRepository.migrateLegacyCollection(100);
+
+        assertThat(migrated).isEqualTo(1);
+        assertThat(mangaRepository.findAll()).containsExactly(legacy);
+        assertThat(mongoTemplate.collectionExists("manga")).isFalse();
+        assertThat(mangaRepository.migrateLegacyCollection(100)).isZero();
+    }
+
+    @Test
+    public void whenMigrateLegacyCollectionIsCalled_givenEarlierBackup_shouldKeepBothCollections() {
+        mongoTemplate.getDb().drop();
+        mongoTemplate.createCollection("manga_legacy");
+        mongoTemplate.insert(new Manga(6L, "Legacy Manga", Type.MANGA, 10, 1, Status.FINISHED, "", List.of(),
+                List.of(Genre.DRAMA), "www.example.com/manga/6", new UserProgress(ProgressType.READING, 2, 0, 0)), "manga");
+
+        int migrated = mangaRepository.migrateLegacyCollection(100);
+
+        assertThat(migrated).isEqualTo(1);
+        assertThat(mongoTemplate.collectionExists("manga")).isFalse();
+        assertThat(mongoTemplate.getCollectionNames())
+                .contains("manga_legacy")
+                .anyMatch(name -> name.startsWith("manga_legacy_"));
+    }
+
+    @Test
+    public void whenMigrateEnumStorageIsCalled_givenCodesFormat_shouldRecodeAndKeepFiltering() {
+        MangaRepository compactRepository = new MangaRepositoryImpl(mongoTemplate,
+                new MangaCodecProvider(UnknownLabelPolicy.UNKNOWN, EnumStorageFormat.CODES));
+
+        int migrated = compactRepository.migrateEnumStorage(1);
+
+        Document metadata = mongoTemplate.getCollection("manga_metadata").find(new Document("_id", 1L)).first();
+        Document entry = mongoTemplate.getCollection("library").find(new Document("malId", 1L)).first();
+        assertThat(migrated).isEqualTo(4);
+        assertThat(metadata.get("type")).isEqualTo(0);
+        assertThat(metadata.get("genres")).isEqualTo((1L << 12) | (1L << 14));
+        assertThat(entry.get("progress", Document.class).get("progress")).isEqualTo(2);
+        assertThat(compactRepository.findByDynamicCriteria(new FilterParams(
+                null, Type.MANGA, Status.FINISHED, null, List.of(Genre.SLICE_OF_LIFE), ProgressType.FINISHED)))
+                .extracting(Manga::malId)
+                .containsExactly(1L);
+        assertThat(compactRepository.migrateEnumStorage(100)).isZero();
+        assertThat(mangaRepository.findAll()).hasSize(2);
+    }
+
+    @Test
+    public void whenMigrateEnumStorageIsCalled_givenUnknownProgress_shouldSkipOnlyThatEntry() {
+        MangaRepository compactRepository = new MangaRepositoryImpl(mongoTemplate,
+                new MangaCodecProvider(UnknownLabelPolicy.UNKNOWN, EnumStorageFormat.CODES));
+        mongoTemplate.getCollection("library").updateOne(new Document("malId", 2L),
+                new Document("$set", new Document("progress.progress", "REREADING")));
+
+        int migrated = compactRepository.migrateEnumStorage(1);
+
+        Document skipped = mongoTemplate.getCollection("library").find(new Document("malId", 2L)).first();
+        Document recoded = mongoTemplate.getCollection("library").find(new Document("malId", 1L)).first();
+        assertThat(migrated).isEqualTo(3);
+        assertThat(skipped.get("progress", Document.class).get("progress")).isEqualTo("REREADING");
+        assertThat(recoded.get("progress", Document.class).get("progress")).isEqualTo(2);
+    }
+
+    @Test
+    public void whenMigrateEntryFilterFieldsIsCalled_givenEntryWithoutThem_shouldCopyThemFromMetadata() {
+        mongoTemplate.getCollection("library").updateOne(new Document("malId", 1L), new Document("$unset",
+                new Document("type", "").append("status", "").append("genres", "")));
+        FilterParams manga = new FilterParams(null, Type.MANGA, null, null, null, null);
+        assertThat(mangaRepository.findByDynamicCriteria(manga)).extracting(Manga::malId).containsExactly(2L);
+
+        int copied = mangaRepository.migrateEntryFilterFields(1);
+
+        assertThat(copied).isEqualTo(1);
+        assertThat(mangaRepository.findByDynamicCriteria(manga)).extracting(Manga::malId).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(mangaRepository.migrateEntryFilterFields(1)).isZero();
+    }
+
+    @Test
+    public void whenSaveMetadataIsCalled_shouldUpdateEntryFilterFields() {
+        Manga manga1 = mangaRepository.findById(1L).orElseThrow();
+
+        mangaRepository.saveMetadata(new Manga(manga1.malId(), manga1.title(), Type.MANHWA, manga1.chapters(),
+                manga1.volumes(), manga1.status(), manga1.synopsis(), manga1.authors(), manga1.genres(), manga1.url(),
+                manga1.progress()));
+
+        assertThat(mangaRepository.findByDynamicCriteria(new FilterParams(null, Type.MANHWA, null, null, null, null)))
+                .extracting(Manga::malId)
+                .containsExactly(1L);
+    }
 }
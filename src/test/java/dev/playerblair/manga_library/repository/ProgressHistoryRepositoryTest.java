@@ -0,0 +1,99 @@
+package dev.playerblair.manga_library.repository;
+
+import dev.playerblair.manga_library.model.ProgressEvent;
+import dev.playerblair.manga_library.model.ProgressType;
+import dev.playerblair.manga_library.repository.impl.ProgressHistoryRepositoryImpl;
+import dev.playerblair.manga_library.request.HistoryInterval;
+import dev.playerblair.manga_library.response.ReadingActivity;
+import dev.playerblair.manga_library.tenant.TenantContext;
+import org.bson.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MongoDBContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Testcontainers
+@DataMongoTest
+@Import(ProgressHistoryRepositoryImpl.class)
+public class ProgressHistoryRepositoryTest {
+
+    @Container
+    static MongoDBContainer mongoDBContainer = new MongoDBContainer("mongo:latest");
+
+    @Autowired
+    private ProgressHistoryRepository progressHistoryRepository;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @DynamicPropertySource
+    public static void setProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.mongodb.uri", mongoDBContainer::getReplicaSetUrl);
+    }
+
+    @BeforeEach
+    public void setup() {
+        progressHistoryRepository.ensureCollection();
+        progressHistoryRepository.insert(event("2025-01-03T20:00:00Z", TenantContext.DEFAULT_TENANT, 1L,
+                ProgressType.PLANNING, ProgressType.READING, 5));
+        progressHistoryRepository.insert(event("2025-01-20T21:00:00Z", TenantContext.DEFAULT_TENANT, 1L,
+                ProgressType.READING, ProgressType.READING, 10));
+        progressHistoryRepository.insert(event("2025-02-02T08:00:00Z", TenantContext.DEFAULT_TENANT, 2L,
+                ProgressType.READING, ProgressType.FINISHED, 7));
+        progressHistoryRepository.insert(event("2025-01-05T08:00:00Z", "tenant-b", 1L,
+                ProgressType.READING, ProgressType.READING, 50));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        mongoTemplate.dropCollection(ProgressEvent.class);
+    }
+
+    @Test
+    public void whenEnsureCollectionIsCalled_shouldCreateTimeSeriesCollection() {
+        String type = mongoTemplate.getDb().listCollections()
+                .filter(new Document("name", "progress_history"))
+                .first()
+                .getString("type");
+
+        assertThat(type).isEqualTo("timeseries");
+    }
+
+    @Test
+    public void whenFindActivityIsCalled_shouldBucketByMonthForTenant() {
+        List<ReadingActivity> activity = progressHistoryRepository.findActivity(
+                null, Instant.parse("2025-01-01T00:00:00Z"), Instant.parse("2026-01-01T00:00:00Z"), HistoryInterval.MONTH);
+
+        assertThat(activity).containsExactly(
+                new ReadingActivity(Instant.parse("2025-01-01T00:00:00Z"), 2, 15, 0, 0),
+                new ReadingActivity(Instant.parse("2025-02-01T00:00:00Z"), 1, 7, 0, 1)
+        );
+    }
+
+    @Test
+    public void whenFindActivityIsCalled_givenMalIdAndRange_shouldOnlyIncludeMatchingEvents() {
+        List<ReadingActivity> activity = progressHistoryRepository.findActivity(
+                1L, Instant.parse("2025-01-01T00:00:00Z"), Instant.parse("2025-01-10T00:00:00Z"), HistoryInterval.DAY);
+
+        assertThat(activity).containsExactly(new ReadingActivity(Instant.parse("2025-01-03T00:00:00Z"), 1, 5, 0, 0));
+    }
+
+    private ProgressEvent event(String timestamp, String tenant, Long malId,
+                                ProgressType previous, ProgressType current, int chapters) {
+        return new ProgressEvent(Instant.parse(timestamp), new ProgressEvent.Subject(tenant, malId),
+                previous, current, chapters, 0, 0);
+    }
+}
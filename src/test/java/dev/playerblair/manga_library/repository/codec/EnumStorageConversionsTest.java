@@ -0,0 +1,116 @@
+package dev.playerblair.manga_library.repository.codec;
+
+import dev.playerblair.manga_library.model.*;
+import dev.playerblair.manga_library.util.EnumStorageFormat;
+import dev.playerblair.manga_library.util.UnknownLabelPolicy;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EnumStorageConversionsTest {
+
+    private static final MangaMetadata METADATA = new MangaMetadata(
+            1L,
+            "Test Manga 1",
+            Type.MANHWA,
+            100,
+            10,
+            Status.PUBLISHING,
+            "",
+            List.of(new Author("Test Author 1", "www.example.com/people/1")),
+            List.of(Genre.ROMANCE, Genre.SLICE_OF_LIFE),
+            "www.example.com/manga/1"
+    );
+
+    private static final LibraryEntry ENTRY = new LibraryEntry("default:1", "default", 1L, Type.MANHWA,
+            Status.PUBLISHING, List.of(Genre.ROMANCE), new UserProgress(ProgressType.READING, 4, 0, 6), 3, Instant.EPOCH);
+
+    @Test
+    public void whenStorageFormatIsCodes_shouldWriteCodesAndGenreMask() {
+        // setup test data
+        MappingMongoConverter converter = converter(EnumStorageFormat.CODES);
+        Document metadata = new Document();
+        Document entry = new Document();
+
+        // execute the method under test
+        converter.write(METADATA, metadata);
+        converter.write(ENTRY, entry);
+
+        // assertions
+        assertThat(metadata.get("type")).isEqualTo(1);
+        assertThat(metadata.get("status")).isEqualTo(0);
+        assertThat(metadata.get("genres")).isEqualTo((1L << 12) | (1L << 14));
+        assertThat(entry.get("type")).isEqualTo(1);
+        assertThat(entry.get("genres")).isEqualTo(1L << 12);
+        assertThat(entry.get("progress", Document.class).get("progress")).isEqualTo(1);
+        assertThat(converter.read(MangaMetadata.class, metadata)).isEqualTo(METADATA);
+        assertThat(converter.read(LibraryEntry.class, entry)).isEqualTo(ENTRY);
+    }
+
+    @Test
+    public void whenStorageFormatIsNames_shouldWriteNames() {
+        // setup test data
+        MappingMongoConverter converter = converter(EnumStorageFormat.NAMES);
+        Document metadata = new Document();
+
+        // execute the method under test
+        converter.write(METADATA, metadata);
+
+        // assertions
+        assertThat(metadata.get("type")).isEqualTo("MANHWA");
+        assertThat(metadata.get("genres")).isEqualTo(List.of("ROMANCE", "SLICE_OF_LIFE"));
+        assertThat(converter.read(MangaMetadata.class, metadata)).isEqualTo(METADATA);
+    }
+
+    @Test
+    public void whenStorageFormatIsCodes_givenDocumentWithNames_shouldDecodeIt() {
+        // setup test data
+        Document names = new Document();
+        converter(EnumStorageFormat.NAMES).write(METADATA, names);
+
+        // execute the method under test
+        MangaMetadata metadata = converter(EnumStorageFormat.CODES).read(MangaMetadata.class, names);
+
+        // assertions
+        assertThat(metadata).isEqualTo(METADATA);
+    }
+
+    @Test
+    public void whenStorageFormatIsNames_givenUnknownGenreAndSkipPolicy_shouldLeaveItOutOfTheList() {
+        // setup test data
+        Document names = new Document();
+        converter(EnumStorageFormat.NAMES).write(METADATA, names);
+        names.put("genres", List.of("ROMANCE", "NOT_A_GENRE", "SLICE_OF_LIFE"));
+
+        // execute the method under test
+        MangaMetadata metadata = converter(UnknownLabelPolicy.SKIP, EnumStorageFormat.NAMES)
+                .read(MangaMetadata.class, names);
+
+        // assertions
+        assertThat(metadata.genres()).containsExactly(Genre.ROMANCE, Genre.SLICE_OF_LIFE);
+    }
+
+    private MappingMongoConverter converter(EnumStorageFormat format) {
+        return converter(UnknownLabelPolicy.FAIL, format);
+    }
+
+    private MappingMongoConverter converter(UnknownLabelPolicy policy, EnumStorageFormat format) {
+        MongoCustomConversions conversions = EnumStorageConversions.customConversions(policy, format);
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        mappingContext.afterPropertiesSet();
+
+        MappingMongoConverter converter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        converter.setCustomConversions(conversions);
+        converter.afterPropertiesSet();
+        return converter;
+    }
+}
@@ -0,0 +1,116 @@
+package dev.playerblair.manga_library.repository.codec;
+
+import dev.playerblair.manga_library.model.*;
+import dev.playerblair.manga_library.util.EnumStorageFormat;
+import dev.playerblair.manga_library.util.UnknownLabelPolicy;
+import org.bson.BsonDocument;
+import org.bson.BsonDocumentReader;
+import org.bson.BsonDocumentWriter;
+import org.bson.codecs.Codec;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.EncoderContext;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class MangaCodecTest {
+
+    private static final String STORED = """
+            {"_id": {"$numberLong": "1"}, "_class": "dev.playerblair.manga_library.model.MangaMetadata",
+             "title": "Test Manga 1", "type": "MANGA", "chapters": 100, "volumes": {"$numberLong": "10"},
+             "status": "HIATUS_FOREVER", "synopsis": "", "authors": [{"name": "Test Author 1", "url": "www.example.com/people/1"}],
+             "genres": ["ROMANCE", "ISEKAI"], "url": "www.example.com/manga/1",
+             "progress": {"progress": "READING", "chaptersRead": 4, "volumesRead": 0, "rating": 6}}""";
+
+    private static final Manga MANGA = new Manga(
+            1L,
+            "Test Manga 1",
+            Type.MANGA,
+            100,
+            10,
+            Status.FINISHED,
+            "",
+            List.of(new Author("Test Author 1", "www.example.com/people/1")),
+            List.of(Genre.ROMANCE, Genre.SLICE_OF_LIFE),
+            "www.example.com/manga/1",
+            new UserProgress(ProgressType.FINISHED, 100, 10, 9)
+    );
+
+    @Test
+    public void whenEncodingAndDecodingManga_shouldRoundTrip() {
+        // setup test data
+        BsonDocument document = new BsonDocument();
+
+        // execute the method under test
+        codec(UnknownLabelPolicy.FAIL, EnumStorageFormat.NAMES)
+                .encode(new BsonDocumentWriter(document), MANGA, EncoderContext.builder().build());
+        Manga decoded = decode(UnknownLabelPolicy.FAIL, document);
+
+        // assertions
+        assertThat(document.getString("type").getValue()).isEqualTo("MANGA");
+        assertThat(document.getArray("genres").get(1).asString().getValue()).isEqualTo("SLICE_OF_LIFE");
+        assertThat(decoded).isEqualTo(MANGA);
+    }
+
+    @Test
+    public void whenStorageFormatIsCodes_shouldEncodeCodesAndGenreMask() {
+        // setup test data
+        BsonDocument document = new BsonDocument();
+
+        // execute the method under test
+        codec(UnknownLabelPolicy.FAIL, EnumStorageFormat.CODES)
+                .encode(new BsonDocumentWriter(document), MANGA, EncoderContext.builder().build());
+        Manga decoded = decode(UnknownLabelPolicy.FAIL, document);
+
+        // assertions
+        assertThat(document.getInt32("type").getValue()).isEqualTo(0);
+        assertThat(document.getInt32("status").getValue()).isEqualTo(1);
+        assertThat(document.getInt64("genres").getValue())
+                .isEqualTo((1L << 12) | (1L << 14));
+        assertThat(document.getDocument("progress").getInt32("progress").getValue()).isEqualTo(2);
+        assertThat(decoded).isEqualTo(MANGA);
+    }
+
+    @Test
+    public void whenDecodingStoredDocument_shouldSkipUnmappedFieldsAndApplyPolicy() {
+        // execute the method under test
+        Manga manga = decode(UnknownLabelPolicy.UNKNOWN, BsonDocument.parse(STORED));
+
+        // assertions
+        assertThat(manga.malId()).isEqualTo(1L);
+        assertThat(manga.volumes()).isEqualTo(10);
+        assertThat(manga.status()).isEqualTo(Status.UNKNOWN);
+        assertThat(manga.genres()).containsExactly(Genre.ROMANCE, Genre.UNKNOWN);
+        assertThat(manga.authors()).containsExactly(new Author("Test Author 1", "www.example.com/people/1"));
+        assertThat(manga.progress()).isEqualTo(new UserProgress(ProgressType.READING, 4, 0, 6));
+    }
+
+    @Test
+    public void whenPolicyIsSkip_shouldDropUnknownGenres() {
+        // execute the method under test
+        Manga manga = decode(UnknownLabelPolicy.SKIP, BsonDocument.parse(STORED));
+
+        // assertions
+        assertThat(manga.status()).isNull();
+        assertThat(manga.genres()).containsExactly(Genre.ROMANCE);
+    }
+
+    @Test
+    public void whenPolicyIsFail_shouldRejectUnknownNames() {
+        // assert IllegalArgumentException thrown
+        assertThatThrownBy(() -> decode(UnknownLabelPolicy.FAIL, BsonDocument.parse(STORED)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unknown name: HIATUS_FOREVER");
+    }
+
+    private Manga decode(UnknownLabelPolicy policy, BsonDocument document) {
+        return codec(policy, EnumStorageFormat.NAMES).decode(new BsonDocumentReader(document), DecoderContext.builder().build());
+    }
+
+    private Codec<Manga> codec(UnknownLabelPolicy policy, EnumStorageFormat format) {
+        return new MangaCodecProvider(policy, format).get(Manga.class, null);
+    }
+}
@@ -0,0 +1,66 @@
+package dev.playerblair.manga_library.repository.impl;
+
+import dev.playerblair.manga_library.model.LibraryCommit;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CommittedVersionsTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T12:00:00Z");
+    private static final Instant ABANDONED_BEFORE = NOW.minus(CommittedVersions.ABANDONED_AFTER);
+
+    @Test
+    public void whenLaterWriteFinishesFirst_shouldHoldBackItsVersion() {
+        List<LibraryCommit> fastOnly = List.of(new LibraryCommit(6, 6, NOW));
+        List<LibraryCommit> both = List.of(new LibraryCommit(5, 5, NOW), new LibraryCommit(6, 6, NOW));
+
+        // execute the method under test
+        long whileSlowWrites = CommittedVersions.advance(4, fastOnly, ABANDONED_BEFORE);
+        long afterSlowWrites = CommittedVersions.advance(4, both, ABANDONED_BEFORE);
+
+        // assertions
+        assertThat(whileSlowWrites).isEqualTo(4);
+        assertThat(afterSlowWrites).isEqualTo(6);
+    }
+
+    @Test
+    public void whenWritesCoverSeveralVersions_shouldAdvanceOverWholeRanges() {
+        List<LibraryCommit> pending = List.of(
+                new LibraryCommit(1, 3, NOW),
+                new LibraryCommit(4, 4, NOW),
+                new LibraryCommit(5, 9, NOW),
+                new LibraryCommit(11, 11, NOW)
+        );
+
+        // execute the method under test
+        long committed = CommittedVersions.advance(0, pending, ABANDONED_BEFORE);
+
+        // assertions
+        assertThat(committed).isEqualTo(9);
+    }
+
+    @Test
+    public void whenGapOutlivesLaterCommits_shouldSkipTheAbandonedVersions() {
+        List<LibraryCommit> pending = List.of(
+                new LibraryCommit(7, 7, ABANDONED_BEFORE.minusSeconds(1)),
+                new LibraryCommit(8, 8, NOW),
+                new LibraryCommit(10, 10, NOW)
+        );
+
+        // execute the method under test
+        long committed = CommittedVersions.advance(5, pending, ABANDONED_BEFORE);
+
+        // assertions
+        assertThat(committed).isEqualTo(8);
+    }
+
+    @Test
+    public void whenNothingIsPending_shouldKeepWatermark() {
+        // execute the method under test + assertions
+        assertThat(CommittedVersions.advance(3, List.of(), ABANDONED_BEFORE)).isEqualTo(3);
+    }
+}
@@ -0,0 +1,179 @@
+package dev.playerblair.manga_library.search;
+
+import dev.playerblair.manga_library.model.*;
+import dev.playerblair.manga_library.response.LibrarySearchHit;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LibraryIndexTest {
+
+    private static final String TENANT = "tenant-a";
+
+    private LibraryIndex libraryIndex;
+
+    private Manga berserk;
+    private Manga vagabond;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        libraryIndex = new LibraryIndex(new ByteBuffersDirectory());
+
+        berserk = manga(
+                2L,
+                "Berserk",
+                "Guts, a former mercenary now known as the Black Swordsman, is out for revenge.",
+                "Miura, Kentarou",
+                List.of(Genre.ACTION, Genre.DRAMA)
+        );
+        vagabond = manga(
+                656L,
+                "Vagabond",
+                "Miyamoto Musashi wanders Japan as a swordsman who could be mistaken for a berserk fighter.",
+                "Inoue, Takehiko",
+                List.of(Genre.ACTION)
+        );
+
+        libraryIndex.index(TENANT, berserk);
+        libraryIndex.index(TENANT, vagabond);
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        libraryIndex.close();
+    }
+
+    @Test
+    public void whenSearchIsCalled_shouldRankTitleMatchesAboveSynopsisMatches() {
+        // execute the method under test
+        List<LibrarySearchHit> hits = libraryIndex.search(TENANT, "berserk", 10);
+
+        // assertions
+        assertThat(hits).extracting(LibrarySearchHit::malId).containsExactly(2L, 656L);
+        assertThat(hits.get(0).score()).isGreaterThan(hits.get(1).score());
+    }
+
+    @Test
+    public void whenSearchIsCalled_givenTypo_shouldMatchFuzzily() {
+        // execute the method under test
+        List<LibrarySearchHit> hits = libraryIndex.search(TENANT, "vagabnod inuoe", 10);
+
+        // assertions
+        assertThat(hits).extracting(LibrarySearchHit::malId).first().isEqualTo(656L);
+    }
+
+    @Test
+    public void whenSearchIsCalled_shouldHighlightMatchedTerms() {
+        // execute the method under test
+        List<LibrarySearchHit> hits = libraryIndex.search(TENANT, "swordsman miura", 10);
+
+        // assertions
+        LibrarySearchHit hit = hits.get(0);
+        assertThat(hit.malId()).isEqualTo(2L);
+        assertThat(hit.highlights().get("authors")).isEqualTo("<em>Miura</em>, Kentarou");
+        assertThat(hit.highlights().get("synopsis")).contains("<em>Swordsman</em>");
+        assertThat(hit.highlights()).doesNotContainKey("title");
+    }
+
+    @Test
+    public void whenIndexIsCalled_givenExistingManga_shouldReplaceDocument() {
+        // execute the method under test
+        libraryIndex.index(TENANT, manga(2L, "Berserk Deluxe Edition", "", "Miura, Kentarou", List.of(Genre.ACTION)));
+
+        // assertions
+        assertThat(libraryIndex.size(TENANT)).isEqualTo(2);
+        assertThat(libraryIndex.search(TENANT, "deluxe", 10)).extracting(LibrarySearchHit::malId).containsExactly(2L);
+    }
+
+    @Test
+    public void whenDeleteIsCalled_shouldRemoveFromResults() {
+        // execute the method under test
+        libraryIndex.delete(TENANT, 2L);
+
+        // assertions
+        assertThat(libraryIndex.search(TENANT, "berserk", 10)).extracting(LibrarySearchHit::malId).containsExactly(656L);
+    }
+
+    @Test
+    public void whenSearchIsCalled_shouldOnlyMatchDocumentsOfTenant() {
+        // setup test data
+        libraryIndex.index("tenant-b", manga(2L, "Berserk of Gluttony", "", "Ichika, Isshiki", List.of(Genre.FANTASY)));
+
+        // execute the method under test
+        List<LibrarySearchHit> hits = libraryIndex.search("tenant-b", "berserk", 10);
+
+        // assertions
+        assertThat(hits).extracting(LibrarySearchHit::title).containsExactly("Berserk of Gluttony");
+        assertThat(libraryIndex.size(TENANT)).isEqualTo(2);
+        assertThat(libraryIndex.size("tenant-b")).isEqualTo(1);
+    }
+
+    @Test
+    public void whenRebuildIsCalled_shouldKeepOtherTenants() {
+        // setup test data
+        libraryIndex.index("tenant-b", manga(2L, "Berserk of Gluttony", "", "Ichika, Isshiki", List.of(Genre.FANTASY)));
+
+        // execute the method under test
+        libraryIndex.rebuild(TENANT, List.of(vagabond));
+
+        // assertions
+        assertThat(libraryIndex.size(TENANT)).isEqualTo(1);
+        assertThat(libraryIndex.search("tenant-b", "berserk", 10)).extracting(LibrarySearchHit::malId).containsExactly(2L);
+    }
+
+    @Test
+    public void whenFingerprintIsCalled_shouldMatchLibraryUntilContentChanges() {
+        // setup test data
+        Manga renamed = manga(2L, "Berserk: Deluxe Edition", berserk.synopsis(), "Miura, Kentarou",
+                List.of(Genre.ACTION, Genre.DRAMA));
+        libraryIndex.index("tenant-b", vagabond);
+
+        // execute the method under test
+        LibraryIndex.Fingerprint indexed = libraryIndex.fingerprint(TENANT);
+
+        // assertions
+        assertThat(indexed).isEqualTo(LibraryIndex.fingerprint(Stream.of(vagabond, berserk)));
+        assertThat(indexed.size()).isEqualTo(2);
+        assertThat(indexed).isNotEqualTo(LibraryIndex.fingerprint(Stream.of(renamed, vagabond)));
+    }
+
+    @Test
+    public void whenIndexIsReopened_shouldKeepCommittedDocuments(@TempDir Path indexPath) throws IOException {
+        // setup test data
+        try (LibraryIndex onDisk = LibraryIndex.open(indexPath)) {
+            onDisk.rebuild(TENANT, List.of(berserk, vagabond));
+        }
+
+        // execute the method under test
+        try (LibraryIndex reopened = LibraryIndex.open(indexPath)) {
+            // assertions
+            assertThat(reopened.size(TENANT)).isEqualTo(2);
+            assertThat(reopened.search(TENANT, "vagabond", 10)).extracting(LibrarySearchHit::malId).containsExactly(656L);
+        }
+    }
+
+    private Manga manga(Long malId, String title, String synopsis, String author, List<Genre> genres) {
+        return new Manga(
+                malId,
+                title,
+                Type.MANGA,
+                0,
+                0,
+                Status.PUBLISHING,
+                synopsis,
+                List.of(new Author(author, "www.example.com/people/" + malId)),
+                genres,
+                "www.example.com/manga/" + malId,
+                new UserProgress(ProgressType.PLANNING, 0, 0, 0)
+        );
+    }
+}
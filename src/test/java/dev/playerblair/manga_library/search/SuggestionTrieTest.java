@@ -0,0 +1,85 @@
+package dev.playerblair.manga_library.search;
+
+import dev.playerblair.manga_library.response.AutocompleteSuggestion;
+import dev.playerblair.manga_library.response.AutocompleteSuggestion.Kind;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SuggestionTrieTest {
+
+    private final AutocompleteSuggestion berserk = new AutocompleteSuggestion("Berserk", Kind.TITLE, 2L, 1060);
+    private final AutocompleteSuggestion gluttony = new AutocompleteSuggestion("Berserk of Gluttony", Kind.TITLE, 3L, 1020);
+    private final AutocompleteSuggestion bleach = new AutocompleteSuggestion("Bleach", Kind.TITLE, 4L, 0);
+    private final AutocompleteSuggestion miura = new AutocompleteSuggestion("Miura, Kentarō", Kind.AUTHOR, null, 1060);
+
+    private final SuggestionTrie trie = SuggestionTrie.build(List.of(bleach, gluttony, berserk, miura), 10);
+
+    @Test
+    public void whenSuggestIsCalled_shouldReturnMatchesInRankOrder() {
+        assertThat(trie.suggest("b", 10)).containsExactly(berserk, gluttony, bleach);
+        assertThat(trie.suggest("ber", 10)).containsExactly(berserk, gluttony);
+    }
+
+    @Test
+    public void whenSuggestIsCalled_givenPrefixOfLaterWord_shouldMatch() {
+        assertThat(trie.suggest("glu", 10)).containsExactly(gluttony);
+        assertThat(trie.suggest("kent", 10)).containsExactly(miura);
+    }
+
+    @Test
+    public void whenSuggestIsCalled_givenDifferentCaseAndAccents_shouldMatch() {
+        assertThat(trie.suggest("MIURA kentaro", 10)).containsExactly(miura);
+    }
+
+    @Test
+    public void whenSuggestIsCalled_givenLimit_shouldReturnTopResultsOnly() {
+        assertThat(trie.suggest("b", 2)).containsExactly(berserk, gluttony);
+    }
+
+    @Test
+    public void whenSuggestIsCalled_givenMoreMatchesThanCapacity_shouldKeepHighestRanked() {
+        // setup test data
+        SuggestionTrie small = SuggestionTrie.build(List.of(bleach, gluttony, berserk), 2);
+
+        // assertions
+        assertThat(small.suggest("b", 10)).containsExactly(berserk, gluttony);
+    }
+
+    @Test
+    public void whenSuggestionIsRemoved_shouldRefillFromTheRest() {
+        // setup test data
+        SuggestionTrie small = SuggestionTrie.build(List.of(bleach, gluttony, berserk), 2);
+
+        // execute the method under test
+        small.remove(berserk);
+
+        // assertions
+        assertThat(small.suggest("b", 10)).containsExactly(gluttony, bleach);
+        assertThat(small.suggest("glu", 10)).containsExactly(gluttony);
+    }
+
+    @Test
+    public void whenSuggestionIsAddedAndRemoved_shouldOnlyChangeItsOwnMatches() {
+        // setup test data
+        AutocompleteSuggestion gantz = new AutocompleteSuggestion("Gantz", Kind.TITLE, 5L, 1100);
+
+        // execute the method under test
+        trie.add(gantz);
+        List<AutocompleteSuggestion> added = trie.suggest("g", 10);
+        trie.remove(gantz);
+
+        // assertions
+        assertThat(added).containsExactly(gantz, gluttony);
+        assertThat(trie.suggest("g", 10)).containsExactly(gluttony);
+        assertThat(trie.suggest("ga", 10)).isEmpty();
+    }
+
+    @Test
+    public void whenSuggestIsCalled_givenUnknownOrBlankPrefix_shouldReturnEmpty() {
+        assertThat(trie.suggest("x", 10)).isEmpty();
+        assertThat(trie.suggest("  ", 10)).isEmpty();
+    }
+}
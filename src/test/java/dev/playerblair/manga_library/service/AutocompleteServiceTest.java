@@ -0,0 +1,142 @@
+package dev.playerblair.manga_library.service;
+
+import dev.playerblair.manga_library.event.MangaChangedEvent;
+import dev.playerblair.manga_library.event.SearchResultsCachedEvent;
+import dev.playerblair.manga_library.model.*;
+import dev.playerblair.manga_library.repository.MangaRepository;
+import dev.playerblair.manga_library.response.AutocompleteSuggestion;
+import dev.playerblair.manga_library.response.MangaResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+public class AutocompleteServiceTest {
+
+    @Mock
+    private MangaRepository mangaRepository;
+
+    private AutocompleteService autocompleteService;
+
+    private Manga reading;
+    private Manga planning;
+
+    @BeforeEach
+    public void setUp() {
+        autocompleteService = new AutocompleteService(mangaRepository, 10, Duration.ofMinutes(30), Runnable::run);
+
+        reading = manga(1L, "Test Manga Reading", "Test Author", new UserProgress(ProgressType.READING, 4, 0, 6));
+        planning = manga(2L, "Test Manga Planning", "Test Author", new UserProgress(ProgressType.PLANNING, 0, 0, 9));
+    }
+
+    @Test
+    public void whenSuggestIsCalled_shouldRankByProgressThenRating() {
+        // setup test data
+        Manga rated = manga(3L, "Test Manga Rated", "Other Author", new UserProgress(ProgressType.READING, 4, 0, 8));
+
+        // mock repository behaviour
+        given(mangaRepository.findAll()).willReturn(List.of(planning, reading, rated));
+
+        // execute the method under test + assertions
+        assertThat(autocompleteService.suggest("test manga", 10))
+                .extracting(AutocompleteSuggestion::malId)
+                .containsExactly(3L, 1L, 2L);
+    }
+
+    @Test
+    public void whenSuggestIsCalled_shouldIncludeAuthors() {
+        // execute the method under test
+        autocompleteService.suggest("test", 10);
+        autocompleteService.onMangaChanged(MangaChangedEvent.saved(null, reading));
+
+        // assertions
+        assertThat(autocompleteService.suggest("test a", 10))
+                .containsExactly(new AutocompleteSuggestion("Test Author", AutocompleteSuggestion.Kind.AUTHOR, null,
+                        AutocompleteService.score(reading)));
+    }
+
+    @Test
+    public void whenSearchResultsAreCached_shouldRankThemBelowLibrary() {
+        // setup test data
+        MangaResponse searchResult = new MangaResponse(5L, "Test Manga Found", Type.MANGA, 0, 0, Status.PUBLISHING,
+                "", List.of(), List.of(), "www.example.com/manga/5");
+
+        // execute the method under test
+        autocompleteService.onSearchResultsCached(new SearchResultsCachedEvent("test", List.of()));
+        autocompleteService.onMangaChanged(MangaChangedEvent.saved(null, planning));
+        autocompleteService.onSearchResultsCached(new SearchResultsCachedEvent("test", List.of(searchResult)));
+
+        // assertions
+        assertThat(autocompleteService.suggest("test manga", 10))
+                .extracting(AutocompleteSuggestion::malId)
+                .containsExactly(2L, 5L);
+    }
+
+    @Test
+    public void whenMangaIsDeleted_shouldStopSuggestingIt() {
+        // mock repository behaviour
+        given(mangaRepository.findAll()).willReturn(List.of(reading, planning));
+
+        // execute the method under test
+        autocompleteService.suggest("test", 10);
+        autocompleteService.onMangaChanged(MangaChangedEvent.deleted(reading));
+
+        // assertions
+        assertThat(autocompleteService.suggest("test", 10))
+                .extracting(AutocompleteSuggestion::malId)
+                .containsExactly(null, 2L);
+    }
+
+    @Test
+    public void whenAuthorLosesBestTitle_shouldRankAuthorWithTheRest() {
+        // mock repository behaviour
+        given(mangaRepository.findAll()).willReturn(List.of(reading, planning));
+
+        // execute the method under test
+        autocompleteService.suggest("test", 10);
+        autocompleteService.onMangaChanged(MangaChangedEvent.deleted(reading));
+
+        // assertions
+        assertThat(autocompleteService.suggest("test a", 10))
+                .containsExactly(new AutocompleteSuggestion("Test Author", AutocompleteSuggestion.Kind.AUTHOR, null,
+                        AutocompleteService.score(planning)));
+    }
+
+    @Test
+    public void whenMangaChangesWhileTenantIsNotHeld_shouldLoadItWithTheLibrary() {
+        // mock repository behaviour
+        given(mangaRepository.findAll()).willReturn(List.of(reading));
+
+        // execute the method under test
+        autocompleteService.onMangaChanged(MangaChangedEvent.saved(null, reading));
+
+        // assertions
+        assertThat(autocompleteService.suggest("test manga", 10))
+                .extracting(AutocompleteSuggestion::malId)
+                .containsExactly(1L);
+    }
+
+    private Manga manga(Long malId, String title, String author, UserProgress progress) {
+        return new Manga(
+                malId,
+                title,
+                Type.MANGA,
+                100,
+                10,
+                Status.PUBLISHING,
+                "",
+                List.of(new Author(author, "www.example.com/people/" + malId)),
+                List.of(Genre.ACTION),
+                "www.example.com/manga/" + malId,
+                progress
+        );
+    }
+}
@@ -0,0 +1,231 @@
+package dev.playerblair.manga_library.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.playerblair.manga_library.client.JikanClient;
+import dev.playerblair.manga_library.config.CatalogProperties;
+import dev.playerblair.manga_library.exception.InvalidCrawlRequestException;
+import dev.playerblair.manga_library.model.*;
+import dev.playerblair.manga_library.repository.CatalogCrawlStateRepository;
+import dev.playerblair.manga_library.repository.CatalogRepository;
+import dev.playerblair.manga_library.response.*;
+import dev.playerblair.manga_library.util.CatalogMapper;
+import dev.playerblair.manga_library.util.EnumLabelModule;
+import dev.playerblair.manga_library.util.UnknownLabelPolicy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class CatalogServiceTest {
+
+    @Mock
+    private CatalogRepository catalogRepository;
+
+    @Mock
+    private CatalogCrawlStateRepository crawlStateRepository;
+
+    @Mock
+    private JikanClient jikanClient;
+
+    private CatalogService catalogService;
+
+    private MangaResponse mangaResponse1;
+    private MangaResponse mangaResponse2;
+
+    @BeforeEach
+    public void setUp() {
+        CatalogProperties properties = new CatalogProperties(
+                true,
+                25,
+                2,
+                new CatalogProperties.Crawl(false, 10, 50, Duration.ofHours(1))
+        );
+        ObjectMapper jikanObjectMapper = new ObjectMapper().registerModule(new EnumLabelModule(UnknownLabelPolicy.UNKNOWN));
+        catalogService = new CatalogService(catalogRepository, crawlStateRepository, jikanClient, jikanObjectMapper, properties);
+
+        mangaResponse1 = new MangaResponse(
+                1L,
+                "Test Manga 1",
+                Type.MANGA,
+                100,
+                10,
+                Status.FINISHED,
+                "",
+                List.of(new Author("Test Author 1", "www.example.com/people/1")),
+                List.of(new MangaResponse.GenreWrapper("Romance")),
+                "www.example.com/manga/1"
+        );
+
+        mangaResponse2 = new MangaResponse(
+                2L,
+                "Test Manga 2",
+                Type.MANGA,
+                13,
+                1,
+                Status.PUBLISHING,
+                "",
+                List.of(new Author("Test Author 2", "www.example.com/people/2")),
+                List.of(new MangaResponse.GenreWrapper("Action")),
+                "www.example.com/manga/2"
+        );
+    }
+
+    @Test
+    public void whenSearchMangaIsCalled_givenLocalMatches_shouldReturnSearchResponse() {
+        // mock repository behaviour
+        CatalogEntry entry = CatalogMapper.toCatalogEntry(mangaResponse1, Instant.now());
+        given(catalogRepository.searchByTitle("Test", PageRequest.of(1, 25)))
+                .willReturn(new SliceImpl<>(List.of(entry), PageRequest.of(1, 25), true));
+
+        // execute the method under test
+        Optional<JikanSearchResponse> searchResponse = catalogService.searchManga("Test", 2);
+
+        // verify interactions + assertions
+        assertThat(searchResponse).isPresent();
+        assertThat(searchResponse.get().pagination()).isEqualTo(new Pagination(2, true));
+        assertThat(searchResponse.get().data()).containsExactly(mangaResponse1);
+    }
+
+    @Test
+    public void whenSearchMangaIsCalled_givenNoLocalMatches_shouldReturnEmpty() {
+        // mock repository behaviour
+        given(catalogRepository.searchByTitle("Test", PageRequest.of(0, 25)))
+                .willReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 25), false));
+
+        // execute the method under test + assertions
+        assertThat(catalogService.searchManga("Test", 1)).isEmpty();
+    }
+
+    @Test
+    public void whenSearchMangaIsCalled_givenCatalogUnavailable_shouldReturnEmpty() {
+        // mock repository behaviour
+        given(catalogRepository.searchByTitle("Test", PageRequest.of(0, 25)))
+                .willThrow(new DataAccessResourceFailureException("text index required for $text query"));
+
+        // execute the method under test + assertions
+        assertThat(catalogService.searchManga("Test", 1)).isEmpty();
+    }
+
+    @Test
+    public void whenImportDumpIsCalled_givenNdjson_shouldSaveInBatchesAndSkipBadLines() throws Exception {
+        // setup test data
+        ObjectMapper objectMapper = new ObjectMapper();
+        String dump = String.join("\n",
+                objectMapper.writeValueAsString(mangaResponse1),
+                "{not json",
+                objectMapper.writeValueAsString(new JikanResponse(mangaResponse2)),
+                "",
+                "{\"mal_id\": 3, \"type\": \"Manga\"}"
+        );
+
+        // mock repository behaviour
+        given(catalogRepository.saveAll(anyList())).willAnswer(invocation -> List.copyOf(invocation.getArgument(0)));
+
+        // execute the method under test
+        CatalogImportResult result = catalogService.importDump(new ByteArrayInputStream(dump.getBytes(StandardCharsets.UTF_8)));
+
+        // verify interactions + assertions
+        verify(catalogRepository, times(1)).saveAll(anyList());
+        assertThat(result).isEqualTo(new CatalogImportResult(2, 2));
+    }
+
+    @Test
+    public void whenImportDumpIsCalled_givenUnknownGenre_shouldImportItAsUnknown() {
+        // setup test data
+        String dump = "{\"mal_id\": 3, \"title\": \"Test Manga 3\", \"type\": \"Manga\", \"status\": \"Finished\", "
+                + "\"genres\": [{\"name\": \"Romance\"}, {\"name\": \"Isekai Cooking\"}]}";
+        List<CatalogEntry> saved = new ArrayList<>();
+
+        // mock repository behaviour, copying the batch since the service reuses it
+        given(catalogRepository.saveAll(anyList())).willAnswer(invocation -> {
+            saved.addAll(invocation.getArgument(0));
+            return List.copyOf(invocation.getArgument(0));
+        });
+
+        // execute the method under test
+        CatalogImportResult result = catalogService.importDump(new ByteArrayInputStream(dump.getBytes(StandardCharsets.UTF_8)));
+
+        // verify interactions + assertions
+        assertThat(result).isEqualTo(new CatalogImportResult(1, 0));
+        assertThat(saved).singleElement()
+                .extracting(CatalogEntry::genres)
+                .isEqualTo(List.of("Romance", "Unknown"));
+    }
+
+    @Test
+    public void whenCrawlIsCalled_shouldImportPagesAndAdvanceCursor() {
+        // mock repository behaviour
+        given(crawlStateRepository.findById(CatalogCrawlState.CRAWL_ID))
+                .willReturn(Optional.of(new CatalogCrawlState(CatalogCrawlState.CRAWL_ID, 4, null)));
+        given(catalogRepository.saveAll(anyList())).willAnswer(invocation -> invocation.getArgument(0));
+
+        // mock external api behaviour
+        given(jikanClient.searchManga("", 4)).willReturn(new JikanSearchResponse(new Pagination(4, true), List.of(mangaResponse1)));
+        given(jikanClient.searchManga("", 5)).willReturn(new JikanSearchResponse(new Pagination(5, true), List.of(mangaResponse2)));
+
+        // execute the method under test
+        CatalogCrawlResult result = catalogService.crawl(2);
+
+        // verify interactions + assertions
+        ArgumentCaptor<CatalogCrawlState> state = ArgumentCaptor.forClass(CatalogCrawlState.class);
+        verify(crawlStateRepository, times(2)).save(state.capture());
+        assertThat(state.getValue().nextPage()).isEqualTo(6);
+        assertThat(result).isEqualTo(new CatalogCrawlResult(2, 2, 6));
+    }
+
+    @Test
+    public void whenCrawlIsCalled_givenJikanFailure_shouldKeepCursor() {
+        // mock repository behaviour
+        given(crawlStateRepository.findById(CatalogCrawlState.CRAWL_ID)).willReturn(Optional.empty());
+
+        // mock external api behaviour
+        given(jikanClient.searchManga("", 1))
+                .willThrow(HttpServerErrorException.create(HttpStatus.BAD_GATEWAY, "Bad Gateway", null, null, null));
+
+        // execute the method under test
+        CatalogCrawlResult result = catalogService.crawl(3);
+
+        // verify interactions + assertions
+        verify(crawlStateRepository, never()).save(any());
+        assertThat(result).isEqualTo(new CatalogCrawlResult(0, 0, 1));
+    }
+
+    @Test
+    public void whenCrawlIsCalled_givenPagesOutsideBounds_shouldThrowException() {
+        // assert InvalidCrawlRequestException thrown
+        assertThatThrownBy(() -> catalogService.crawl(0)).isInstanceOf(InvalidCrawlRequestException.class);
+        assertThatThrownBy(() -> catalogService.crawl(51))
+                .isInstanceOf(InvalidCrawlRequestException.class)
+                .hasMessageContaining("between 1 and 50");
+
+        // verify interactions
+        verify(crawlStateRepository, never()).findById(any());
+        verify(jikanClient, never()).searchManga(any(), anyInt());
+    }
+}
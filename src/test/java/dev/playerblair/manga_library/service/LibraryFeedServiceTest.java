@@ -0,0 +1,158 @@
+package dev.playerblair.manga_library.service;
+
+import dev.playerblair.manga_library.config.LibraryFeedProperties;
+import dev.playerblair.manga_library.controller.LibraryFeedController;
+import dev.playerblair.manga_library.event.LibraryImportedEvent;
+import dev.playerblair.manga_library.event.MangaChangedEvent;
+import dev.playerblair.manga_library.model.*;
+import dev.playerblair.manga_library.tenant.TenantContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+public class LibraryFeedServiceTest {
+
+    private static final LibraryFeedProperties PROPERTIES = new LibraryFeedProperties(3, 2, Duration.ofSeconds(15), Duration.ofMinutes(1));
+
+    private LibraryFeedService libraryFeedService;
+    private MockMvc mockMvc;
+
+    private Manga reading;
+
+    @BeforeEach
+    public void setUp() {
+        useExecutor(Runnable::run);
+        reading = manga(new UserProgress(ProgressType.READING, 4, 0, 6));
+    }
+
+    @Test
+    public void whenMangaChanges_shouldPushEventToSubscriber() throws Exception {
+        // setup test data
+        Manga progressed = manga(new UserProgress(ProgressType.READING, 5, 0, 6));
+        MockHttpServletResponse response = subscribe(null);
+
+        // execute the method under test
+        libraryFeedService.onMangaChanged(MangaChangedEvent.saved(null, reading));
+        libraryFeedService.onMangaChanged(MangaChangedEvent.saved(reading, progressed));
+        libraryFeedService.onMangaChanged(MangaChangedEvent.saved(progressed, progressed));
+        libraryFeedService.onMangaChanged(MangaChangedEvent.deleted(progressed));
+
+        // assertions
+        assertThat(events(response)).containsExactly("test-1:added", "test-2:progress", "test-3:refreshed", "test-4:deleted");
+    }
+
+    @Test
+    public void whenSubscribingWithLastEventId_shouldReplayMissedEvents() throws Exception {
+        // setup test data
+        libraryFeedService.onMangaChanged(MangaChangedEvent.saved(null, reading));
+        libraryFeedService.onMangaChanged(MangaChangedEvent.saved(reading, reading));
+        libraryFeedService.onLibraryImported(new LibraryImportedEvent(List.of(reading)));
+
+        // execute the method under test
+        MockHttpServletResponse response = subscribe("test-1");
+
+        // assertions
+        assertThat(events(response)).containsExactly("test-2:refreshed", "test-3:imported");
+    }
+
+    @Test
+    public void whenSubscribingWithLastEventIdOutsideReplayBuffer_shouldSendReset() throws Exception {
+        // setup test data
+        for (int i = 0; i < 5; i++) {
+            libraryFeedService.onMangaChanged(MangaChangedEvent.saved(reading, reading));
+        }
+
+        // execute the method under test
+        MockHttpServletResponse staleResponse = subscribe("test-1");
+        MockHttpServletResponse restartedResponse = subscribe("previous-7");
+
+        // assertions
+        assertThat(events(staleResponse)).containsExactly("test-5:reset");
+        assertThat(events(restartedResponse)).containsExactly("test-5:reset");
+    }
+
+    @Test
+    public void whenSubscriberFallsBehind_shouldDisconnectIt() throws Exception {
+        // setup test data
+        List<Runnable> pendingSends = new ArrayList<>();
+        useExecutor(pendingSends::add);
+        subscribe(null);
+
+        // execute the method under test
+        for (int i = 0; i < 3; i++) {
+            libraryFeedService.onMangaChanged(MangaChangedEvent.saved(reading, reading));
+        }
+
+        // assertions
+        assertThat(libraryFeedService.subscriberCount()).isZero();
+    }
+
+    @Test
+    public void whenMangaChangesForAnotherTenant_shouldNotPushEvent() throws Exception {
+        // setup test data
+        MockHttpServletResponse response = subscribe(null);
+
+        // execute the method under test
+        TenantContext.runAs("tenant-b", () -> libraryFeedService.onMangaChanged(MangaChangedEvent.saved(null, reading)));
+
+        // assertions
+        assertThat(events(response)).isEmpty();
+    }
+
+    private void useExecutor(Executor executor) {
+        libraryFeedService = new LibraryFeedService(PROPERTIES, executor, "test");
+        mockMvc = MockMvcBuilders.standaloneSetup(new LibraryFeedController(libraryFeedService)).build();
+    }
+
+    private MockHttpServletResponse subscribe(String lastEventId) throws Exception {
+        MockHttpServletRequestBuilder subscription = get("/api/library/feed");
+        if (lastEventId != null) {
+            subscription.header(LibraryFeedController.LAST_EVENT_ID_HEADER, lastEventId);
+        }
+        return mockMvc.perform(subscription)
+                .andExpect(request().asyncStarted())
+                .andReturn()
+                .getResponse();
+    }
+
+    private List<String> events(MockHttpServletResponse response) throws Exception {
+        List<String> events = new ArrayList<>();
+        String id = null;
+        for (String line : response.getContentAsString().split("\n")) {
+            if (line.startsWith("id:")) {
+                id = line.substring(3);
+            } else if (line.startsWith("event:")) {
+                events.add(id + ":" + line.substring(6));
+            }
+        }
+        return events;
+    }
+
+    private Manga manga(UserProgress progress) {
+        return new Manga(
+                1L,
+                "Test Manga 1",
+                Type.MANGA,
+                100,
+                10,
+                Status.PUBLISHING,
+                "",
+                List.of(new Author("Test Author 1", "www.example.com/people/1")),
+                List.of(Genre.ROMANCE),
+                "www.example.com/manga/1",
+                progress
+        );
+    }
+}
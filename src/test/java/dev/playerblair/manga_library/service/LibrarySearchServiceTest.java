@@ -0,0 +1,119 @@
+package dev.playerblair.manga_library.service;
+
+import dev.playerblair.manga_library.event.MangaChangedEvent;
+import dev.playerblair.manga_library.model.*;
+import dev.playerblair.manga_library.repository.MangaRepository;
+import dev.playerblair.manga_library.search.LibraryIndex;
+import dev.playerblair.manga_library.tenant.TenantContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class LibrarySearchServiceTest {
+
+    @Mock
+    private LibraryIndex libraryIndex;
+
+    @Mock
+    private MangaRepository mangaRepository;
+
+    @InjectMocks
+    private LibrarySearchService librarySearchService;
+
+    private Manga manga1;
+
+    @BeforeEach
+    public void setUp() {
+        manga1 = new Manga(
+                1L,
+                "Test Manga 1",
+                Type.MANGA,
+                100,
+                10,
+                Status.FINISHED,
+                "",
+                List.of(new Author("Test Author 1", "www.example.com/people/1")),
+                List.of(Genre.ROMANCE, Genre.SLICE_OF_LIFE),
+                "www.example.com/manga/1",
+                new UserProgress(ProgressType.FINISHED, 100, 10, 10)
+        );
+    }
+
+    @Test
+    public void whenMangaIsSaved_shouldIndexCurrentVersion() {
+        // execute the method under test
+        librarySearchService.onMangaChanged(MangaChangedEvent.saved(null, manga1));
+
+        // verify interactions
+        verify(libraryIndex).index(TenantContext.DEFAULT_TENANT, manga1);
+    }
+
+    @Test
+    public void whenMangaIsDeleted_shouldRemoveFromIndex() {
+        // execute the method under test
+        librarySearchService.onMangaChanged(MangaChangedEvent.deleted(manga1));
+
+        // verify interactions
+        verify(libraryIndex).delete(TenantContext.DEFAULT_TENANT, manga1.malId());
+    }
+
+    @Test
+    public void whenReconcileIndexIsCalled_givenIndexOutOfSync_shouldRebuild() {
+        // mock behaviour
+        given(mangaRepository.findTenants()).willReturn(List.of("tenant-a"));
+        given(mangaRepository.streamAll()).willAnswer(invocation -> Stream.of(manga1));
+        given(libraryIndex.fingerprint("tenant-a")).willReturn(new LibraryIndex.Fingerprint(0, 0));
+        given(mangaRepository.findAll()).willReturn(List.of(manga1));
+
+        // execute the method under test
+        librarySearchService.reconcileIndex();
+
+        // verify interactions
+        verify(libraryIndex).rebuild("tenant-a", List.of(manga1));
+    }
+
+    @Test
+    public void whenReconcileIndexIsCalled_givenSameSizeButStaleContent_shouldRebuild() {
+        // setup test data
+        Manga renamed = new Manga(manga1.malId(), "Renamed Manga", manga1.type(), manga1.chapters(), manga1.volumes(),
+                manga1.status(), manga1.synopsis(), manga1.authors(), manga1.genres(), manga1.url(), manga1.progress());
+
+        // mock behaviour
+        given(mangaRepository.findTenants()).willReturn(List.of("tenant-a"));
+        given(mangaRepository.streamAll()).willAnswer(invocation -> Stream.of(renamed));
+        given(libraryIndex.fingerprint("tenant-a")).willReturn(LibraryIndex.fingerprint(Stream.of(manga1)));
+        given(mangaRepository.findAll()).willReturn(List.of(renamed));
+
+        // execute the method under test
+        librarySearchService.reconcileIndex();
+
+        // verify interactions
+        verify(libraryIndex).rebuild("tenant-a", List.of(renamed));
+    }
+
+    @Test
+    public void whenReconcileIndexIsCalled_givenIndexInSync_shouldNotRebuild() {
+        // mock behaviour
+        given(mangaRepository.findTenants()).willReturn(List.of("tenant-a"));
+        given(mangaRepository.streamAll()).willAnswer(invocation -> Stream.of(manga1));
+        given(libraryIndex.fingerprint("tenant-a")).willReturn(LibraryIndex.fingerprint(Stream.of(manga1)));
+
+        // execute the method under test
+        librarySearchService.reconcileIndex();
+
+        // verify interactions
+        verify(libraryIndex, never()).rebuild(any(), any());
+    }
+}
@@ -0,0 +1,132 @@
+package dev.playerblair.manga_library.service;
+
+import dev.playerblair.manga_library.config.LibrarySyncProperties;
+import dev.playerblair.manga_library.model.*;
+import dev.playerblair.manga_library.repository.MangaRepository;
+import dev.playerblair.manga_library.response.LibraryChanges;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class LibrarySyncServiceTest {
+
+    @Mock
+    private MangaRepository mangaRepository;
+
+    private LibrarySyncService librarySyncService;
+
+    private Manga manga;
+
+    @BeforeEach
+    public void setUp() {
+        LibrarySyncProperties properties = new LibrarySyncProperties(2, 3, Duration.ofDays(30), Duration.ofHours(1));
+        Clock clock = Clock.fixed(Instant.parse("2025-03-31T00:00:00Z"), ZoneOffset.UTC);
+        librarySyncService = new LibrarySyncService(mangaRepository, properties, clock);
+        manga = new Manga(
+                1L,
+                "Test Manga 1",
+                Type.MANGA,
+                100,
+                10,
+                Status.PUBLISHING,
+                "",
+                List.of(new Author("Test Author 1", "www.example.com/people/1")),
+                List.of(Genre.ROMANCE),
+                "www.example.com/manga/1",
+                new UserProgress(ProgressType.READING, 4, 0, 6)
+        );
+    }
+
+    @Test
+    public void whenGetChangesSinceIsCalled_shouldSplitChangedAndDeletedManga() {
+        // mock repository behaviour
+        given(mangaRepository.findVersion()).willReturn(new LibraryVersion(LibraryVersion.ID, 12, 3));
+        given(mangaRepository.findChangesSince(5, 3)).willReturn(List.of(
+                new LibraryChange(7, 1L, manga),
+                new LibraryChange(9, 2L, null)
+        ));
+
+        // execute the method under test
+        LibraryChanges changes = librarySyncService.getChangesSince(5, null);
+
+        // assertions
+        assertThat(changes).isEqualTo(new LibraryChanges(9, false, false, List.of(manga), List.of(2L)));
+    }
+
+    @Test
+    public void whenGetChangesSinceIsCalled_givenMoreChangesThanLimit_shouldReportHasMore() {
+        // mock repository behaviour
+        given(mangaRepository.findVersion()).willReturn(new LibraryVersion(LibraryVersion.ID, 12, 0));
+        given(mangaRepository.findChangesSince(5, 2)).willReturn(List.of(
+                new LibraryChange(6, 2L, null),
+                new LibraryChange(7, 3L, null)
+        ));
+
+        // execute the method under test
+        LibraryChanges changes = librarySyncService.getChangesSince(5, 1);
+
+        // assertions
+        assertThat(changes).isEqualTo(new LibraryChanges(6, false, true, List.of(), List.of(2L)));
+    }
+
+    @Test
+    public void whenGetChangesSinceIsCalled_givenNoChanges_shouldKeepClientVersion() {
+        // mock repository behaviour
+        given(mangaRepository.findVersion()).willReturn(new LibraryVersion(LibraryVersion.ID, 12, 0));
+        given(mangaRepository.findChangesSince(12, 4)).willReturn(List.of());
+
+        // execute the method under test
+        LibraryChanges changes = librarySyncService.getChangesSince(12, 50);
+
+        // assertions
+        assertThat(changes).isEqualTo(new LibraryChanges(12, false, false, List.of(), List.of()));
+    }
+
+    @Test
+    public void whenGetChangesSinceIsCalled_givenVersionOlderThanPurgedTombstones_shouldRequestFullResync() {
+        // mock repository behaviour
+        given(mangaRepository.findVersion()).willReturn(new LibraryVersion(LibraryVersion.ID, 12, 8));
+
+        // execute the method under test
+        LibraryChanges changes = librarySyncService.getChangesSince(5, null);
+
+        // verify interactions + assertions
+        verify(mangaRepository, never()).findChangesSince(anyLong(), anyInt());
+        assertThat(changes).isEqualTo(LibraryChanges.fullResync(12));
+    }
+
+    @Test
+    public void whenGetChangesSinceIsCalled_givenUnknownVersion_shouldRequestFullResync() {
+        // mock repository behaviour
+        given(mangaRepository.findVersion()).willReturn(new LibraryVersion(LibraryVersion.ID, 12, 0));
+
+        // execute the method under test + assertions
+        assertThat(librarySyncService.getChangesSince(0, null)).isEqualTo(LibraryChanges.fullResync(12));
+        assertThat(librarySyncService.getChangesSince(13, null)).isEqualTo(LibraryChanges.fullResync(12));
+    }
+
+    @Test
+    public void whenPurgeTombstonesIsCalled_shouldPurgeTombstonesOlderThanRetention() {
+        // execute the method under test
+        librarySyncService.purgeTombstones();
+
+        // verify interactions
+        verify(mangaRepository).purgeTombstones(Instant.parse("2025-03-01T00:00:00Z"));
+    }
+}
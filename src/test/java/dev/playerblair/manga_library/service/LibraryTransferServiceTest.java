@@ -0,0 +1,166 @@
+package dev.playerblair.manga_library.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.playerblair.manga_library.event.LibraryImportedEvent;
+import dev.playerblair.manga_library.exception.TenantQuotaExceededException;
+import dev.playerblair.manga_library.model.*;
+import dev.playerblair.manga_library.repository.MangaRepository;
+import dev.playerblair.manga_library.response.LibraryImportResult;
+import dev.playerblair.manga_library.tenant.TenantContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class LibraryTransferServiceTest {
+
+    @Mock
+    private MangaRepository mangaRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TenantQuotaService tenantQuotaService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private LibraryTransferService libraryTransferService;
+
+    private Manga manga1;
+    private Manga manga2;
+    private Manga manga3;
+
+    @BeforeEach
+    public void setUp() {
+        libraryTransferService = new LibraryTransferService(mangaRepository, eventPublisher, tenantQuotaService, objectMapper, 2);
+
+        manga1 = manga(1L, new UserProgress(ProgressType.FINISHED, 100, 10, 10));
+        manga2 = manga(2L, new UserProgress(ProgressType.READING, 4, 0, 6));
+        manga3 = manga(3L, new UserProgress(ProgressType.PLANNING, 0, 0, 0));
+    }
+
+    @Test
+    public void whenExportLibraryIsCalled_shouldWriteOneMangaPerLine() throws Exception {
+        // mock repository behaviour
+        given(mangaRepository.streamAll()).willReturn(Stream.of(manga1, manga2));
+
+        // execute the method under test
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        libraryTransferService.exportLibrary(outputStream);
+
+        // assertions
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readValue(lines[0], Manga.class)).isEqualTo(manga1);
+        assertThat(objectMapper.readValue(lines[1], Manga.class)).isEqualTo(manga2);
+    }
+
+    @Test
+    public void whenImportLibraryIsCalled_shouldInsertInBatchesAndCountRejectedLines() throws Exception {
+        // setup test data
+        String upload = String.join("\n",
+                objectMapper.writeValueAsString(manga1),
+                "{not json",
+                objectMapper.writeValueAsString(manga2),
+                "",
+                objectMapper.writeValueAsString(manga3)
+        );
+
+        // mock repository behaviour: manga2 already exists
+        given(tenantQuotaService.remainingCapacity()).willReturn(100L);
+        given(mangaRepository.insertUnordered(anyList())).willAnswer(invocation -> {
+            List<Manga> batch = invocation.getArgument(0);
+            return batch.stream().filter(manga -> !manga.equals(manga2)).toList();
+        });
+
+        // execute the method under test
+        LibraryImportResult result = libraryTransferService.importLibrary(
+                new ByteArrayInputStream(upload.getBytes(StandardCharsets.UTF_8)));
+
+        // verify interactions + assertions
+        verify(mangaRepository, times(2)).insertUnordered(anyList());
+        verify(tenantQuotaService).releaseCapacity(1);
+        verify(eventPublisher).publishEvent(new LibraryImportedEvent(List.of(manga1)));
+        verify(eventPublisher).publishEvent(new LibraryImportedEvent(List.of(manga3)));
+        assertThat(result).isEqualTo(new LibraryImportResult(2, 1, 1, 0));
+    }
+
+    @Test
+    public void whenImportLibraryIsCalled_givenQuotaReached_shouldCountRemainingLinesAsOverQuota() throws Exception {
+        // setup test data
+        String upload = String.join("\n",
+                objectMapper.writeValueAsString(manga1),
+                objectMapper.writeValueAsString(manga2),
+                objectMapper.writeValueAsString(manga3)
+        );
+
+        // mock behaviour
+        given(tenantQuotaService.remainingCapacity()).willReturn(1L);
+        given(mangaRepository.insertUnordered(anyList())).willAnswer(invocation -> List.copyOf(invocation.<List<Manga>>getArgument(0)));
+
+        // execute the method under test
+        LibraryImportResult result = libraryTransferService.importLibrary(
+                new ByteArrayInputStream(upload.getBytes(StandardCharsets.UTF_8)));
+
+        // verify interactions + assertions
+        verify(mangaRepository).insertUnordered(anyList());
+        verify(eventPublisher).publishEvent(new LibraryImportedEvent(List.of(manga1)));
+        assertThat(result).isEqualTo(new LibraryImportResult(1, 0, 0, 2));
+    }
+
+    @Test
+    public void whenImportLibraryIsCalled_givenCapacityTakenConcurrently_shouldCountBatchAsOverQuota() throws Exception {
+        // setup test data
+        String upload = String.join("\n",
+                objectMapper.writeValueAsString(manga1),
+                objectMapper.writeValueAsString(manga2)
+        );
+
+        // mock behaviour
+        given(tenantQuotaService.remainingCapacity()).willReturn(5L);
+        willThrow(new TenantQuotaExceededException(TenantContext.DEFAULT_TENANT, 5))
+                .given(tenantQuotaService).reserveCapacity(2);
+
+        // execute the method under test
+        LibraryImportResult result = libraryTransferService.importLibrary(
+                new ByteArrayInputStream(upload.getBytes(StandardCharsets.UTF_8)));
+
+        // verify interactions + assertions
+        verify(mangaRepository, never()).insertUnordered(anyList());
+        assertThat(result).isEqualTo(new LibraryImportResult(0, 0, 0, 2));
+    }
+
+    private Manga manga(Long malId, UserProgress progress) {
+        return new Manga(
+                malId,
+                "Test Manga " + malId,
+                Type.MANGA,
+                100,
+                10,
+                Status.FINISHED,
+                "",
+                List.of(new Author("Test Author " + malId, "www.example.com/people/" + malId)),
+                List.of(Genre.ROMANCE, Genre.SLICE_OF_LIFE),
+                "www.example.com/manga/" + malId,
+                progress
+        );
+    }
+}
@@ -1,28 +1,50 @@
 package dev.playerblair.manga_library.service;
 
 import dev.playerblair.manga_library.client.JikanClient;
+import dev.playerblair.manga_library.config.ContinuationTokenProperties;
+import dev.playerblair.manga_library.config.EnumLabelProperties;
+import dev.playerblair.manga_library.config.TenantProperties;
+import dev.playerblair.manga_library.event.MangaChangedEvent;
 import dev.playerblair.manga_library.exception.*;
 import dev.playerblair.manga_library.model.*;
 import dev.playerblair.manga_library.repository.MangaRepository;
 import dev.playerblair.manga_library.request.FilterParams;
+import dev.playerblair.manga_library.request.SearchContinuation;
 import dev.playerblair.manga_library.response.JikanResponse;
 import dev.playerblair.manga_library.response.JikanSearchResponse;
 import dev.playerblair.manga_library.response.MangaResponse;
 import dev.playerblair.manga_library.response.Pagination;
+import dev.playerblair.manga_library.response.SearchPage;
+import dev.playerblair.manga_library.tenant.TenantContext;
+import dev.playerblair.manga_library.util.ContinuationTokenCodec;
+import dev.playerblair.manga_library.util.EnumStorageFormat;
 import dev.playerblair.manga_library.util.MangaMapper;
+import dev.playerblair.manga_library.util.UnknownLabelPolicy;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpServerErrorException;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,6 +56,29 @@ public class MangaServiceTest {
     @Mock
     private JikanClient jikanClient;
 
+    @Mock
+    private CatalogService catalogService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TenantQuotaService tenantQuotaService;
+
+    @Spy
+    private ContinuationTokenCodec continuationTokenCodec = new ContinuationTokenCodec(
+            new ContinuationTokenProperties("test-secret-of-at-least-32-bytes", Duration.ofHours(1)));
+
+    @Spy
+    private TenantProperties tenantProperties = new TenantProperties(
+            "X-Tenant-Id", Set.of("default"), Duration.ofMinutes(30), 10, new TenantProperties.RateLimit(2, Duration.ofMinutes(1)));
+
+    @Spy
+    private EnumLabelProperties enumLabelProperties = new EnumLabelProperties(UnknownLabelPolicy.UNKNOWN, EnumStorageFormat.NAMES);
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private MangaService mangaService;
 
@@ -158,11 +203,12 @@ public class MangaServiceTest {
         given(jikanClient.searchManga(query)).willReturn(expectedResponse);
 
         // execute method under test
-        JikanSearchResponse searchResponse = mangaService.searchManga(query);
+        SearchPage searchPage = mangaService.searchManga(query);
 
         // verify interactions + assertions
         verify(jikanClient).searchManga(query);
-        assertThat(searchResponse.data()).hasSize(2);
+        assertThat(searchPage.response().data()).hasSize(2);
+        assertThat(searchPage.source()).isEqualTo(SearchContinuation.Source.JIKAN);
     }
 
     @Test
@@ -228,7 +274,7 @@ public class MangaServiceTest {
                 List.of(mangaResponse1, mangaResponse2)
         );
         String query = "Test Manga";
-        Manga createdManga = MangaMapper.toManga(mangaResponse1);
+        Manga createdManga = MangaMapper.toManga(mangaResponse1, UnknownLabelPolicy.UNKNOWN);
 
         // mock external api behaviour
         given(jikanClient.searchManga(query)).willReturn(response);
@@ -238,14 +284,18 @@ public class MangaServiceTest {
 
         // mock repository behaviour
         given(mangaRepository.findById(mangaResponse1.malId())).willReturn(Optional.empty());
-        given(mangaRepository.save(createdManga)).willReturn(createdManga);
+        given(mangaRepository.insertUnordered(List.of(createdManga))).willReturn(List.of(createdManga));
 
         // execute the method under test
         Manga manga = mangaService.addManga(mangaResponse1.malId());
 
         // verify interactions + assertions
-        verify(mangaRepository).save(createdManga);
+        verify(eventPublisher).publishEvent(MangaChangedEvent.saved(null, createdManga));
+        verify(tenantQuotaService).reserveCapacity(1);
+        verify(mangaRepository).saveMetadata(createdManga);
+        verify(mangaRepository).insertUnordered(List.of(createdManga));
         assertThat(manga.malId()).isEqualTo(mangaResponse1.malId());
+        assertThat(searchSessionCount("server", "hit")).isEqualTo(1.0);
     }
 
     @Test
@@ -268,7 +318,7 @@ public class MangaServiceTest {
                 List.of(mangaResponse1, mangaResponse2)
         );
         String query = "Test Manga";
-        Manga updatedManga = MangaMapper.updateManga(mangaResponse2, manga2);
+        Manga updatedManga = MangaMapper.updateManga(mangaResponse2, manga2, UnknownLabelPolicy.UNKNOWN);
 
         // mock external api behaviour
         given(jikanClient.searchManga(query)).willReturn(response);
@@ -309,6 +359,240 @@ public class MangaServiceTest {
         // assert MangaNotFoundInSearchException thrown
         assertThatThrownBy(() -> mangaService.addManga(3L))
                 .isInstanceOf(MangaNotFoundInSearchResultsException.class);
+        assertThat(searchSessionCount("server", "miss")).isEqualTo(1.0);
+    }
+
+    @Test
+    public void whenAddMangaIsCalled_givenMangaAddedConcurrently_shouldReleaseReservation() {
+        // setup test data
+        JikanSearchResponse response = new JikanSearchResponse(
+                new Pagination(1, false),
+                List.of(mangaResponse1, mangaResponse2)
+        );
+        String query = "Test Manga";
+        Manga createdManga = MangaMapper.toManga(mangaResponse1, UnknownLabelPolicy.UNKNOWN);
+
+        // mock behaviour
+        given(jikanClient.searchManga(query)).willReturn(response);
+        given(mangaRepository.findById(mangaResponse1.malId())).willReturn(Optional.empty());
+        given(mangaRepository.insertUnordered(List.of(createdManga))).willReturn(List.of());
+        given(mangaRepository.save(createdManga)).willReturn(createdManga);
+
+        // perform initial search
+        mangaService.searchManga(query);
+
+        // execute the method under test
+        Manga manga = mangaService.addManga(mangaResponse1.malId());
+
+        // verify interactions + assertions
+        verify(tenantQuotaService).reserveCapacity(1);
+        verify(tenantQuotaService).releaseCapacity(1);
+        verify(mangaRepository).save(createdManga);
+        assertThat(manga).isEqualTo(createdManga);
+    }
+
+    @Test
+    public void whenAddMangaIsCalled_givenLibraryQuotaReached_shouldThrowException() {
+        // setup test data
+        JikanSearchResponse response = new JikanSearchResponse(
+                new Pagination(1, false),
+                List.of(mangaResponse1, mangaResponse2)
+        );
+        String query = "Test Manga";
+
+        // mock behaviour
+        given(jikanClient.searchManga(query)).willReturn(response);
+        given(mangaRepository.findById(mangaResponse1.malId())).willReturn(Optional.empty());
+        willThrow(new TenantQuotaExceededException(TenantContext.DEFAULT_TENANT, 1))
+                .given(tenantQuotaService).reserveCapacity(1);
+
+        // perform initial search
+        mangaService.searchManga(query);
+
+        // assert TenantQuotaExceededException thrown
+        assertThatThrownBy(() -> mangaService.addManga(mangaResponse1.malId()))
+                .isInstanceOf(TenantQuotaExceededException.class);
+        verify(mangaRepository, never()).save(any());
+        verify(mangaRepository, never()).insertUnordered(any());
+    }
+
+    @Test
+    public void whenAddMangaIsCalled_givenSearchOfAnotherTenant_shouldThrowException() {
+        // setup test data
+        JikanSearchResponse response = new JikanSearchResponse(
+                new Pagination(1, false),
+                List.of(mangaResponse1, mangaResponse2)
+        );
+        String query = "Test Manga";
+
+        // mock external api behaviour
+        given(jikanClient.searchManga(query)).willReturn(response);
+
+        // perform initial search as another tenant
+        TenantContext.runAs("tenant-b", () -> mangaService.searchManga(query));
+
+        // assert MangaNotFoundInSearchException thrown
+        assertThatThrownBy(() -> mangaService.addManga(mangaResponse1.malId()))
+                .isInstanceOf(MangaNotFoundInSearchResultsException.class);
+    }
+
+    @Test
+    public void whenCreateContinuationTokenIsCalled_shouldEncodeQueryPageAndResults() {
+        // setup test data
+        JikanSearchResponse response = new JikanSearchResponse(
+                new Pagination(1, true),
+                List.of(mangaResponse1, mangaResponse2)
+        );
+
+        // execute the method under test
+        String token = mangaService.createContinuationToken("Test: Manga",
+                new SearchPage(response, SearchContinuation.Source.CATALOG));
+        SearchContinuation continuation = mangaService.decodeContinuationToken(token);
+
+        // assertions
+        assertThat(continuation.query()).isEqualTo("Test: Manga");
+        assertThat(continuation.page()).isEqualTo(1);
+        assertThat(continuation.hasNext()).isTrue();
+        assertThat(continuation.malIds()).containsExactly(1L, 2L);
+        assertThat(continuation.source()).isEqualTo(SearchContinuation.Source.CATALOG);
+    }
+
+    @Test
+    public void whenDecodeContinuationTokenIsCalled_givenTamperedToken_shouldThrowException() {
+        // setup test data
+        String token = mangaService.createContinuationToken("Test Manga", new SearchPage(
+                new JikanSearchResponse(new Pagination(1, true), List.of(mangaResponse1)),
+                SearchContinuation.Source.JIKAN
+        ));
+        String tamperedToken = "A" + token.substring(1);
+
+        // assert InvalidContinuationTokenException thrown
+        assertThatThrownBy(() -> mangaService.decodeContinuationToken(tamperedToken))
+                .isInstanceOf(InvalidContinuationTokenException.class);
+        assertThatThrownBy(() -> mangaService.decodeContinuationToken("not-a-token"))
+                .isInstanceOf(InvalidContinuationTokenException.class);
+    }
+
+    @Test
+    public void whenSearchMangaNextIsCalled_givenContinuationWithNextPage_shouldReturnSearchResponse() {
+        // setup test data
+        JikanSearchResponse secondResponse = new JikanSearchResponse(
+                new Pagination(2, false),
+                List.of(mangaResponse1, mangaResponse2)
+        );
+        SearchContinuation continuation = new SearchContinuation("Test Manga", 1, true, List.of(1L, 2L), SearchContinuation.Source.JIKAN);
+
+        // mock external api behaviour
+        given(jikanClient.searchManga("Test Manga", 2)).willReturn(secondResponse);
+
+        // execute the method under test
+        SearchPage searchResults = mangaService.searchMangaNext(continuation);
+
+        // verify interactions + assertions
+        verify(jikanClient).searchManga("Test Manga", 2);
+        verify(catalogService, never()).searchManga(any(), anyInt());
+        assertThat(searchResults.response().pagination().currentPage()).isEqualTo(2);
+    }
+
+    @Test
+    public void whenSearchMangaNextIsCalled_givenCatalogContinuation_shouldNotSwitchToJikan() {
+        // setup test data
+        SearchContinuation continuation = new SearchContinuation("Test Manga", 1, true, List.of(1L),
+                SearchContinuation.Source.CATALOG);
+
+        // mock catalog behaviour
+        given(catalogService.searchManga("Test Manga", 2)).willReturn(Optional.empty());
+
+        // execute the method under test
+        SearchPage searchResults = mangaService.searchMangaNext(continuation);
+
+        // verify interactions + assertions
+        verify(jikanClient, never()).searchManga(any(), anyInt());
+        assertThat(searchResults.response().data()).isEmpty();
+        assertThat(searchResults.response().pagination().hasNext()).isFalse();
+        assertThat(searchResults.source()).isEqualTo(SearchContinuation.Source.CATALOG);
+    }
+
+    @Test
+    public void whenSearchMangaIsCalled_givenCatalogMatches_shouldNotCallJikan() {
+        // setup test data
+        JikanSearchResponse localResponse = new JikanSearchResponse(
+                new Pagination(1, false),
+                List.of(mangaResponse1)
+        );
+
+        // mock catalog behaviour
+        given(catalogService.searchManga("Test Manga", 1)).willReturn(Optional.of(localResponse));
+
+        // execute the method under test
+        SearchPage searchPage = mangaService.searchManga("Test Manga");
+
+        // verify interactions + assertions
+        verify(jikanClient, never()).searchManga(any());
+        assertThat(searchPage).isEqualTo(new SearchPage(localResponse, SearchContinuation.Source.CATALOG));
+    }
+
+    @Test
+    public void whenAddMangaIsCalled_givenContinuationIdInCatalog_shouldAddWithoutCallingJikan() {
+        // setup test data
+        SearchContinuation continuation = new SearchContinuation("Test Manga", 1, false, List.of(1L, 2L), SearchContinuation.Source.JIKAN);
+        Manga createdManga = MangaMapper.toManga(mangaResponse1, UnknownLabelPolicy.UNKNOWN);
+
+        // mock catalog behaviour
+        given(catalogService.getManga(mangaResponse1.malId())).willReturn(Optional.of(mangaResponse1));
+
+        // mock repository behaviour
+        given(mangaRepository.findById(mangaResponse1.malId())).willReturn(Optional.empty());
+        given(mangaRepository.insertUnordered(List.of(createdManga))).willReturn(List.of(createdManga));
+
+        // execute the method under test
+        Manga manga = mangaService.addManga(mangaResponse1.malId(), continuation);
+
+        // verify interactions + assertions
+        verify(jikanClient, never()).getManga(any());
+        assertThat(manga).isEqualTo(createdManga);
+    }
+
+    @Test
+    public void whenSearchMangaNextIsCalled_givenContinuationWithNoNextPage_shouldThrowException() {
+        // setup test data
+        SearchContinuation continuation = new SearchContinuation("Test Manga", 1, false, List.of(1L, 2L), SearchContinuation.Source.JIKAN);
+
+        // assert PaginationLimitReachedException thrown
+        assertThatThrownBy(() -> mangaService.searchMangaNext(continuation))
+                .isInstanceOf(PaginationLimitReachedException.class);
+    }
+
+    @Test
+    public void whenAddMangaIsCalled_givenContinuationContainingId_shouldAddAndReturnManga() {
+        // setup test data
+        SearchContinuation continuation = new SearchContinuation("Test Manga", 1, false, List.of(1L, 2L), SearchContinuation.Source.JIKAN);
+        Manga createdManga = MangaMapper.toManga(mangaResponse1, UnknownLabelPolicy.UNKNOWN);
+
+        // mock external api behaviour
+        given(jikanClient.getManga(mangaResponse1.malId())).willReturn(new JikanResponse(mangaResponse1));
+
+        // mock repository behaviour
+        given(mangaRepository.findById(mangaResponse1.malId())).willReturn(Optional.empty());
+        given(mangaRepository.insertUnordered(List.of(createdManga))).willReturn(List.of(createdManga));
+
+        // execute the method under test
+        Manga manga = mangaService.addManga(mangaResponse1.malId(), continuation);
+
+        // verify interactions + assertions
+        verify(tenantQuotaService).reserveCapacity(1);
+        verify(mangaRepository).insertUnordered(List.of(createdManga));
+        assertThat(manga.malId()).isEqualTo(mangaResponse1.malId());
+    }
+
+    @Test
+    public void whenAddMangaIsCalled_givenContinuationNotContainingId_shouldThrowException() {
+        // setup test data
+        SearchContinuation continuation = new SearchContinuation("Test Manga", 1, false, List.of(1L, 2L), SearchContinuation.Source.JIKAN);
+
+        // assert MangaNotFoundInSearchResultsException thrown
+        assertThatThrownBy(() -> mangaService.addManga(3L, continuation))
+                .isInstanceOf(MangaNotFoundInSearchResultsException.class);
     }
 
     @Test
@@ -329,7 +613,7 @@ public class MangaServiceTest {
                 ),
                 "www.example.com/manga/2"
         );
-        Manga updatedManga2 = MangaMapper.updateManga(mangaResponse2, manga2);
+        Manga updatedManga2 = MangaMapper.updateManga(mangaResponse2, manga2, UnknownLabelPolicy.UNKNOWN);
 
         // mock external api behaviour
         given(jikanClient.getManga(manga1.malId())).willReturn(new JikanResponse(mangaResponse1));
@@ -341,9 +625,41 @@ public class MangaServiceTest {
         // execute the method under test
         mangaService.refreshAllManga();
 
-        // verify expected interactions with repository;
-        verify(mangaRepository).save(manga1);
-        verify(mangaRepository).save(updatedManga2);
+        // verify expected interactions with repository, manga1 is unchanged and not written again
+        verify(mangaRepository, never()).saveMetadata(manga1);
+        verify(mangaRepository).saveMetadata(updatedManga2);
+    }
+
+    @Test
+    public void whenRefreshAllMangaIsCalled_givenJikanErrorForOneManga_shouldRefreshTheRest() {
+        // setup test data
+        mangaResponse2 = new MangaResponse(
+                2L,
+                "Test Manga 2",
+                Type.MANGA,
+                40,
+                2,
+                Status.PUBLISHING,
+                "",
+                List.of(new Author("Test Author 2", "www.example.com/people/2")),
+                List.of(new MangaResponse.GenreWrapper("Romance")),
+                "www.example.com/manga/2"
+        );
+
+        // mock external api behaviour
+        given(jikanClient.getManga(manga1.malId()))
+                .willThrow(HttpServerErrorException.create(HttpStatus.BAD_GATEWAY, "Bad Gateway", null, null, null));
+        given(jikanClient.getManga(manga2.malId())).willReturn(new JikanResponse(mangaResponse2));
+
+        // mock repository behaviour
+        given(mangaRepository.findAll()).willReturn(List.of(manga1, manga2));
+
+        // execute the method under test
+        mangaService.refreshAllManga();
+
+        // verify expected interactions with repository
+        verify(mangaRepository, never()).saveMetadata(manga1);
+        verify(mangaRepository).saveMetadata(MangaMapper.updateManga(mangaResponse2, manga2, UnknownLabelPolicy.UNKNOWN));
     }
 
     @Test
@@ -364,25 +680,43 @@ public class MangaServiceTest {
                 ),
                 "www.example.com/manga/2"
         );
-        Manga updatedManga = MangaMapper.updateManga(mangaResponse2, manga2);
+        Manga updatedManga = MangaMapper.updateManga(mangaResponse2, manga2, UnknownLabelPolicy.UNKNOWN);
 
         // mock external api behaviour
         given(jikanClient.getManga(manga2.malId())).willReturn(new JikanResponse(mangaResponse2));
 
         // mock repository behaviour
         given(mangaRepository.findById(manga2.malId())).willReturn(Optional.of(manga2));
-        given(mangaRepository.save(updatedManga)).willReturn(updatedManga);
+        given(mangaRepository.saveMetadata(updatedManga)).willReturn(updatedManga);
 
         // execute the method under test
         Manga manga = mangaService.refreshManga(manga2.malId());
 
         // verify interactions + assertions
-        verify(mangaRepository).save(updatedManga);
+        verify(mangaRepository).saveMetadata(updatedManga);
+        verify(mangaRepository, never()).save(any());
         assertThat(manga.malId()).isEqualTo(manga2.malId());
         assertThat(manga.chapters()).isEqualTo(mangaResponse2.chapters());
         assertThat(manga.volumes()).isEqualTo(mangaResponse2.volumes());
     }
 
+    @Test
+    public void whenRefreshMangaIsCalled_givenJikanUnavailable_shouldReturnStoredManga() {
+        // mock external api behaviour
+        given(jikanClient.getManga(manga2.malId()))
+                .willThrow(new JikanUnavailableException(new IllegalStateException("circuit open")));
+
+        // mock repository behaviour
+        given(mangaRepository.findById(manga2.malId())).willReturn(Optional.of(manga2));
+
+        // execute the method under test
+        Manga manga = mangaService.refreshManga(manga2.malId());
+
+        // verify interactions + assertions
+        verify(mangaRepository, never()).saveMetadata(any());
+        assertThat(manga).isEqualTo(manga2);
+    }
+
    @Test
    public void whenRefreshMangaIsCalled_givenInvalidId_shouldThrowException() {
        // mock repository behaviour
@@ -431,12 +765,13 @@ public class MangaServiceTest {
 
        // mock repository behaviour
        given(mangaRepository.findById(manga2.malId())).willReturn(Optional.of(manga2));
-       given(mangaRepository.save(updatedManga)).willReturn(updatedManga);
+       given(mangaRepository.saveProgress(updatedManga)).willReturn(updatedManga);
 
        // execute the method under test
        Manga manga = mangaService.updateProgress(manga2.malId(), progressUpdate);
 
        // assertions
+       verify(mangaRepository, never()).saveMetadata(any());
        assertThat(manga.malId()).isEqualTo(manga2.malId());
        assertThat(manga.progress().progress()).isEqualTo(progressUpdate.progress());
        assertThat(manga.progress().chaptersRead()).isEqualTo(progressUpdate.chaptersRead());
@@ -479,6 +814,39 @@ public class MangaServiceTest {
         assertThatThrownBy(() -> mangaService.updateProgress(2L, progressUpdate))
                 .isInstanceOf(InvalidProgressUpdateException.class)
                 .hasMessage("Cannot set progress to 'Finished' as the status of 'Test Manga 2' is 'Publishing'");
+        assertThat(meterRegistry.counter("manga.progress.rejections", "reason", "finished_while_ongoing").count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    public void whenUpdateProgressIsCalled_givenFinishedAndUnknownStatus_shouldUpdateManga() {
+        // setup test data
+        Manga unknownStatus = new Manga(manga2.malId(), manga2.title(), manga2.type(), manga2.chapters(),
+                manga2.volumes(), Status.UNKNOWN, manga2.synopsis(), manga2.authors(), manga2.genres(), manga2.url(),
+                manga2.progress());
+        UserProgress progressUpdate = new UserProgress(
+                ProgressType.FINISHED,
+                0,
+                0,
+                7
+        );
+        Manga updatedManga = MangaMapper.updateProgress(new UserProgress(
+                ProgressType.FINISHED,
+                unknownStatus.chapters(),
+                unknownStatus.volumes(),
+                7
+        ), unknownStatus);
+
+        // mock repository behaviour
+        given(mangaRepository.findById(2L)).willReturn(Optional.of(unknownStatus));
+        given(mangaRepository.saveProgress(updatedManga)).willReturn(updatedManga);
+
+        // execute the method under test
+        Manga manga = mangaService.updateProgress(2L, progressUpdate);
+
+        // assertions
+        assertThat(manga.progress().progress()).isEqualTo(ProgressType.FINISHED);
+        assertThat(manga.progress().chaptersRead()).isEqualTo(unknownStatus.chapters());
     }
 
     @Test
@@ -498,6 +866,8 @@ public class MangaServiceTest {
         assertThatThrownBy(() -> mangaService.updateProgress(2L, progressUpdate))
                 .isInstanceOf(InvalidProgressUpdateException.class)
                 .hasMessage("Cannot set chaptersRead to a negative number.");
+        assertThat(meterRegistry.counter("manga.progress.rejections", "reason", "negative_chapters").count())
+                .isEqualTo(1.0);
     }
 
     @Test
@@ -567,6 +937,7 @@ public class MangaServiceTest {
 
         // verify interactions + assertions
         verify(mangaRepository).delete(manga1);
+        verify(eventPublisher).publishEvent(MangaChangedEvent.deleted(manga1));
         assertThat(manga.malId()).isEqualTo(manga1.malId());
     }
 
@@ -622,4 +993,8 @@ public class MangaServiceTest {
         // execute the method under test + assertions
         assertThat(mangaService.filterManga(filter)).hasSize(2);
     }
+
+    private double searchSessionCount(String session, String result) {
+        return meterRegistry.counter("manga.search.session", "session", session, "result", result).count();
+    }
 }
@@ -0,0 +1,113 @@
+package dev.playerblair.manga_library.service;
+
+import dev.playerblair.manga_library.event.MangaChangedEvent;
+import dev.playerblair.manga_library.exception.InvalidHistoryRangeException;
+import dev.playerblair.manga_library.model.*;
+import dev.playerblair.manga_library.repository.ProgressHistoryRepository;
+import dev.playerblair.manga_library.request.HistoryInterval;
+import dev.playerblair.manga_library.tenant.TenantContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class ReadingHistoryServiceTest {
+
+    private static final Instant NOW = Instant.parse("2025-06-15T10:00:00Z");
+
+    @Mock
+    private ProgressHistoryRepository progressHistoryRepository;
+
+    private ReadingHistoryService readingHistoryService;
+
+    private Manga reading;
+
+    @BeforeEach
+    public void setUp() {
+        readingHistoryService = new ReadingHistoryService(progressHistoryRepository, Clock.fixed(NOW, ZoneOffset.UTC));
+        reading = manga(new UserProgress(ProgressType.READING, 10, 1, 6));
+    }
+
+    @Test
+    public void whenProgressIsUpdated_shouldRecordDeltas() {
+        // setup test data
+        Manga finished = manga(new UserProgress(ProgressType.FINISHED, 100, 10, 9));
+
+        // execute the method under test
+        readingHistoryService.onMangaChanged(MangaChangedEvent.saved(reading, finished));
+
+        // verify interactions
+        verify(progressHistoryRepository).insert(new ProgressEvent(
+                NOW,
+                new ProgressEvent.Subject(TenantContext.DEFAULT_TENANT, 1L),
+                ProgressType.READING,
+                ProgressType.FINISHED,
+                90,
+                9,
+                3
+        ));
+    }
+
+    @Test
+    public void whenMangaIsChangedWithoutProgressChange_shouldNotRecord() {
+        // execute the method under test
+        readingHistoryService.onMangaChanged(MangaChangedEvent.saved(reading, reading));
+        readingHistoryService.onMangaChanged(MangaChangedEvent.saved(null, reading));
+        readingHistoryService.onMangaChanged(MangaChangedEvent.deleted(reading));
+
+        // verify interactions
+        verify(progressHistoryRepository, never()).insert(any());
+    }
+
+    @Test
+    public void whenGetActivityIsCalled_givenNoRange_shouldDefaultToLastYear() {
+        // execute the method under test
+        readingHistoryService.getActivity(null, null, null, HistoryInterval.MONTH);
+
+        // verify interactions
+        verify(progressHistoryRepository).findActivity(
+                null,
+                Instant.parse("2024-06-16T00:00:00Z"),
+                Instant.parse("2025-06-16T00:00:00Z"),
+                HistoryInterval.MONTH
+        );
+    }
+
+    @Test
+    public void whenGetActivityIsCalled_givenFromAfterTo_shouldThrowException() {
+        // assert InvalidHistoryRangeException thrown
+        assertThatThrownBy(() -> readingHistoryService.getActivity(
+                1L, LocalDate.of(2025, 2, 1), LocalDate.of(2025, 1, 1), HistoryInterval.DAY))
+                .isInstanceOf(InvalidHistoryRangeException.class);
+        verify(progressHistoryRepository, never()).findActivity(any(), any(), any(), any());
+    }
+
+    private Manga manga(UserProgress progress) {
+        return new Manga(
+                1L,
+                "Test Manga 1",
+                Type.MANGA,
+                100,
+                10,
+                Status.FINISHED,
+                "",
+                List.of(new Author("Test Author 1", "www.example.com/people/1")),
+                List.of(Genre.ROMANCE),
+                "www.example.com/manga/1",
+                progress
+        );
+    }
+}
@@ -0,0 +1,58 @@
+package dev.playerblair.manga_library.service;
+
+import dev.playerblair.manga_library.config.TenantProperties;
+import dev.playerblair.manga_library.exception.TenantQuotaExceededException;
+import dev.playerblair.manga_library.repository.MangaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+public class TenantQuotaServiceTest {
+
+    @Mock
+    private MangaRepository mangaRepository;
+
+    private TenantQuotaService tenantQuotaService;
+
+    @BeforeEach
+    public void setUp() {
+        TenantProperties properties = new TenantProperties(
+                "X-Tenant-Id",
+                Set.of("default"),
+                Duration.ofMinutes(30),
+                10,
+                new TenantProperties.RateLimit(2, Duration.ofMinutes(1))
+        );
+        tenantQuotaService = new TenantQuotaService(mangaRepository, properties);
+    }
+
+    @Test
+    public void whenReserveCapacityIsCalled_givenLibraryFull_shouldThrowException() {
+        // mock repository behaviour
+        given(mangaRepository.reserveEntries(1, 10)).willReturn(false);
+
+        // assert TenantQuotaExceededException thrown
+        assertThatThrownBy(() -> tenantQuotaService.reserveCapacity(1))
+                .isInstanceOf(TenantQuotaExceededException.class)
+                .hasMessage("The library of tenant 'default' is limited to 10 manga.");
+    }
+
+    @Test
+    public void whenRemainingCapacityIsCalled_shouldSubtractStoredManga() {
+        // mock repository behaviour
+        given(mangaRepository.countReservedEntries()).willReturn(7L);
+
+        // execute the method under test + assertions
+        assertThat(tenantQuotaService.remainingCapacity()).isEqualTo(3L);
+    }
+}
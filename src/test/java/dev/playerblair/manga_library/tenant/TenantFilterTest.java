@@ -0,0 +1,128 @@
+package dev.playerblair.manga_library.tenant;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class TenantFilterTest {
+
+    @Mock
+    private TenantRateLimiter rateLimiter;
+
+    private TenantFilter tenantFilter;
+
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    public void setUp() {
+        tenantFilter = new TenantFilter("X-Tenant-Id", Set.of(TenantContext.DEFAULT_TENANT, "tenant-a"), rateLimiter,
+                new ObjectMapper().registerModule(new JavaTimeModule()));
+        request = new MockHttpServletRequest("GET", "/api/manga");
+        response = new MockHttpServletResponse();
+    }
+
+    @Test
+    public void whenRequestHasTenantHeader_shouldBindTenantForTheRequest() throws Exception {
+        // setup test data
+        request.addHeader("X-Tenant-Id", "tenant-a");
+        AtomicReference<String> tenant = new AtomicReference<>();
+        FilterChain chain = (req, res) -> tenant.set(TenantContext.current());
+
+        // mock rate limiter behaviour
+        given(rateLimiter.tryAcquire("tenant-a")).willReturn(true);
+
+        // execute the method under test
+        tenantFilter.doFilter(request, response, chain);
+
+        // assertions
+        assertThat(tenant.get()).isEqualTo("tenant-a");
+        assertThat(TenantContext.current()).isEqualTo(TenantContext.DEFAULT_TENANT);
+        assertThat(response.getHeaders("Vary")).containsExactly("X-Tenant-Id", "Accept");
+    }
+
+    @Test
+    public void whenRequestHasNoTenantHeader_shouldUseDefaultTenant() throws Exception {
+        // setup test data
+        AtomicReference<String> tenant = new AtomicReference<>();
+        FilterChain chain = (req, res) -> tenant.set(TenantContext.current());
+
+        // mock rate limiter behaviour
+        given(rateLimiter.tryAcquire(TenantContext.DEFAULT_TENANT)).willReturn(true);
+
+        // execute the method under test
+        tenantFilter.doFilter(request, response, chain);
+
+        // assertions
+        assertThat(tenant.get()).isEqualTo(TenantContext.DEFAULT_TENANT);
+    }
+
+    @Test
+    public void whenTenantHeaderIsInvalid_shouldRejectRequest() throws Exception {
+        // setup test data
+        request.addHeader("X-Tenant-Id", "tenant:a");
+
+        // execute the method under test
+        tenantFilter.doFilter(request, response, (req, res) -> {
+            throw new AssertionError("chain must not be invoked");
+        });
+
+        // verify interactions + assertions
+        verify(rateLimiter, never()).tryAcquire(anyString());
+        assertThat(response.getStatus()).isEqualTo(400);
+    }
+
+    @Test
+    public void whenTenantIsNotAllowed_shouldRejectRequest() throws Exception {
+        // setup test data
+        request.addHeader("X-Tenant-Id", "tenant-b");
+
+        // execute the method under test
+        tenantFilter.doFilter(request, response, (req, res) -> {
+            throw new AssertionError("chain must not be invoked");
+        });
+
+        // verify interactions + assertions
+        verify(rateLimiter, never()).tryAcquire(anyString());
+        assertThat(response.getStatus()).isEqualTo(403);
+        assertThat(response.getContentAsString()).contains("Unknown tenant 'tenant-b'");
+    }
+
+    @Test
+    public void whenRateLimitIsExceeded_shouldRejectWithRetryAfter() throws Exception {
+        // setup test data
+        request.addHeader("X-Tenant-Id", "tenant-a");
+
+        // mock rate limiter behaviour
+        given(rateLimiter.tryAcquire("tenant-a")).willReturn(false);
+        given(rateLimiter.retryAfter("tenant-a")).willReturn(Duration.ofSeconds(12));
+
+        // execute the method under test
+        tenantFilter.doFilter(request, response, (req, res) -> {
+            throw new AssertionError("chain must not be invoked");
+        });
+
+        // assertions
+        assertThat(response.getStatus()).isEqualTo(429);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("12");
+        assertThat(response.getContentAsString()).contains("Too many requests for tenant 'tenant-a'");
+    }
+}
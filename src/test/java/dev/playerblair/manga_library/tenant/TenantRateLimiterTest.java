@@ -0,0 +1,52 @@
+package dev.playerblair.manga_library.tenant;
+
+import dev.playerblair.manga_library.config.TenantProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+public class TenantRateLimiterTest {
+
+    private Clock clock;
+
+    private TenantRateLimiter rateLimiter;
+
+    @BeforeEach
+    public void setUp() {
+        clock = mock(Clock.class);
+        rateLimiter = new TenantRateLimiter(new TenantProperties.RateLimit(2, Duration.ofMinutes(1)), clock);
+    }
+
+    @Test
+    public void whenTryAcquireIsCalled_givenLimitReached_shouldRejectUntilWindowEnds() {
+        // mock clock behaviour
+        given(clock.millis()).willReturn(0L, 0L, 0L, 20_000L, 60_000L);
+
+        // execute the method under test + assertions
+        assertThat(rateLimiter.tryAcquire("tenant-a")).isTrue();
+        assertThat(rateLimiter.tryAcquire("tenant-a")).isTrue();
+        assertThat(rateLimiter.tryAcquire("tenant-a")).isFalse();
+        assertThat(rateLimiter.retryAfter("tenant-a")).isEqualTo(Duration.ofSeconds(40));
+        assertThat(rateLimiter.tryAcquire("tenant-a")).isTrue();
+    }
+
+    @Test
+    public void whenTryAcquireIsCalled_shouldCountTenantsSeparately() {
+        // mock clock behaviour
+        given(clock.millis()).willReturn(0L);
+
+        // execute the method under test
+        rateLimiter.tryAcquire("tenant-a");
+        rateLimiter.tryAcquire("tenant-a");
+
+        // assertions
+        assertThat(rateLimiter.tryAcquire("tenant-a")).isFalse();
+        assertThat(rateLimiter.tryAcquire("tenant-b")).isTrue();
+    }
+}
@@ -0,0 +1,76 @@
+package dev.playerblair.manga_library.tenant;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+public class TenantStateMapTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    private Clock clock;
+
+    @BeforeEach
+    public void setUp() {
+        clock = mock(Clock.class);
+        given(clock.millis()).willAnswer(invocation -> now.get());
+    }
+
+    @Test
+    public void whenTenantIsIdle_shouldDropItOnNextWrite() {
+        // setup test data
+        TenantStateMap<String> states = new TenantStateMap<>(Duration.ofMinutes(1), value -> true, clock);
+        states.put("tenant-a", "a");
+        now.set(30_000);
+        states.put("tenant-b", "b");
+
+        // execute the method under test
+        now.set(70_000);
+        states.put("tenant-c", "c");
+
+        // assertions
+        assertThat(states.size()).isEqualTo(2);
+        assertThat(states.values()).containsExactlyInAnyOrder("b", "c");
+    }
+
+    @Test
+    public void whenTenantIsUsed_shouldKeepIt() {
+        // setup test data
+        TenantStateMap<String> states = new TenantStateMap<>(Duration.ofMinutes(1), value -> true, clock);
+        states.put("tenant-a", "a");
+        now.set(50_000);
+        states.get("tenant-a");
+
+        // execute the method under test
+        now.set(70_000);
+        states.put("tenant-b", "b");
+
+        // assertions
+        assertThat(states.values()).containsExactlyInAnyOrder("a", "b");
+    }
+
+    @Test
+    public void whenEntryIsStillNeeded_shouldKeepItPastIdleTimeout() {
+        // setup test data
+        TenantStateMap<AtomicInteger> states = new TenantStateMap<>(
+                Duration.ofMinutes(1), subscribers -> subscribers.get() == 0, clock);
+        states.computeIfAbsent("tenant-a", tenant -> new AtomicInteger(1));
+        states.computeIfAbsent("tenant-b", tenant -> new AtomicInteger());
+
+        // execute the method under test
+        now.set(70_000);
+        states.computeIfAbsent("tenant-c", tenant -> new AtomicInteger());
+
+        // assertions
+        assertThat(states.get("tenant-a")).hasValue(1);
+        assertThat(states.get("tenant-b")).isNull();
+    }
+}
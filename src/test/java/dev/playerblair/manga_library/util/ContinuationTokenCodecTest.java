@@ -0,0 +1,60 @@
+package dev.playerblair.manga_library.util;
+
+import dev.playerblair.manga_library.config.ContinuationTokenProperties;
+import dev.playerblair.manga_library.exception.InvalidContinuationTokenException;
+import dev.playerblair.manga_library.request.SearchContinuation;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class ContinuationTokenCodecTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T12:00:00Z");
+    private static final ContinuationTokenProperties PROPERTIES =
+            new ContinuationTokenProperties("test-secret-of-at-least-32-bytes", Duration.ofHours(1));
+
+    private final SearchContinuation continuation =
+            new SearchContinuation("Test Manga", 1, true, List.of(1L, 2L), SearchContinuation.Source.JIKAN);
+
+    @Test
+    public void whenTokenIsDecoded_givenIssuingTenant_shouldReturnContinuation() {
+        ContinuationTokenCodec codec = codecAt(NOW);
+
+        // execute the method under test
+        SearchContinuation decoded = codec.decode(codec.encode(continuation, "tenant-a"), "tenant-a");
+
+        // assertions
+        assertThat(decoded).isEqualTo(continuation);
+    }
+
+    @Test
+    public void whenTokenIsDecoded_givenOtherTenant_shouldThrowException() {
+        ContinuationTokenCodec codec = codecAt(NOW);
+        String token = codec.encode(continuation, "tenant-a");
+
+        // assert InvalidContinuationTokenException thrown
+        assertThatThrownBy(() -> codec.decode(token, "tenant-b"))
+                .isInstanceOf(InvalidContinuationTokenException.class);
+    }
+
+    @Test
+    public void whenTokenIsDecoded_afterItsTtl_shouldThrowException() {
+        String token = codecAt(NOW).encode(continuation, "tenant-a");
+
+        // assert InvalidContinuationTokenException thrown
+        assertThat(codecAt(NOW.plus(Duration.ofMinutes(59))).decode(token, "tenant-a")).isEqualTo(continuation);
+        assertThatThrownBy(() -> codecAt(NOW.plus(Duration.ofHours(1))).decode(token, "tenant-a"))
+                .isInstanceOf(InvalidContinuationTokenException.class);
+    }
+
+    private ContinuationTokenCodec codecAt(Instant now) {
+        return new ContinuationTokenCodec(PROPERTIES, Clock.fixed(now, ZoneOffset.UTC));
+    }
+}
@@ -0,0 +1,119 @@
+package dev.playerblair.manga_library.util;
+
+import dev.playerblair.manga_library.model.Genre;
+import dev.playerblair.manga_library.model.LabeledEnum;
+import dev.playerblair.manga_library.model.ProgressType;
+import dev.playerblair.manga_library.model.Status;
+import dev.playerblair.manga_library.model.Type;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class EnumLabelCodecTest {
+
+    @Test
+    public void storedCodes_shouldNeverChange() {
+        // assertions
+        assertThat(codes(Genre.values())).containsExactly(
+                Map.entry("ACTION", 0), Map.entry("ADVENTURE", 1), Map.entry("AVANT_GARDE", 2),
+                Map.entry("AWARD_WINNING", 3), Map.entry("BOYS_LOVE", 4), Map.entry("COMEDY", 5),
+                Map.entry("DRAMA", 6), Map.entry("FANTASY", 7), Map.entry("GIRLS_LOVE", 8),
+                Map.entry("GOURMET", 9), Map.entry("HORROR", 10), Map.entry("MYSTERY", 11),
+                Map.entry("ROMANCE", 12), Map.entry("SCI_FI", 13), Map.entry("SLICE_OF_LIFE", 14),
+                Map.entry("SPORTS", 15), Map.entry("SUPERNATURAL", 16), Map.entry("SUSPENSE", 17),
+                Map.entry("UNKNOWN", 18));
+        assertThat(codes(Type.values())).containsExactly(
+                Map.entry("MANGA", 0), Map.entry("MANHWA", 1), Map.entry("MANHUA", 2), Map.entry("ONESHOT", 3),
+                Map.entry("DOUJINSHI", 4), Map.entry("LIGHTNOVEL", 5), Map.entry("NOVEL", 6), Map.entry("UNKNOWN", 7));
+        assertThat(codes(Status.values())).containsExactly(
+                Map.entry("PUBLISHING", 0), Map.entry("FINISHED", 1), Map.entry("HIATUS", 2),
+                Map.entry("DISCONTINUED", 3), Map.entry("UPCOMING", 4), Map.entry("UNKNOWN", 5));
+        assertThat(codes(ProgressType.values())).containsExactly(
+                Map.entry("PLANNING", 0), Map.entry("READING", 1), Map.entry("FINISHED", 2),
+                Map.entry("PAUSED", 3), Map.entry("DROPPED", 4));
+    }
+
+    @Test
+    public void whenMaskIsDecoded_shouldUseStoredCodes() {
+        // execute the method under test
+        long mask = Genre.labels().mask(List.of(Genre.ROMANCE, Genre.SLICE_OF_LIFE));
+
+        // assertions
+        assertThat(mask).isEqualTo((1L << 12) | (1L << 14));
+        assertThat(Genre.labels().decodeMask(mask | (1L << 40), UnknownLabelPolicy.SKIP))
+                .containsExactly(Genre.ROMANCE, Genre.SLICE_OF_LIFE);
+    }
+
+    @Test
+    public void whenCodesAreReused_shouldRejectEnum() {
+        // assert IllegalStateException thrown
+        assertThatThrownBy(() -> EnumLabelCodec.of(Duplicate.class))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Duplicate.SECOND reuses code 1 of FIRST");
+    }
+
+    @Test
+    public void whenCodeDoesNotFitBitmask_shouldRejectEnum() {
+        // assert IllegalStateException thrown
+        assertThatThrownBy(() -> EnumLabelCodec.of(OutOfRange.class))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("OutOfRange.WIDE has code 64, codes must be between 0 and 63");
+    }
+
+    private static Map<String, Integer> codes(LabeledEnum[] constants) {
+        Map<String, Integer> codes = new LinkedHashMap<>();
+        Arrays.stream(constants).forEach(constant -> codes.put(((Enum<?>) constant).name(), constant.getCode()));
+        return codes;
+    }
+
+    private enum Duplicate implements LabeledEnum {
+        FIRST(1, "First"),
+        SECOND(1, "Second");
+
+        private final int code;
+        private final String label;
+
+        Duplicate(int code, String label) {
+            this.code = code;
+            this.label = label;
+        }
+
+        @Override
+        public int getCode() {
+            return code;
+        }
+
+        @Override
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    private enum OutOfRange implements LabeledEnum {
+        WIDE(64, "Wide");
+
+        private final int code;
+        private final String label;
+
+        OutOfRange(int code, String label) {
+            this.code = code;
+            this.label = label;
+        }
+
+        @Override
+        public int getCode() {
+            return code;
+        }
+
+        @Override
+        public String getLabel() {
+            return label;
+        }
+    }
+}
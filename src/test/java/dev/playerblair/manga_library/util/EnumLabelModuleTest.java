@@ -0,0 +1,66 @@
+package dev.playerblair.manga_library.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import dev.playerblair.manga_library.model.Genre;
+import dev.playerblair.manga_library.model.ProgressType;
+import dev.playerblair.manga_library.model.Status;
+import dev.playerblair.manga_library.model.Type;
+import dev.playerblair.manga_library.response.MangaResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class EnumLabelModuleTest {
+
+    private static final String MANGA = """
+            {"mal_id": 1, "title": "Test Manga 1", "type": "Manhwa", "status": "Not yet published",
+             "genres": [{"mal_id": 1, "type": "manga", "name": "Action"},
+                        {"mal_id": 99, "type": "manga", "name": "Isekai"}]}""";
+
+    @Test
+    public void whenPolicyIsUnknown_shouldMapUnknownLabelsToUnknown() throws Exception {
+        // execute the method under test
+        MangaResponse manga = objectMapper(UnknownLabelPolicy.UNKNOWN).readValue(MANGA, MangaResponse.class);
+
+        // assertions
+        assertThat(manga.type()).isEqualTo(Type.MANHWA);
+        assertThat(manga.status()).isEqualTo(Status.UNKNOWN);
+        assertThat(manga.genres()).extracting(MangaResponse.GenreWrapper::name).containsExactly("Action", "Unknown");
+    }
+
+    @Test
+    public void whenPolicyIsSkip_shouldDropUnknownLabels() throws Exception {
+        // execute the method under test
+        MangaResponse manga = objectMapper(UnknownLabelPolicy.SKIP).readValue(MANGA, MangaResponse.class);
+
+        // assertions
+        assertThat(manga.status()).isNull();
+        assertThat(manga.genres()).extracting(MangaResponse.GenreWrapper::name).containsExactly("Action");
+    }
+
+    @Test
+    public void whenPolicyIsFail_shouldRejectUnknownLabels() {
+        // assert InvalidFormatException thrown
+        assertThatThrownBy(() -> objectMapper(UnknownLabelPolicy.FAIL).readValue(MANGA, MangaResponse.class))
+                .isInstanceOf(InvalidFormatException.class)
+                .hasMessageContaining("Unknown label: Not yet published");
+    }
+
+    @Test
+    public void whenDecodingStoredNames_shouldApplyPolicy() {
+        // execute the method under test + assertions
+        assertThat(Genre.labels().decodeName("SLICE_OF_LIFE", UnknownLabelPolicy.FAIL)).isEqualTo(Genre.SLICE_OF_LIFE);
+        assertThat(Genre.labels().decodeName("ISEKAI", UnknownLabelPolicy.UNKNOWN)).isEqualTo(Genre.UNKNOWN);
+        assertThat(Genre.labels().decodeName("ISEKAI", UnknownLabelPolicy.SKIP)).isNull();
+        assertThatThrownBy(() -> ProgressType.labels().decodeName("REREADING", UnknownLabelPolicy.UNKNOWN))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unknown name: REREADING");
+    }
+
+    private ObjectMapper objectMapper(UnknownLabelPolicy policy) {
+        return Jackson2ObjectMapperBuilder.json().build().registerModule(new EnumLabelModule(policy));
+    }
+}
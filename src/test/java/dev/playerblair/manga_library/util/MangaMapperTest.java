@@ -0,0 +1,60 @@
+package dev.playerblair.manga_library.util;
+
+import dev.playerblair.manga_library.model.Author;
+import dev.playerblair.manga_library.model.Genre;
+import dev.playerblair.manga_library.model.Manga;
+import dev.playerblair.manga_library.model.Status;
+import dev.playerblair.manga_library.model.Type;
+import dev.playerblair.manga_library.response.MangaResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class MangaMapperTest {
+
+    // catalog entries keep the labels they were imported with, so they can hold labels this build does not know
+    private static final MangaResponse MANGA = new MangaResponse(
+            1L,
+            "Test Manga 1",
+            Type.MANGA,
+            100,
+            10,
+            Status.FINISHED,
+            "",
+            List.of(new Author("Test Author 1", "www.example.com/people/1")),
+            List.of(
+                    new MangaResponse.GenreWrapper("Action"),
+                    new MangaResponse.GenreWrapper("Isekai"),
+                    new MangaResponse.GenreWrapper("Cooking")
+            ),
+            "www.example.com/manga/1"
+    );
+
+    @Test
+    public void whenPolicyIsUnknown_shouldMapUnknownGenresToOneUnknown() {
+        // execute the method under test
+        Manga manga = MangaMapper.toManga(MANGA, UnknownLabelPolicy.UNKNOWN);
+
+        // assertions
+        assertThat(manga.genres()).containsExactly(Genre.ACTION, Genre.UNKNOWN);
+    }
+
+    @Test
+    public void whenPolicyIsSkip_shouldDropUnknownGenres() {
+        // execute the method under test
+        Manga manga = MangaMapper.toManga(MANGA, UnknownLabelPolicy.SKIP);
+
+        // assertions
+        assertThat(manga.genres()).containsExactly(Genre.ACTION);
+    }
+
+    @Test
+    public void whenPolicyIsFail_shouldRejectUnknownGenres() {
+        // assert IllegalArgumentException thrown
+        assertThatThrownBy(() -> MangaMapper.toManga(MANGA, UnknownLabelPolicy.FAIL))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}